@@ -44,4 +44,21 @@ allprojects {
         configFile = rootProject.file("resources/checkstyle-config.xml")
         configDirectory.set(rootProject.file("resources"))
     }
+
+    // sizes of the benchmarks, e.g. -Dedc.benchmark.assets=1000000
+    tasks.withType<Test>().configureEach {
+        System.getProperties().stringPropertyNames().filter { it.startsWith("edc.benchmark.") }
+            .forEach { systemProperty(it, System.getProperty(it)) }
+    }
+
+    // every Cosmos PostgreSQL test class runs in its own schema (see CosmosPostgresTestExtension), so the test classes
+    // can run concurrently, in several forks and in several threads of a fork
+    if (System.getProperty("includeTags", "").contains("PostgresCosmosTest")) {
+        tasks.withType<Test>().configureEach {
+            maxParallelForks = (Runtime.getRuntime().availableProcessors() / 2).coerceAtLeast(1)
+            systemProperty("junit.jupiter.execution.parallel.enabled", "true")
+            systemProperty("junit.jupiter.execution.parallel.mode.default", "same_thread")
+            systemProperty("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+        }
+    }
 }
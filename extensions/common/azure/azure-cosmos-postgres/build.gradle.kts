@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(libs.edc.spi.core)
+    api(libs.edc.spi.transaction.datasource)
+    api(libs.edc.sql.lib)
+
+    implementation(libs.hikaricp)
+    api(libs.micrometer.core)
+    implementation(libs.postgres)
+
+    testImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":extensions:common:azure:azure-test")))
+}
+
+
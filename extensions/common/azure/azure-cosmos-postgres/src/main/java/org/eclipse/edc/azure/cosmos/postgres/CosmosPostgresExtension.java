@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.azure.cosmos.postgres.instrumentation.StatementInstrumentation;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQueryRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Provides the services shared by the store extensions targeting Azure Cosmos DB for PostgreSQL.
+ */
+@Extension(value = CosmosPostgresExtension.NAME)
+public class CosmosPostgresExtension implements ServiceExtension {
+
+    public static final String NAME = "Azure Cosmos DB for PostgreSQL";
+
+    @Setting(description = "Enables the per-statement metrics of the Cosmos stores", defaultValue = "true")
+    public static final String INSTRUMENTATION_ENABLED_SETTING = "edc.cosmos.sql.instrumentation.enabled";
+
+    @Setting(description = "Milliseconds above which a statement of a Cosmos store is logged as slow", defaultValue = "500")
+    public static final String SLOW_STATEMENT_THRESHOLD_SETTING = "edc.cosmos.sql.instrumentation.slow-threshold";
+
+    @Setting(description = "Maximum number of distinct statement templates per store that are reported with their own statement tag, the others are reported as 'other'", defaultValue = "200")
+    public static final String MAX_STATEMENTS_SETTING = "edc.cosmos.sql.instrumentation.max-statements";
+
+    @Setting(description = "Enables capturing the plan of slow read-only statements with EXPLAIN, which does not execute them", defaultValue = "false")
+    public static final String EXPLAIN_ENABLED_SETTING = "edc.cosmos.sql.instrumentation.explain.enabled";
+
+    @Setting(description = "Captures the plans with EXPLAIN (ANALYZE, BUFFERS) instead, which executes the slow statement a second time, " +
+            "on the connection and in the transaction of the caller, adding its latency and load to the request. Prefer auto_explain on the server", defaultValue = "false")
+    public static final String EXPLAIN_ANALYZE_SETTING = "edc.cosmos.sql.instrumentation.explain.analyze";
+
+    @Setting(description = "Milliseconds above which the plan of a read-only statement is captured", defaultValue = "2000")
+    public static final String EXPLAIN_THRESHOLD_SETTING = "edc.cosmos.sql.instrumentation.explain.threshold";
+
+    @Setting(description = "Minimum number of seconds between two plans captured for the same statement template", defaultValue = "300")
+    public static final String EXPLAIN_INTERVAL_SETTING = "edc.cosmos.sql.instrumentation.explain.interval";
+
+    private static final long DEFAULT_SLOW_STATEMENT_THRESHOLD_MILLIS = 500;
+    private static final int DEFAULT_MAX_STATEMENTS = 200;
+    private static final long DEFAULT_EXPLAIN_THRESHOLD_MILLIS = 2000;
+    private static final long DEFAULT_EXPLAIN_INTERVAL_SECONDS = 300;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public StreamingQueryRegistry streamingQueryRegistry() {
+        return new StreamingQueryRegistry();
+    }
+
+    @Provider
+    public StatementInstrumentation statementInstrumentation(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var explainThreshold = config.getBoolean(EXPLAIN_ENABLED_SETTING, false)
+                ? Duration.ofMillis(config.getLong(EXPLAIN_THRESHOLD_SETTING, DEFAULT_EXPLAIN_THRESHOLD_MILLIS))
+                : null;
+        return new StatementInstrumentation(config.getBoolean(INSTRUMENTATION_ENABLED_SETTING, true),
+                Duration.ofMillis(config.getLong(SLOW_STATEMENT_THRESHOLD_SETTING, DEFAULT_SLOW_STATEMENT_THRESHOLD_MILLIS)),
+                explainThreshold, config.getBoolean(EXPLAIN_ANALYZE_SETTING, false),
+                Duration.ofSeconds(config.getLong(EXPLAIN_INTERVAL_SETTING, DEFAULT_EXPLAIN_INTERVAL_SECONDS)),
+                config.getInteger(MAX_STATEMENTS_SETTING, DEFAULT_MAX_STATEMENTS),
+                meterRegistry != null ? meterRegistry : Metrics.globalRegistry, context.getMonitor(), clock);
+    }
+}
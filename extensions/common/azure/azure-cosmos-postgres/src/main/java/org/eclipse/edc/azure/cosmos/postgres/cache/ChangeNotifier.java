@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.cache;
+
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.SQLException;
+
+/**
+ * Notifies the change of an entity on a PostgreSQL notification channel from the session that writes it, for the
+ * {@link NotificationListener}s of all runtimes.
+ * <p>
+ * Triggers of a table that is distributed with Citus run on the workers, whose notifications never reach the runtimes,
+ * which listen on the coordinator. The notification is sent in the current transaction, if any, so it is delivered
+ * once the change is committed and not at all if it is rolled back.
+ */
+public class ChangeNotifier {
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final QueryExecutor queryExecutor;
+    private final String channel;
+
+    public ChangeNotifier(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                          QueryExecutor queryExecutor, String channel) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.channel = channel;
+    }
+
+    /**
+     * Notifies the change of the entity with the given id.
+     */
+    public void notifyChanged(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = dataSourceRegistry.resolve(dataSourceName).getConnection()) {
+                queryExecutor.single(connection, false, rs -> true, "SELECT pg_notify(?, ?)", channel, id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded cache of deserialized entities by id, which evicts the least recently used entity once it is full.
+ * <p>
+ * The cache does not know when an entity changes: it has to be invalidated by whoever learns about a change, e.g. a
+ * {@link NotificationListener}. An entity that is invalidated while it is being loaded is not cached, so that a load
+ * that read the row before the change cannot overwrite the invalidation. Entries expire after a time to live, which
+ * bounds the staleness when an invalidation is lost. Entities are handed out as copies, so that callers cannot change
+ * the cached instance.
+ */
+public class EntityCache<T> {
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final UnaryOperator<T> copy;
+    private final Clock clock;
+    private final Map<String, Entry<T>> entries;
+    private final Map<String, Object> loading = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    /**
+     * Creates the cache of one store.
+     *
+     * @param store      the name of the store, used as tag of the metrics
+     * @param maxSize    the maximum number of cached entities, 0 disables the cache
+     * @param timeToLive the time after which a cached entity is loaded again
+     * @param copy       copies an entity
+     */
+    public EntityCache(String store, int maxSize, Duration timeToLive, UnaryOperator<T> copy, Clock clock, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.copy = copy;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > EntityCache.this.maxSize;
+            }
+        };
+
+        hits = Counter.builder("edc.cosmos.store.cache.requests").description("Cache lookups by result").tags("store", store, "result", "hit").register(meterRegistry);
+        misses = Counter.builder("edc.cosmos.store.cache.requests").description("Cache lookups by result").tags("store", store, "result", "miss").register(meterRegistry);
+        invalidations = Counter.builder("edc.cosmos.store.cache.invalidations").description("Invalidated cache entries").tags("store", store).register(meterRegistry);
+        Gauge.builder("edc.cosmos.store.cache.size", this, EntityCache::size).description("Number of cached entities").tags("store", store).register(meterRegistry);
+    }
+
+    /**
+     * Returns an entity from the cache, or loads it if it is not cached or expired.
+     *
+     * @param id     the id of the entity
+     * @param loader loads the entity from the store
+     * @return a copy of the entity, or null if it does not exist
+     */
+    public @Nullable T get(String id, Function<String, T> loader) {
+        if (maxSize == 0) {
+            return loader.apply(id);
+        }
+
+        var token = new Object();
+        synchronized (this) {
+            var entry = entries.get(id);
+            if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+                hits.increment();
+                return copy.apply(entry.entity());
+            }
+            loading.put(id, token);
+        }
+
+        misses.increment();
+        var entity = loader.apply(id);
+        synchronized (this) {
+            // the load is discarded if the entity was invalidated or loaded again in the meantime
+            if (loading.remove(id, token) && entity != null) {
+                entries.put(id, new Entry<>(copy.apply(entity), clock.instant().plus(timeToLive)));
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Removes an entity from the cache and discards its loads that are in progress.
+     */
+    public synchronized void invalidate(String id) {
+        loading.remove(id);
+        if (entries.remove(id) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Removes all entities, e.g. when invalidations may have been missed.
+     */
+    public synchronized void invalidateAll() {
+        loading.clear();
+        invalidations.increment(entries.size());
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<T>(T entity, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.cache;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.postgresql.PGConnection;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+
+/**
+ * Listens on a PostgreSQL notification channel and hands the payload of every notification to a consumer, e.g. the id
+ * of a changed entity to {@link EntityCache#invalidate(String)}.
+ * <p>
+ * The listener holds a connection of the datasource for as long as it runs. Notifications are only delivered to open
+ * connections, so whenever the listener (re)connects, {@code onConnect} is called, which should drop everything that
+ * may have changed while no connection was listening.
+ */
+public class NotificationListener implements Runnable {
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final String channel;
+    private final Consumer<String> onNotification;
+    private final Runnable onConnect;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final Monitor monitor;
+    private volatile boolean active = true;
+
+    public NotificationListener(DataSourceRegistry dataSourceRegistry, String dataSourceName, String channel, Consumer<String> onNotification,
+                                Runnable onConnect, Duration pollTimeout, Duration reconnectDelay, Monitor monitor) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.channel = channel;
+        this.onNotification = onNotification;
+        this.onConnect = onConnect;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void run() {
+        while (active && !Thread.currentThread().isInterrupted()) {
+            try {
+                listen();
+            } catch (SQLException e) {
+                monitor.warning(format("Listening on channel %s failed, reconnecting in %s: %s", channel, reconnectDelay, e.getMessage()));
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops listening after the current poll.
+     */
+    public void stop() {
+        active = false;
+    }
+
+    private void listen() throws SQLException {
+        try (var connection = dataSourceRegistry.resolve(dataSourceName).getConnection();
+             var statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("LISTEN " + channel);
+            onConnect.run();
+
+            var pgConnection = connection.unwrap(PGConnection.class);
+            while (active && !Thread.currentThread().isInterrupted()) {
+                var notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                if (notifications != null) {
+                    for (var notification : notifications) {
+                        onNotification.accept(notification.getParameter());
+                    }
+                }
+            }
+            statement.execute("UNLISTEN " + channel);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.azure.cosmos.postgres.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers the datasources configured under {@code edc.cosmos.datasource.<name>} in the {@link DataSourceRegistry}.
+ * A datasource consists of the primary coordinator and optionally of read replicas. The name {@code <name>} serves every
+ * connection from the primary, the name {@code <name>-read-only} serves connections from the replicas as long as their
+ * replication lag is acceptable, for the read-only operations opting into it.
+ */
+@Extension(value = CosmosDataSourceExtension.NAME)
+public class CosmosDataSourceExtension implements ServiceExtension {
+
+    public static final String NAME = "Cosmos DataSource";
+
+    public static final String CONFIG_PREFIX = "edc.cosmos.datasource";
+
+    @Setting(description = "JDBC URL of the primary coordinator of the datasource <name>")
+    public static final String URL_SETTING = CONFIG_PREFIX + ".<name>.url";
+
+    @Setting(description = "JDBC URL of the read replica <replica> of the datasource <name>")
+    public static final String REPLICA_URL_SETTING = CONFIG_PREFIX + ".<name>.replicas.<replica>.url";
+
+    @Setting(description = "Replication lag in milliseconds above which a replica does not serve reads anymore", defaultValue = "5000")
+    public static final String MAX_LAG_SETTING = CONFIG_PREFIX + ".<name>.replica.max-lag";
+
+    @Setting(description = "Interval in milliseconds in which the replication lag of the replicas is checked", defaultValue = "5000")
+    public static final String HEALTH_CHECK_INTERVAL_SETTING = CONFIG_PREFIX + ".<name>.replica.health-check-interval";
+
+    @Setting(description = "Maximum number of connections of each pool of the datasource <name>", defaultValue = "10")
+    public static final String POOL_MAX_SIZE_SETTING = CONFIG_PREFIX + ".<name>.pool.max-size";
+
+    @Setting(description = "Minimum number of idle connections of each pool of the datasource <name>, defaults to the maximum size")
+    public static final String POOL_MIN_IDLE_SETTING = CONFIG_PREFIX + ".<name>.pool.min-idle";
+
+    @Setting(description = "Milliseconds a caller waits for a connection before the request times out", defaultValue = "30000")
+    public static final String POOL_CONNECTION_TIMEOUT_SETTING = CONFIG_PREFIX + ".<name>.pool.connection-timeout";
+
+    @Setting(description = "Milliseconds after which a connection above the minimum idle count is closed when unused", defaultValue = "600000")
+    public static final String POOL_IDLE_TIMEOUT_SETTING = CONFIG_PREFIX + ".<name>.pool.idle-timeout";
+
+    @Setting(description = "Milliseconds after which a connection is replaced", defaultValue = "1800000")
+    public static final String POOL_MAX_LIFETIME_SETTING = CONFIG_PREFIX + ".<name>.pool.max-lifetime";
+
+    @Setting(description = "Milliseconds in which idle connections are pinged to keep them and their TLS session alive", defaultValue = "120000")
+    public static final String POOL_KEEPALIVE_TIME_SETTING = CONFIG_PREFIX + ".<name>.pool.keepalive-time";
+
+    @Setting(description = "Milliseconds within which a connection must pass its validation when it is taken from the pool", defaultValue = "5000")
+    public static final String POOL_VALIDATION_TIMEOUT_SETTING = CONFIG_PREFIX + ".<name>.pool.validation-timeout";
+
+    @Setting(description = "Number of executions after which a statement is prepared on the server", defaultValue = "5")
+    public static final String PREPARE_THRESHOLD_SETTING = CONFIG_PREFIX + ".<name>.statement-cache.prepare-threshold";
+
+    @Setting(description = "Number of prepared statements cached per connection", defaultValue = "256")
+    public static final String STATEMENT_CACHE_QUERIES_SETTING = CONFIG_PREFIX + ".<name>.statement-cache.queries";
+
+    @Setting(description = "Size in MiB of the prepared statement cache per connection", defaultValue = "5")
+    public static final String STATEMENT_CACHE_SIZE_SETTING = CONFIG_PREFIX + ".<name>.statement-cache.size-mib";
+
+    @Setting(description = "Whether the driver sends JDBC batches of inserts as multi-row inserts", defaultValue = "true")
+    public static final String REWRITE_BATCHED_INSERTS_SETTING = CONFIG_PREFIX + ".<name>.rewrite-batched-inserts";
+
+    static final long DEFAULT_MAX_LAG_MILLIS = 5_000;
+    static final long DEFAULT_HEALTH_CHECK_INTERVAL_MILLIS = 5_000;
+    static final String READ_ONLY_SUFFIX = "-read-only";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private Monitor monitor;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final List<ScheduledLagCheck> lagChecks = new ArrayList<>();
+    private ScheduledExecutorService healthCheckExecutor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * Returns the name of the datasource serving the read-only operations of a datasource from its replicas.
+     */
+    public static String readOnlyName(String dataSourceName) {
+        return dataSourceName + READ_ONLY_SUFFIX;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var registry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+        var dataSourceFactory = new CosmosDataSourceFactory(registry);
+        context.getConfig(CONFIG_PREFIX).partition().forEach(config -> register(config, dataSourceFactory, registry));
+    }
+
+    @Override
+    public void start() {
+        if (lagChecks.isEmpty()) {
+            return;
+        }
+        healthCheckExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "cosmos-replica-lag-monitor");
+        lagChecks.forEach(check -> healthCheckExecutor.scheduleWithFixedDelay(check.monitor(), 0, check.intervalMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void shutdown() {
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+        }
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private void register(Config config, CosmosDataSourceFactory dataSourceFactory, MeterRegistry registry) {
+        var name = config.currentNode();
+        var primary = new DataSourcePool(name, DataSourcePool.PRIMARY, createPool(dataSourceFactory, name, DataSourcePool.PRIMARY, config), registry);
+        var replicas = config.getConfig("replicas").partition()
+                .map(replicaConfig -> new DataSourcePool(name, replicaConfig.currentNode(),
+                        createPool(dataSourceFactory, name, replicaConfig.currentNode(), replicaConfig), registry))
+                .toList();
+
+        dataSourceRegistry.register(name, new ReplicaRoutingDataSource(name, primary, List.of(), registry));
+        // registered even without replicas, so that the readers opting into it do not depend on the replica setup
+        var dataSource = new ReplicaRoutingDataSource(name, primary, replicas, registry);
+        dataSourceRegistry.register(readOnlyName(name), dataSource);
+
+        if (!replicas.isEmpty()) {
+            var maxLag = config.getLong("replica.max-lag", DEFAULT_MAX_LAG_MILLIS);
+            var interval = config.getLong("replica.health-check-interval", DEFAULT_HEALTH_CHECK_INTERVAL_MILLIS);
+            lagChecks.add(new ScheduledLagCheck(new ReplicaLagMonitor(name, dataSource, maxLag, monitor), interval));
+        }
+        monitor.debug("Registered datasource %s with %d read replica(s)".formatted(name, replicas.size()));
+    }
+
+    private HikariDataSource createPool(CosmosDataSourceFactory dataSourceFactory, String dataSourceName, String poolName, Config config) {
+        var pool = dataSourceFactory.create(dataSourceName + "-" + poolName, config);
+        pools.add(pool);
+        return pool;
+    }
+
+    private record ScheduledLagCheck(ReplicaLagMonitor monitor, long intervalMillis) {
+    }
+}
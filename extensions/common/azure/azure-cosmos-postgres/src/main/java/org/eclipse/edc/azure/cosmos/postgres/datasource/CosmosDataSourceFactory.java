@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.postgresql.ds.PGSimpleDataSource;
+
+/**
+ * Creates the connection pool of a primary or a replica from its configuration. Opening a connection to a Cosmos DB
+ * for PostgreSQL coordinator includes a TLS handshake across the network and costs tens of milliseconds, so the
+ * physical connections, and with them their TLS sessions and server-side prepared statements, are kept in a pool and
+ * reused. The pool publishes the {@code hikaricp.*} metrics, i.e. active and idle connections, threads waiting for a
+ * connection, acquisition time and timeouts, tagged with {@code pool=<datasource>-<pool>}.
+ */
+public class CosmosDataSourceFactory {
+
+    static final String URL = "url";
+    static final String USER = "user";
+    static final String PASSWORD = "password";
+    static final String MAX_SIZE = "pool.max-size";
+    static final String MIN_IDLE = "pool.min-idle";
+    static final String CONNECTION_TIMEOUT = "pool.connection-timeout";
+    static final String IDLE_TIMEOUT = "pool.idle-timeout";
+    static final String MAX_LIFETIME = "pool.max-lifetime";
+    static final String KEEPALIVE_TIME = "pool.keepalive-time";
+    static final String VALIDATION_TIMEOUT = "pool.validation-timeout";
+    static final String PREPARE_THRESHOLD = "statement-cache.prepare-threshold";
+    static final String STATEMENT_CACHE_QUERIES = "statement-cache.queries";
+    static final String STATEMENT_CACHE_SIZE_MIB = "statement-cache.size-mib";
+    static final String REWRITE_BATCHED_INSERTS = "rewrite-batched-inserts";
+
+    static final int DEFAULT_MAX_SIZE = 10;
+    static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 30_000;
+    static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 600_000;
+    static final long DEFAULT_MAX_LIFETIME_MILLIS = 1_800_000;
+    // below the 4 minutes after which the Azure load balancers silently drop idle TCP connections
+    static final long DEFAULT_KEEPALIVE_TIME_MILLIS = 120_000;
+    static final long DEFAULT_VALIDATION_TIMEOUT_MILLIS = 5_000;
+    static final int DEFAULT_PREPARE_THRESHOLD = 5;
+    static final int DEFAULT_STATEMENT_CACHE_QUERIES = 256;
+    static final int DEFAULT_STATEMENT_CACHE_SIZE_MIB = 5;
+
+    private final MeterRegistry meterRegistry;
+
+    public CosmosDataSourceFactory(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Creates the pool. It does not connect eagerly, so that an unavailable replica does not prevent the runtime from
+     * starting.
+     *
+     * @param poolName the name of the pool in logs and metrics
+     * @param config the configuration of the primary or of the replica
+     * @return the pool, which must be closed on shutdown
+     */
+    public HikariDataSource create(String poolName, Config config) {
+        var dataSource = new PGSimpleDataSource();
+        dataSource.setURL(config.getString(URL));
+        dataSource.setUser(config.getString(USER, null));
+        dataSource.setPassword(config.getString(PASSWORD, null));
+        dataSource.setPrepareThreshold(config.getInteger(PREPARE_THRESHOLD, DEFAULT_PREPARE_THRESHOLD));
+        dataSource.setPreparedStatementCacheQueries(config.getInteger(STATEMENT_CACHE_QUERIES, DEFAULT_STATEMENT_CACHE_QUERIES));
+        dataSource.setPreparedStatementCacheSizeMiB(config.getInteger(STATEMENT_CACHE_SIZE_MIB, DEFAULT_STATEMENT_CACHE_SIZE_MIB));
+        // lets the driver send a JDBC batch of inserts as multi-row inserts
+        dataSource.setReWriteBatchedInserts(config.getBoolean(REWRITE_BATCHED_INSERTS, true));
+        dataSource.setTcpKeepAlive(true);
+
+        var maxSize = config.getInteger(MAX_SIZE, DEFAULT_MAX_SIZE);
+        var hikari = new HikariConfig();
+        hikari.setPoolName(poolName);
+        hikari.setDataSource(dataSource);
+        hikari.setMaximumPoolSize(maxSize);
+        hikari.setMinimumIdle(config.getInteger(MIN_IDLE, maxSize));
+        hikari.setConnectionTimeout(config.getLong(CONNECTION_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT_MILLIS));
+        hikari.setIdleTimeout(config.getLong(IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT_MILLIS));
+        hikari.setMaxLifetime(config.getLong(MAX_LIFETIME, DEFAULT_MAX_LIFETIME_MILLIS));
+        hikari.setKeepaliveTime(config.getLong(KEEPALIVE_TIME, DEFAULT_KEEPALIVE_TIME_MILLIS));
+        // connections are validated with Connection.isValid() when they are taken from the pool
+        hikari.setValidationTimeout(config.getLong(VALIDATION_TIMEOUT, DEFAULT_VALIDATION_TIMEOUT_MILLIS));
+        hikari.setInitializationFailTimeout(-1);
+        hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(hikari);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+/**
+ * One of the pools behind a {@link ReplicaRoutingDataSource}, either the primary coordinator or a read replica, together
+ * with its health state and metrics.
+ */
+public class DataSourcePool {
+
+    public static final String PRIMARY = "primary";
+
+    private final String name;
+    private final DataSource dataSource;
+    private final Counter acquired;
+    private final Counter failed;
+    private volatile boolean healthy;
+    private volatile long lagMillis;
+
+    public DataSourcePool(String dataSourceName, String name, DataSource dataSource, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.dataSource = dataSource;
+        // the primary is always considered healthy, replicas only after their first lag check
+        this.healthy = PRIMARY.equals(name);
+
+        acquired = Counter.builder("edc.cosmos.datasource.connections")
+                .description("Connections handed out by the pool")
+                .tags("datasource", dataSourceName, "pool", name, "outcome", "acquired")
+                .register(meterRegistry);
+        failed = Counter.builder("edc.cosmos.datasource.connections")
+                .description("Connections handed out by the pool")
+                .tags("datasource", dataSourceName, "pool", name, "outcome", "failed")
+                .register(meterRegistry);
+        Gauge.builder("edc.cosmos.datasource.replication.lag", this, DataSourcePool::lagMillis)
+                .description("Replication lag of the pool in milliseconds")
+                .tags("datasource", dataSourceName, "pool", name)
+                .register(meterRegistry);
+        Gauge.builder("edc.cosmos.datasource.healthy", this, pool -> pool.isHealthy() ? 1 : 0)
+                .description("Whether the pool accepts connections")
+                .tags("datasource", dataSourceName, "pool", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    public Connection getConnection() throws SQLException {
+        try {
+            var connection = dataSource.getConnection();
+            acquired.increment();
+            return connection;
+        } catch (SQLException e) {
+            failed.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Records the result of a lag check.
+     *
+     * @param lagMillis the replication lag
+     * @param maxLagMillis the lag above which the pool does not serve reads anymore
+     * @return true if the health state changed
+     */
+    boolean updateLag(long lagMillis, long maxLagMillis) {
+        this.lagMillis = lagMillis;
+        return setHealthy(lagMillis <= maxLagMillis);
+    }
+
+    /**
+     * Takes the pool out of the rotation until the next successful lag check.
+     *
+     * @return true if the health state changed
+     */
+    boolean markUnavailable() {
+        return setHealthy(false);
+    }
+
+    private boolean setHealthy(boolean healthy) {
+        var changed = this.healthy != healthy;
+        this.healthy = healthy;
+        return changed;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.datasource;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.sql.SQLException;
+
+/**
+ * Periodically measures the replication lag of the replicas of a {@link ReplicaRoutingDataSource} and takes replicas
+ * that lag behind by more than the configured maximum, or that cannot be reached, out of the rotation.
+ */
+public class ReplicaLagMonitor implements Runnable {
+
+    /**
+     * A replica that has replayed everything it received is up-to-date, even if the primary did not commit anything
+     * for a while, otherwise the lag is the age of the last replayed transaction.
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE((EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint, 0)
+            END""";
+
+    private final String dataSourceName;
+    private final ReplicaRoutingDataSource dataSource;
+    private final long maxLagMillis;
+    private final Monitor monitor;
+
+    public ReplicaLagMonitor(String dataSourceName, ReplicaRoutingDataSource dataSource, long maxLagMillis, Monitor monitor) {
+        this.dataSourceName = dataSourceName;
+        this.dataSource = dataSource;
+        this.maxLagMillis = maxLagMillis;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void run() {
+        dataSource.replicas().forEach(this::check);
+    }
+
+    private void check(DataSourcePool replica) {
+        try (var connection = replica.dataSource().getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            var lag = resultSet.getLong(1);
+            if (replica.updateLag(lag, maxLagMillis)) {
+                if (replica.isHealthy()) {
+                    monitor.info("Replica %s of datasource %s serves reads (lag: %d ms)".formatted(replica.name(), dataSourceName, lag));
+                } else {
+                    monitor.warning("Replica %s of datasource %s lags behind by %d ms, reads fall back to the primary".formatted(replica.name(), dataSourceName, lag));
+                }
+            }
+        } catch (SQLException e) {
+            if (replica.markUnavailable()) {
+                monitor.warning("Replica %s of datasource %s is not reachable, reads fall back to the primary".formatted(replica.name(), dataSourceName), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * {@link DataSource} for read-only operations, which serves connections from the healthy read replicas in a round-robin
+ * fashion. If no replica is healthy or a replica refuses a connection, the connection is served by the primary.
+ * <p>
+ * The routing is explicit: a caller opts into it by using the read-only datasource name, see
+ * {@link CosmosDataSourceExtension#readOnlyName(String)}, and must not write through it.
+ */
+public class ReplicaRoutingDataSource implements DataSource {
+
+    private final DataSourcePool primary;
+    private final List<DataSourcePool> replicas;
+    private final Counter fallbacks;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(String name, DataSourcePool primary, List<DataSourcePool> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        fallbacks = Counter.builder("edc.cosmos.datasource.replica.fallbacks")
+                .description("Read-only operations served by the primary because no replica was available")
+                .tags("datasource", name)
+                .register(meterRegistry);
+    }
+
+    public DataSourcePool primary() {
+        return primary;
+    }
+
+    public List<DataSourcePool> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!replicas.isEmpty()) {
+            var connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+            fallbacks.increment();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.dataSource().getConnection(username, password);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.dataSource().getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.dataSource().setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.dataSource().setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.dataSource().getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.dataSource().getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        return primary.dataSource().unwrap(type);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) throws SQLException {
+        return type.isInstance(this) || primary.dataSource().isWrapperFor(type);
+    }
+
+    private @Nullable Connection replicaConnection() {
+        var size = replicas.size();
+        var start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (var i = 0; i < size; i++) {
+            var replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    replica.markUnavailable();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.encoding;
+
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Describes how the JSON columns of a table are stored.
+ *
+ * @param table       the table
+ * @param columns     the columns whose type is managed, which must not be navigated by the query translation of the SQL
+ *                    store, since functions such as {@code json_array_elements} do not accept {@code jsonb}
+ * @param codec       the type of the columns
+ * @param compression the TOAST compression method of the columns, e.g. {@code lz4}, or null to keep the current one
+ * @param lockTimeout how long the migration waits for the lock on the table
+ */
+public record JsonColumnEncoding(String table, List<String> columns, Codec codec, @Nullable String compression, Duration lockTimeout) {
+
+    public static final String CODEC = "codec";
+    public static final String COLUMNS = "columns";
+    public static final String COMPRESSION = "compression";
+    public static final String LOCK_TIMEOUT_SECONDS = "lock-timeout";
+
+    public JsonColumnEncoding {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        columns = List.copyOf(columns);
+    }
+
+    /**
+     * Reads the encoding of a table from the configuration of a store, e.g. {@code edc.cosmos.store.transferprocess.encoding}.
+     *
+     * @param defaultColumns the columns that are managed unless configured otherwise
+     * @return the encoding, or null if no codec is configured and the columns are left as they are
+     */
+    public static @Nullable JsonColumnEncoding fromConfig(Config config, String table, List<String> defaultColumns) {
+        var codec = config.getString(CODEC, "");
+        if (codec.isBlank()) {
+            return null;
+        }
+        var columns = config.getString(COLUMNS, "");
+        var compression = config.getString(COMPRESSION, "");
+        return new JsonColumnEncoding(table,
+                columns.isBlank() ? defaultColumns : Arrays.stream(columns.split(",")).map(String::trim).filter(column -> !column.isEmpty()).toList(),
+                Codec.valueOf(codec.trim().toUpperCase(Locale.ROOT)),
+                compression.isBlank() ? null : compression.trim().toLowerCase(Locale.ROOT),
+                Duration.ofSeconds(config.getLong(LOCK_TIMEOUT_SECONDS, 10L)));
+    }
+
+    public enum Codec {
+        /**
+         * Text, stored as it was written and parsed on every access by the database.
+         */
+        JSON("json"),
+
+        /**
+         * Decomposed binary format, without insignificant whitespace and duplicate keys, which the database does not
+         * need to parse again.
+         */
+        JSONB("jsonb");
+
+        private final String type;
+
+        Codec(String type) {
+            this.type = type;
+        }
+
+        public String type() {
+            return type;
+        }
+    }
+}
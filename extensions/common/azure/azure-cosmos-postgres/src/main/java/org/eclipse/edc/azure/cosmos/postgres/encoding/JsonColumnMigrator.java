@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.encoding;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Converts the JSON columns of a table to the type and compression of a {@link JsonColumnEncoding}, in both
+ * directions, so that the encoding can be switched by configuration without touching the schema by hand.
+ * <p>
+ * The SQL stores read the columns as text and write them with a {@code ?::json} cast, which PostgreSQL assigns to
+ * {@code jsonb} columns as well, so the stores work with either type. Columns that already have the target type and
+ * compression are left alone. The conversion is a single {@code ALTER TABLE}, which rewrites the table under an
+ * exclusive lock: it waits at most {@link JsonColumnEncoding#lockTimeout()} for the lock, but blocks the store for the
+ * whole rewrite once it got it. A new compression method only applies to the values written from then on, and to the
+ * ones rewritten by a change of the type.
+ */
+public class JsonColumnMigrator implements Runnable {
+
+    private static final Map<String, String> COMPRESSION_METHODS = Map.of("p", "pglz", "l", "lz4");
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final QueryExecutor queryExecutor;
+    private final JsonColumnEncoding encoding;
+    private final Monitor monitor;
+
+    public JsonColumnMigrator(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                              QueryExecutor queryExecutor, JsonColumnEncoding encoding, Monitor monitor) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.encoding = encoding;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void run() {
+        try {
+            migrate();
+        } catch (Exception e) {
+            monitor.warning(format("Could not convert the columns %s of %s to %s: %s", encoding.columns(), encoding.table(),
+                    encoding.codec().type(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Converts the columns that do not have the target type or compression yet.
+     *
+     * @return the number of changes applied, 0 if all columns were already encoded as configured
+     */
+    public int migrate() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var changes = changes(connection);
+                if (changes.isEmpty()) {
+                    return 0;
+                }
+                monitor.info(format("Converting %s: %s", encoding.table(), String.join(", ", changes)));
+                queryExecutor.execute(connection, format("SET LOCAL lock_timeout = '%dms'", encoding.lockTimeout().toMillis()));
+                queryExecutor.execute(connection, format("ALTER TABLE %s %s", encoding.table(), String.join(", ", changes)));
+                return changes.size();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private List<String> changes(Connection connection) {
+        var columns = current(connection);
+        var changes = new ArrayList<String>();
+        for (var column : encoding.columns()) {
+            var current = columns.get(column);
+            if (current == null) {
+                monitor.warning(format("Column %s of %s does not exist and is not converted", column, encoding.table()));
+                continue;
+            }
+            var type = encoding.codec().type();
+            if (!current.type().equals(type)) {
+                changes.add(format("ALTER COLUMN %s TYPE %s USING %s::%s", column, type, column, type));
+            }
+            if (encoding.compression() != null && !encoding.compression().equals(current.compression())) {
+                changes.add(format("ALTER COLUMN %s SET COMPRESSION %s", column, encoding.compression()));
+            }
+        }
+        return changes;
+    }
+
+    private Map<String, Column> current(Connection connection) {
+        var placeholders = String.join(", ", Collections.nCopies(encoding.columns().size(), "?"));
+        var sql = format("SELECT a.attname, format_type(a.atttypid, a.atttypmod), a.attcompression FROM pg_attribute a " +
+                "WHERE a.attrelid = ?::regclass AND NOT a.attisdropped AND a.attname IN (%s)", placeholders);
+        var parameters = new ArrayList<Object>();
+        parameters.add(encoding.table());
+        parameters.addAll(encoding.columns());
+        return queryExecutor.query(connection, true, rs -> new Column(rs.getString(1), rs.getString(2), compressionMethod(rs.getString(3))),
+                        sql, parameters.toArray())
+                .collect(Collectors.toMap(Column::name, Function.identity()));
+    }
+
+    private static @Nullable String compressionMethod(@Nullable String attcompression) {
+        // empty for the default method of the server
+        return attcompression == null ? null : COMPRESSION_METHODS.get(attcompression);
+    }
+
+    private Connection getConnection() throws SQLException {
+        return dataSourceRegistry.resolve(dataSourceName).getConnection();
+    }
+
+    private record Column(String name, String type, @Nullable String compression) {
+    }
+}
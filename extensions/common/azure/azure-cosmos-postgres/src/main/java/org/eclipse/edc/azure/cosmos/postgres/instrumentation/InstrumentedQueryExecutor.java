@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.ResultSetMapper;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link QueryExecutor} with per-statement metrics.
+ * <p>
+ * Statements are grouped by their {@link StatementTemplate}. For each template the executor records the latency, the
+ * number of rows returned or affected, and the failures by SQL state class, flagging the ones that are worth a retry.
+ * Statements slower than a threshold are logged together with the shape, but not the values, of their parameters, and
+ * the plan of read-only statements slower than a second threshold can be captured with {@code EXPLAIN}, at most once
+ * per interval and template. {@code EXPLAIN (ANALYZE, BUFFERS)} is opt-in, since it executes the statement again, on
+ * the connection and in the transaction of the caller. The latency of a query is the time until its result set was
+ * returned, since the rows are mapped while the caller consumes the stream.
+ * <p>
+ * The statement text may contain values, e.g. the JSON paths of user-supplied queries, so the number of distinct
+ * {@code statement} tags is capped: the templates seen after the cap was reached are all reported as {@link #OTHER}.
+ */
+class InstrumentedQueryExecutor implements QueryExecutor {
+
+    static final String OTHER = "other";
+    private static final int MAX_CACHED_TEMPLATES = 2048;
+    // serialization failure, deadlock, admin shutdown and too many connections, connection exceptions (class 08) are retriable too
+    private static final Set<String> RETRIABLE_SQL_STATES = Set.of("40001", "40P01", "57P01", "53300");
+
+    private final QueryExecutor delegate;
+    private final String store;
+    private final long slowThresholdNanos;
+    private final long explainThresholdNanos;
+    private final boolean explainAnalyze;
+    private final long explainIntervalMillis;
+    private final int maxStatements;
+    private final MeterRegistry meterRegistry;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final Map<String, StatementTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+
+    InstrumentedQueryExecutor(QueryExecutor delegate, String store, Duration slowThreshold, @Nullable Duration explainThreshold, boolean explainAnalyze,
+                              Duration explainInterval, int maxStatements, MeterRegistry meterRegistry, Monitor monitor, Clock clock) {
+        this.delegate = delegate;
+        this.store = store;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.explainThresholdNanos = explainThreshold == null ? Long.MAX_VALUE : explainThreshold.toNanos();
+        this.explainAnalyze = explainAnalyze;
+        this.explainIntervalMillis = explainInterval.toMillis();
+        this.maxStatements = maxStatements;
+        this.meterRegistry = meterRegistry;
+        this.monitor = monitor;
+        this.clock = clock;
+    }
+
+    @Override
+    public int execute(Connection connection, String sql, Object... arguments) {
+        var template = template(sql);
+        var start = System.nanoTime();
+        try {
+            var rows = delegate.execute(connection, sql, arguments);
+            completed(connection, template, sql, arguments, System.nanoTime() - start, rows);
+            return rows;
+        } catch (RuntimeException e) {
+            failed(template, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        var template = template(sql);
+        var start = System.nanoTime();
+        try {
+            var result = delegate.single(connection, closeConnection, resultSetMapper, sql, arguments);
+            // the connection may have been closed by the delegate, so no plan is captured
+            completed(closeConnection ? null : connection, template, sql, arguments, System.nanoTime() - start, result == null ? 0 : 1);
+            return result;
+        } catch (RuntimeException e) {
+            failed(template, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> Stream<T> query(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        var template = template(sql);
+        var start = System.nanoTime();
+        Stream<T> stream;
+        try {
+            stream = delegate.query(connection, closeConnection, resultSetMapper, sql, arguments);
+        } catch (RuntimeException e) {
+            failed(template, e);
+            throw e;
+        }
+        var statementMeters = completed(connection, template, sql, arguments, System.nanoTime() - start, -1);
+        var rows = new long[1];
+        return stream.peek(row -> rows[0]++).onClose(() -> statementMeters.rows().record(rows[0]));
+    }
+
+    private StatementTemplate template(String sql) {
+        var template = templates.get(sql);
+        if (template != null) {
+            return template;
+        }
+        template = StatementTemplate.of(sql);
+        if (templates.size() < MAX_CACHED_TEMPLATES) {
+            templates.put(sql, template);
+        }
+        return template;
+    }
+
+    private StatementMeters completed(@Nullable Connection connection, StatementTemplate template, String sql, Object[] arguments, long nanos, int rows) {
+        var statementMeters = meters(template);
+        statementMeters.latency().record(nanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            statementMeters.rows().record(rows);
+        }
+        if (nanos >= slowThresholdNanos) {
+            statementMeters.slow().increment();
+            monitor.warning("Slow statement %s of %s took %d ms, parameters %s: %s".formatted(template.id(), store,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), shapes(arguments), template.normalized()));
+            if (connection != null && nanos >= explainThresholdNanos && template.readOnly() && explainDue(template)) {
+                explain(connection, template, sql, arguments);
+            }
+        }
+        return statementMeters;
+    }
+
+    private void failed(StatementTemplate template, RuntimeException exception) {
+        var sqlState = sqlState(exception);
+        var stateClass = sqlState == null ? "none" : sqlState.substring(0, Math.min(2, sqlState.length()));
+        var retriable = sqlState != null && (RETRIABLE_SQL_STATES.contains(sqlState) || sqlState.startsWith("08"));
+        // counts the template against the cap, so that failing templates do not add tags beyond it either
+        meters(template);
+        Counter.builder("edc.cosmos.sql.statement.errors")
+                .description("Failed statements by SQL state class")
+                .tags("store", store, "statement", tag(template), "sqlstate", stateClass, "retriable", String.valueOf(retriable))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private boolean explainDue(StatementTemplate template) {
+        if (OTHER.equals(tag(template))) {
+            return false;
+        }
+        var now = clock.millis();
+        var previous = lastExplained.get(template.id());
+        if (previous != null && now - previous < explainIntervalMillis) {
+            return false;
+        }
+        // only one thread captures the plan if several statements of the template are slow at the same time
+        return previous == null ? lastExplained.putIfAbsent(template.id(), now) == null : lastExplained.replace(template.id(), previous, now);
+    }
+
+    private void explain(Connection connection, StatementTemplate template, String sql, Object[] arguments) {
+        var explain = explainAnalyze ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ";
+        try (var plan = delegate.query(connection, false, rs -> rs.getString(1), explain + sql, arguments)) {
+            monitor.warning("Plan of slow statement %s of %s:%n%s".formatted(template.id(), store, plan.collect(Collectors.joining("\n"))));
+        } catch (RuntimeException e) {
+            monitor.debug(() -> "Could not capture the plan of statement %s: %s".formatted(template.id(), e.getMessage()));
+        }
+    }
+
+    /**
+     * The {@code statement} tag of a template: its id, or {@link #OTHER} once the cap of distinct tags is reached.
+     */
+    private String tag(StatementTemplate template) {
+        return meters.containsKey(template.id()) || meters.size() < maxStatements ? template.id() : OTHER;
+    }
+
+    private StatementMeters meters(StatementTemplate template) {
+        var statementMeters = meters.get(template.id());
+        if (statementMeters != null) {
+            return statementMeters;
+        }
+        // the cap is checked without a lock, it may be exceeded by a few concurrently added templates
+        var tag = tag(template);
+        return meters.computeIfAbsent(tag, id -> {
+            monitor.debug(() -> OTHER.equals(id) ?
+                    "Statements of %s beyond %d templates are reported as %s".formatted(store, maxStatements, OTHER) :
+                    "Statement %s of %s: %s".formatted(id, store, template.normalized()));
+            return new StatementMeters(
+                    Timer.builder("edc.cosmos.sql.statement")
+                            .description("Latency of the statements by template")
+                            .tags("store", store, "statement", id)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry),
+                    DistributionSummary.builder("edc.cosmos.sql.statement.rows")
+                            .description("Rows returned or affected by the statements by template")
+                            .tags("store", store, "statement", id)
+                            .register(meterRegistry),
+                    Counter.builder("edc.cosmos.sql.statement.slow")
+                            .description("Statements slower than the slow statement threshold by template")
+                            .tags("store", store, "statement", id)
+                            .register(meterRegistry));
+        });
+    }
+
+    static String shapes(Object[] arguments) {
+        return Arrays.stream(arguments).map(InstrumentedQueryExecutor::shape).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String shape(Object argument) {
+        if (argument == null) {
+            return "null";
+        }
+        if (argument instanceof CharSequence text) {
+            return "String(%d)".formatted(text.length());
+        }
+        if (argument instanceof Collection<?> collection) {
+            return "%s(%d)".formatted(argument.getClass().getSimpleName(), collection.size());
+        }
+        return argument.getClass().getSimpleName();
+    }
+
+    private static @Nullable String sqlState(Throwable exception) {
+        for (var cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                return sqlException.getSQLState();
+            }
+        }
+        return null;
+    }
+
+    private record StatementMeters(Timer latency, DistributionSummary rows, Counter slow) {
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Instruments the {@link QueryExecutor} of a Cosmos store, see {@link InstrumentedQueryExecutor}.
+ */
+public class StatementInstrumentation {
+
+    private final boolean enabled;
+    private final Duration slowThreshold;
+    private final Duration explainThreshold;
+    private final boolean explainAnalyze;
+    private final Duration explainInterval;
+    private final int maxStatements;
+    private final MeterRegistry meterRegistry;
+    private final Monitor monitor;
+    private final Clock clock;
+
+    /**
+     * Creates the instrumentation.
+     *
+     * @param enabled          whether statements are instrumented at all
+     * @param slowThreshold    duration above which a statement is logged as slow
+     * @param explainThreshold duration above which the plan of a read-only statement is captured, null disables it
+     * @param explainAnalyze   whether the plan is captured with {@code EXPLAIN (ANALYZE, BUFFERS)}, which executes the
+     *                         statement again on the connection and in the transaction of the caller
+     * @param explainInterval  minimum time between two plans captured for the same statement template
+     * @param maxStatements    maximum number of distinct statement templates per store reported with their own tag
+     */
+    public StatementInstrumentation(boolean enabled, Duration slowThreshold, @Nullable Duration explainThreshold, boolean explainAnalyze,
+                                    Duration explainInterval, int maxStatements, MeterRegistry meterRegistry, Monitor monitor, Clock clock) {
+        this.enabled = enabled;
+        this.slowThreshold = slowThreshold;
+        this.explainThreshold = explainThreshold;
+        this.explainAnalyze = explainAnalyze;
+        this.explainInterval = explainInterval;
+        this.maxStatements = maxStatements;
+        this.meterRegistry = meterRegistry;
+        this.monitor = monitor;
+        this.clock = clock;
+    }
+
+    /**
+     * Wraps the query executor of a store.
+     *
+     * @param delegate the query executor of the runtime
+     * @param store    the name of the store, used as tag of the metrics
+     * @return the instrumented executor, or the delegate if the instrumentation is disabled
+     */
+    public QueryExecutor instrument(QueryExecutor delegate, String store) {
+        if (!enabled) {
+            return delegate;
+        }
+        return new InstrumentedQueryExecutor(delegate, store, slowThreshold, explainThreshold, explainAnalyze, explainInterval, maxStatements,
+                meterRegistry, monitor, clock);
+    }
+}
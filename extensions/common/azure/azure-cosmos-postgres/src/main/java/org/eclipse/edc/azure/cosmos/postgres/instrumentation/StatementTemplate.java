@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.instrumentation;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * The template of a SQL statement, i.e. the statement with runs of placeholders and of identical rows collapsed, so that
+ * e.g. {@code IN (?, ?)} and {@code IN (?, ?, ?)} share their metrics.
+ *
+ * @param id         short, stable identifier of the template, used as tag of the metrics, e.g. {@code select:edc_asset:1f2e3d4c}
+ * @param readOnly   whether the statement only reads
+ * @param normalized the normalized statement
+ */
+public record StatementTemplate(String id, boolean readOnly, String normalized) {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(::\\w+)?(\\s*,\\s*\\?(::\\w+)?)+");
+    private static final Pattern ROW_LIST = Pattern.compile("(\\([^()]*\\))(\\s*,\\s*\\1)+");
+    private static final Pattern WRITE = Pattern.compile("\\b(insert|update|delete)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TABLE = Pattern.compile("\\b(?:from|into|update|table)\\s+([\\w.\"]+)", Pattern.CASE_INSENSITIVE);
+
+    public static StatementTemplate of(String sql) {
+        var normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("?, ...");
+        normalized = ROW_LIST.matcher(normalized).replaceAll("$1, ...");
+
+        var verbEnd = normalized.indexOf(' ');
+        var verb = (verbEnd < 0 ? normalized : normalized.substring(0, verbEnd)).toLowerCase(Locale.ROOT);
+        var table = TABLE.matcher(normalized);
+        var id = "%s:%s:%08x".formatted(verb, table.find() ? table.group(1).replace("\"", "") : "-", normalized.hashCode());
+        // excludes data-modifying CTEs and SELECT ... FOR UPDATE
+        var readOnly = (verb.equals("select") || verb.equals("with")) && !WRITE.matcher(normalized).find();
+        return new StatementTemplate(id, readOnly, normalized);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.pagination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.SortOrder;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Position of the last entity of a keyset page. The token carries the sort key and the id of that entity, so that the
+ * next page can be selected with a range predicate instead of an {@code OFFSET}.
+ *
+ * @param sortField the canonical name of the property the page was sorted by
+ * @param sortOrder the order the page was sorted in
+ * @param sortValue the value of the sort column of the last entity
+ * @param id        the id of the last entity, used as tie-breaker
+ */
+public record ContinuationToken(String sortField, SortOrder sortOrder, Object sortValue, String id) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque token
+     * @return the decoded token
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ContinuationToken decode(String token) {
+        try {
+            return MAPPER.readValue(Base64.getUrlDecoder().decode(token), ContinuationToken.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+        }
+    }
+
+    /**
+     * Encodes the token into an opaque, URL-safe string.
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.pagination;
+
+import java.util.Map;
+
+/**
+ * Maps the canonical property names of an entity onto the columns that can be used as keyset.
+ *
+ * @param idProperty       the canonical name of the id property, e.g. {@code id}
+ * @param idColumn         the column holding the id, used as tie-breaker for non-unique sort keys
+ * @param defaultSortField the canonical sort field used when the query does not specify one
+ * @param sortColumns      the sortable canonical properties and their columns. Each of them should be covered by an
+ *                         index on {@code (sortColumn, idColumn)}
+ */
+public record KeysetMapping(String idProperty, String idColumn, String defaultSortField, Map<String, String> sortColumns) {
+
+    /**
+     * Resolves the column for a canonical sort field.
+     *
+     * @throws IllegalArgumentException if the field cannot be used as keyset
+     */
+    public String sortColumn(String sortField) {
+        var column = sortColumns.get(sortField);
+        if (column == null) {
+            throw new IllegalArgumentException("Keyset pagination is not supported for sort field '%s', supported fields are %s".formatted(sortField, sortColumns.keySet()));
+        }
+        return column;
+    }
+}
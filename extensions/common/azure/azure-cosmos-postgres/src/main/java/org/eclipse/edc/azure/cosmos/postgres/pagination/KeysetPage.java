@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.pagination;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A page of entities returned by a {@link KeysetPaginator}.
+ *
+ * @param items             the entities of the page, in sort order
+ * @param continuationToken the token to obtain the next page, or null if this is the last page
+ */
+public record KeysetPage<T>(List<T> items, @Nullable String continuationToken) {
+
+    public boolean hasNext() {
+        return continuationToken != null;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.pagination;
+
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Seek-based pagination on top of the SQL statements of a store.
+ * <p>
+ * Instead of {@code LIMIT/OFFSET}, which makes every shard of a Cosmos for PostgreSQL cluster sort and discard all the
+ * preceding rows, each page is selected with a row-value predicate {@code (sortColumn, idColumn) > (?, ?)} that an index
+ * on {@code (sortColumn, idColumn)} can satisfy directly. Paging happens in two steps: first the keys of the page are
+ * selected using the filter translation of the store statements, then the entities are loaded through the store itself
+ * by id, so that the mapping of rows onto entities stays with the store.
+ */
+public class KeysetPaginator<T> {
+
+    private static final Pattern LIMIT_OFFSET_CLAUSE = Pattern.compile("\\s+LIMIT\\s+\\?\\s+OFFSET\\s+\\?\\s*$", Pattern.CASE_INSENSITIVE);
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final QueryExecutor queryExecutor;
+    private final Function<QuerySpec, SqlQueryStatement> statementFactory;
+    private final KeysetMapping mapping;
+    private final Function<QuerySpec, Stream<T>> loader;
+    private final Function<T, String> idFunction;
+
+    /**
+     * Creates a paginator for one store.
+     *
+     * @param statementFactory creates the store's query statement for a {@link QuerySpec}
+     * @param mapping          the columns usable as keyset
+     * @param loader           queries the store, used to load the entities of a page by id
+     * @param idFunction       extracts the id of an entity
+     */
+    public KeysetPaginator(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, QueryExecutor queryExecutor,
+                           Function<QuerySpec, SqlQueryStatement> statementFactory, KeysetMapping mapping,
+                           Function<QuerySpec, Stream<T>> loader, Function<T, String> idFunction) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.statementFactory = statementFactory;
+        this.mapping = mapping;
+        this.loader = loader;
+        this.idFunction = idFunction;
+    }
+
+    /**
+     * Returns the page following the position encoded in the continuation token. The filter, sort field, sort order and
+     * limit are taken from the query spec, its offset is ignored.
+     *
+     * @param querySpec         the query, its sort field defaults to the default sort field of the mapping
+     * @param continuationToken the token returned with the previous page, or null to get the first page
+     * @return the page
+     * @throws IllegalArgumentException if the sort field is not supported or the token does not match the query
+     */
+    public KeysetPage<T> query(QuerySpec querySpec, @Nullable String continuationToken) {
+        var sortField = Optional.ofNullable(querySpec.getSortField()).orElse(mapping.defaultSortField());
+        var sortColumn = mapping.sortColumn(sortField);
+        var sortOrder = querySpec.getSortOrder();
+        var token = Optional.ofNullable(continuationToken).map(ContinuationToken::decode).orElse(null);
+        if (token != null && (!sortField.equals(token.sortField()) || sortOrder != token.sortOrder())) {
+            throw new IllegalArgumentException("Continuation token was issued for a different sort order than %s %s".formatted(sortField, sortOrder));
+        }
+
+        var keys = queryKeys(querySpec, sortColumn, sortOrder, token);
+        if (keys.size() <= querySpec.getLimit()) {
+            return new KeysetPage<>(load(keys), null);
+        }
+
+        var pageKeys = keys.subList(0, querySpec.getLimit());
+        var last = pageKeys.get(pageKeys.size() - 1);
+        var next = new ContinuationToken(sortField, sortOrder, last.sortValue(), last.id());
+        return new KeysetPage<>(load(pageKeys), next.encode());
+    }
+
+    private List<Key> queryKeys(QuerySpec querySpec, String sortColumn, SortOrder sortOrder, @Nullable ContinuationToken token) {
+        // one row more than requested tells whether there is a next page
+        var keysSpec = QuerySpec.Builder.newInstance()
+                .filter(querySpec.getFilterExpression())
+                .offset(0)
+                .limit(querySpec.getLimit() + 1)
+                .build();
+
+        var statement = statementFactory.apply(keysSpec);
+        if (token != null) {
+            var comparison = sortOrder == SortOrder.ASC ? ">" : "<";
+            statement.addWhereClause("(%s, %s) %s (?, ?)".formatted(sortColumn, mapping.idColumn(), comparison), token.sortValue(), token.id());
+        }
+
+        var limitOffset = LIMIT_OFFSET_CLAUSE.matcher(statement.getQueryAsString());
+        if (!limitOffset.find()) {
+            throw new IllegalStateException("Cannot apply keyset ordering, the statement does not end with a LIMIT/OFFSET clause: " + statement.getQueryAsString());
+        }
+        var direction = sortOrder == SortOrder.ASC ? "ASC" : "DESC";
+        var sql = limitOffset.replaceFirst(" ORDER BY %s %s, %s %s LIMIT ?".formatted(sortColumn, direction, mapping.idColumn(), direction));
+
+        // the statement parameters end with limit and offset, the latter is dropped together with the OFFSET clause
+        var parameters = statement.getParameters();
+        var keysetParameters = Arrays.copyOf(parameters, parameters.length - 1);
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.query(connection, false, rs -> new Key(rs.getString(mapping.idColumn()), rs.getObject(sortColumn)), sql, keysetParameters).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private List<T> load(List<Key> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        var ids = keys.stream().map(Key::id).toList();
+        var byIdSpec = QuerySpec.Builder.newInstance()
+                .filter(criterion(mapping.idProperty(), "in", ids))
+                .limit(ids.size())
+                .build();
+
+        try (var entities = loader.apply(byIdSpec)) {
+            var byId = entities.collect(toMap(idFunction, identity()));
+            // entities deleted in between the two steps are skipped
+            return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        return dataSourceRegistry.resolve(dataSourceName).getConnection();
+    }
+
+    private record Key(String id, Object sortValue) {
+    }
+}
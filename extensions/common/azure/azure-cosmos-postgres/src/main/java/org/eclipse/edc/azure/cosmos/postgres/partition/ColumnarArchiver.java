@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.azure.cosmos.postgres.partition;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Converts the partitions of terminal entities that are older than a given age to the Citus {@code columnar} access
+ * method. Columnar storage compresses the large JSON columns and speeds up analytical scans; since the converted
+ * tables stay partitions of the same table, the queries of the store read them transparently.
+ * <p>
+ * Columnar tables do not support {@code UPDATE} and {@code DELETE}, therefore only months that are closed to further
+ * writes are archived: every row of the whole monthly partition, not only of the archived one, must be in a final
+ * state, one that is never left again, and hold no lease, since deleting a lease sets the {@code lease_id} of its rows
+ * to null, which is an update. A row that is still active could otherwise move into the archived partition on its last
+ * transition and be updated there. The candidates are the {@code _terminal} sub-partitions, or the monthly partitions
+ * of distributed tables. The monthly partition is locked against writes while it is checked and converted. Deleting an
+ * archived entity fails, so the archive age must exceed the time during which entities are deleted explicitly.
+ */
+public class ColumnarArchiver implements Runnable {
+
+    private static final String COLUMNAR = "columnar";
+    private static final String LEASE_COLUMN = "lease_id";
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final QueryExecutor queryExecutor;
+    private final PartitionManager partitionManager;
+    private final TimePartitioning partitioning;
+    private final List<Integer> finalStates;
+    private final Duration archiveAfter;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    public ColumnarArchiver(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, QueryExecutor queryExecutor,
+                            PartitionManager partitionManager, TimePartitioning partitioning, List<Integer> finalStates, Duration archiveAfter,
+                            Clock clock, Monitor monitor) {
+        if (finalStates.isEmpty()) {
+            throw new IllegalArgumentException("At least one final state is required");
+        }
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.partitionManager = partitionManager;
+        this.partitioning = partitioning;
+        this.finalStates = List.copyOf(finalStates);
+        this.archiveAfter = archiveAfter;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void run() {
+        try {
+            archive();
+        } catch (Exception e) {
+            monitor.severe(format("Columnar archival of the partitions of %s failed", partitioning.table()), e);
+        }
+    }
+
+    /**
+     * Archives the eligible partitions of the months that ended before the archive age.
+     */
+    public void archive() {
+        if (!columnarAvailable()) {
+            monitor.warning("The columnar access method is not available, partitions of %s are not archived. Is the citus extension installed?".formatted(partitioning.table()));
+            return;
+        }
+        var cutoff = clock.instant().minus(archiveAfter).toEpochMilli();
+        partitionManager.existingPartitions().stream()
+                .filter(month -> partitionManager.endOf(month) <= cutoff)
+                .forEach(this::archive);
+    }
+
+    private void archive(YearMonth month) {
+        var monthlyPartition = partitionManager.name(month);
+        var partition = partitioning.distributed() ? monthlyPartition : monthlyPartition + "_terminal";
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var accessMethod = queryExecutor.single(connection, false, rs -> rs.getString(1),
+                        "SELECT am.amname FROM pg_class c JOIN pg_am am ON am.oid = c.relam WHERE c.oid = to_regclass(?)", partition);
+                if (accessMethod == null || COLUMNAR.equals(accessMethod)) {
+                    return;
+                }
+                // locking the monthly partition locks its sub-partitions as well
+                queryExecutor.execute(connection, format("LOCK TABLE %s IN SHARE MODE", monthlyPartition));
+                if (hasChangeableRows(connection, monthlyPartition)) {
+                    monitor.debug(format("Partition %s is not archived, its month holds rows that are not final or that are leased", partition));
+                    return;
+                }
+                var sizeBefore = size(connection, partition);
+                queryExecutor.single(connection, false, rs -> rs.getString(1), "SELECT alter_table_set_access_method(?, ?)", partition, COLUMNAR);
+                monitor.info(format("Archived partition %s to columnar storage, size %d kB -> %d kB", partition, sizeBefore / 1024, size(connection, partition) / 1024));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private boolean columnarAvailable() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return Boolean.TRUE.equals(queryExecutor.single(connection, false, rs -> rs.getBoolean(1),
+                        "SELECT EXISTS (SELECT 1 FROM pg_am WHERE amname = ?)", COLUMNAR));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private boolean hasChangeableRows(Connection connection, String monthlyPartition) {
+        var states = finalStates.stream().map(Objects::toString).collect(Collectors.joining(", "));
+        return Boolean.TRUE.equals(queryExecutor.single(connection, false, rs -> rs.getBoolean(1),
+                format("SELECT EXISTS (SELECT 1 FROM %s WHERE %s NOT IN (%s) OR %s IS NOT NULL)", monthlyPartition, partitioning.stateColumn(), states, LEASE_COLUMN)));
+    }
+
+    private long size(Connection connection, String partition) {
+        var size = queryExecutor.single(connection, false, rs -> rs.getLong(1), "SELECT pg_total_relation_size(to_regclass(?))", partition);
+        return size != null ? size : 0;
+    }
+
+    private Connection getConnection() throws SQLException {
+        return dataSourceRegistry.resolve(dataSourceName).getConnection();
+    }
+}
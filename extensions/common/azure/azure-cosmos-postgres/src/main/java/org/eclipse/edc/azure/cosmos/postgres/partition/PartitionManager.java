@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.azure.cosmos.postgres.partition;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Maintains the monthly partitions of a table partitioned by {@code RANGE (created_at)}.
+ * <p>
+ * Partitions are named {@code <table>_p<yyyyMM>} and created ahead of time. Unless the table is distributed, every
+ * monthly partition is sub-partitioned by {@code LIST (state)} into {@code <partition>_terminal}, which receives the
+ * rows in a terminal state, and {@code <partition>_active}, so that the state machine only ever touches small heaps
+ * and indexes. Once a month is older than the retention, its terminal rows are dropped together with their partition
+ * instead of being deleted row by row; the monthly partition itself is dropped as soon as it holds no active row anymore.
+ */
+public class PartitionManager implements Runnable {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final QueryExecutor queryExecutor;
+    private final TimePartitioning partitioning;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Pattern partitionName;
+
+    public PartitionManager(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                            QueryExecutor queryExecutor, TimePartitioning partitioning, Clock clock, Monitor monitor) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.partitioning = partitioning;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.partitionName = Pattern.compile(Pattern.quote(partitioning.table()) + "_p(\\d{6})");
+    }
+
+    @Override
+    public void run() {
+        try {
+            createPartitions();
+            dropExpiredPartitions();
+        } catch (Exception e) {
+            monitor.severe(format("Maintenance of the partitions of %s failed", partitioning.table()), e);
+        }
+    }
+
+    /**
+     * Creates the partitions of the current month and of the premade months after it, if they do not exist yet.
+     */
+    public void createPartitions() {
+        var current = YearMonth.from(clock.instant().atZone(ZoneOffset.UTC));
+        for (var i = 0; i <= partitioning.premadeMonths(); i++) {
+            var month = current.plusMonths(i);
+            try {
+                createPartition(month);
+            } catch (EdcPersistenceException e) {
+                // typically rows of that month ended up in the default partition
+                monitor.warning(format("Cannot create partition %s: %s", name(month), e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Drops the terminal rows of the months that ended before the retention period, and the whole monthly partition
+     * if no active row is left in it.
+     */
+    public void dropExpiredPartitions() {
+        var retention = partitioning.retention();
+        if (retention == null) {
+            return;
+        }
+        var cutoff = clock.instant().minus(retention).toEpochMilli();
+        existingPartitions().stream()
+                .filter(month -> endOf(month) <= cutoff)
+                .forEach(this::dropPartition);
+    }
+
+    List<YearMonth> existingPartitions() {
+        var sql = "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = ?::regclass";
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.query(connection, false, rs -> rs.getString(1), sql, partitioning.table())
+                        .map(partitionName::matcher)
+                        .filter(matcher -> matcher.matches())
+                        .map(matcher -> YearMonth.parse(matcher.group(1), SUFFIX_FORMAT))
+                        .sorted()
+                        .toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void createPartition(YearMonth month) {
+        var name = name(month);
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                if (partitioning.distributed()) {
+                    queryExecutor.execute(connection, format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM (%d) TO (%d)",
+                            name, partitioning.table(), startOf(month), endOf(month)));
+                } else {
+                    queryExecutor.execute(connection, format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM (%d) TO (%d) PARTITION BY LIST (%s)",
+                            name, partitioning.table(), startOf(month), endOf(month), partitioning.stateColumn()));
+                    queryExecutor.execute(connection, format("CREATE TABLE IF NOT EXISTS %s_terminal PARTITION OF %s FOR VALUES IN (%s)",
+                            name, name, terminalStates()));
+                    queryExecutor.execute(connection, format("CREATE TABLE IF NOT EXISTS %s_active PARTITION OF %s DEFAULT", name, name));
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void dropPartition(YearMonth month) {
+        var name = name(month);
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                if (!partitioning.distributed()) {
+                    queryExecutor.execute(connection, format("DROP TABLE IF EXISTS %s_terminal", name));
+                }
+                // checked without a lock first, so that months with active rows are not locked on every run
+                if (hasActiveRows(connection, name)) {
+                    monitor.debug(format("Partition %s of an expired month still holds active rows", name));
+                    return;
+                }
+                // the lock keeps rows from leaving a terminal state between the check and the drop
+                queryExecutor.execute(connection, format("""
+                        DO $$
+                        BEGIN
+                            LOCK TABLE %1$s IN ACCESS EXCLUSIVE MODE;
+                            IF NOT EXISTS (SELECT 1 FROM %1$s WHERE %2$s NOT IN (%3$s)) THEN
+                                DROP TABLE %1$s;
+                            END IF;
+                        END $$""", name, partitioning.stateColumn(), terminalStates()));
+                var dropped = queryExecutor.single(connection, false, rs -> rs.getBoolean(1), "SELECT to_regclass(?) IS NULL", name);
+                monitor.debug(Boolean.TRUE.equals(dropped) ?
+                        format("Dropped expired partition %s", name) :
+                        format("Dropped the terminal rows of partition %s, it still holds active rows", name));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    boolean hasActiveRows(Connection connection, String partition) {
+        return Boolean.TRUE.equals(queryExecutor.single(connection, false, rs -> rs.getBoolean(1),
+                format("SELECT EXISTS (SELECT 1 FROM %s WHERE %s NOT IN (%s))", partition, partitioning.stateColumn(), terminalStates())));
+    }
+
+    String name(YearMonth month) {
+        return partitioning.table() + "_p" + month.format(SUFFIX_FORMAT);
+    }
+
+    String terminalStates() {
+        return partitioning.terminalStates().stream().map(Objects::toString).collect(Collectors.joining(", "));
+    }
+
+    private long startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    long endOf(YearMonth month) {
+        return startOf(month.plusMonths(1));
+    }
+
+    private Connection getConnection() throws SQLException {
+        return dataSourceRegistry.resolve(dataSourceName).getConnection();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.azure.cosmos.postgres.partition;
+
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Describes how the monthly partitions of a table partitioned by {@code RANGE (created_at)} are managed.
+ *
+ * @param table            the partitioned table
+ * @param createdAtColumn  the partition key, epoch milliseconds
+ * @param stateColumn      the column holding the state of the entity
+ * @param terminalStates   the states that are not processed by the state machine anymore, rows may still leave them
+ * @param premadeMonths    the number of months after the current one for which partitions are created in advance
+ * @param retention        how long terminal entities are kept, null to keep them forever
+ * @param distributed      whether the table is distributed with Citus, which does not support multi-level partitioning
+ * @param intervalMinutes  how often the partitions are maintained
+ */
+public record TimePartitioning(String table, String createdAtColumn, String stateColumn, List<Integer> terminalStates,
+                               int premadeMonths, @Nullable Duration retention, boolean distributed, long intervalMinutes) {
+
+    public static final String ENABLED = "enabled";
+    public static final String PREMADE_MONTHS = "premade-months";
+    public static final String RETENTION_DAYS = "retention-days";
+    public static final String DISTRIBUTED = "distributed";
+    public static final String INTERVAL_MINUTES = "interval-minutes";
+
+    public TimePartitioning {
+        if (terminalStates.isEmpty()) {
+            throw new IllegalArgumentException("At least one terminal state is required");
+        }
+        terminalStates = List.copyOf(terminalStates);
+    }
+
+    /**
+     * Reads the partitioning of a table from the configuration of a store, e.g. {@code edc.cosmos.store.transferprocess.partitioning}.
+     *
+     * @return the partitioning, or null if it is not enabled
+     */
+    public static @Nullable TimePartitioning fromConfig(Config config, String table, List<Integer> terminalStates) {
+        if (!config.getBoolean(ENABLED, false)) {
+            return null;
+        }
+        var retentionDays = config.getLong(RETENTION_DAYS, 0L);
+        return new TimePartitioning(table, "created_at", "state", terminalStates,
+                config.getInteger(PREMADE_MONTHS, 3),
+                retentionDays > 0 ? Duration.ofDays(retentionDays) : null,
+                config.getBoolean(DISTRIBUTED, false),
+                config.getLong(INTERVAL_MINUTES, 60L));
+    }
+}
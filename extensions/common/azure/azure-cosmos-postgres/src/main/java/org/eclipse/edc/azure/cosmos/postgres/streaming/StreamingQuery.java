@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.streaming;
+
+import org.eclipse.edc.azure.cosmos.postgres.pagination.KeysetMapping;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Streams all the entities of a store matching a query with a bounded amount of memory.
+ * <p>
+ * The PostgreSQL driver only fetches a result set in portions of the fetch size if the statement runs in a transaction,
+ * otherwise it reads the complete result set into the heap before the first row is returned. The stores' queries run in
+ * a transaction that ends when the query method returns, so their streams cannot use a server-side cursor. A streaming
+ * query therefore opens its own connection with autocommit disabled, which it holds until the stream is exhausted or
+ * closed, and reads the ids of the matching entities through a cursor. The entities themselves are loaded through the
+ * store by id, one portion of the fetch size at a time, so that the mapping of rows onto entities stays with the store.
+ * <p>
+ * The returned stream must be closed, e.g. with try-with-resources, unless it is consumed completely.
+ */
+public class StreamingQuery<T> {
+
+    private static final Pattern LIMIT_OFFSET_CLAUSE = Pattern.compile("\\s+LIMIT\\s+\\?\\s+OFFSET\\s+\\?\\s*$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SELECT_ALL = Pattern.compile("^\\s*SELECT\\s+\\*\\s+FROM\\s+", Pattern.CASE_INSENSITIVE);
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final Function<QuerySpec, SqlQueryStatement> statementFactory;
+    private final KeysetMapping mapping;
+    private final Function<QuerySpec, Stream<T>> loader;
+    private final Function<T, String> idFunction;
+    private final int fetchSize;
+
+    /**
+     * Creates a streaming query for one store.
+     *
+     * @param statementFactory creates the store's query statement for a {@link QuerySpec}
+     * @param mapping          the id and sortable columns of the store
+     * @param loader           queries the store, used to load the entities by id
+     * @param idFunction       extracts the id of an entity
+     * @param fetchSize        number of rows fetched from the cursor and entities loaded at a time
+     */
+    public StreamingQuery(DataSourceRegistry dataSourceRegistry, String dataSourceName, Function<QuerySpec, SqlQueryStatement> statementFactory,
+                          KeysetMapping mapping, Function<QuerySpec, Stream<T>> loader, Function<T, String> idFunction, int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive but was " + fetchSize);
+        }
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.statementFactory = statementFactory;
+        this.mapping = mapping;
+        this.loader = loader;
+        this.idFunction = idFunction;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Streams all entities matching the filter of the query spec. Limit and offset of the query spec are ignored. If it
+     * has a sort field, the entities are returned in that order, otherwise in no particular order.
+     *
+     * @param querySpec the query
+     * @return the entities, the stream holds a database connection until it is closed
+     * @throws IllegalArgumentException if the sort field is not supported
+     */
+    public Stream<T> stream(QuerySpec querySpec) {
+        var query = statementFactory.apply(allMatching(querySpec));
+        var sql = sql(query, querySpec);
+        // the statement parameters end with limit and offset, which are dropped together with the LIMIT/OFFSET clause
+        var parameters = Arrays.copyOf(query.getParameters(), query.getParameters().length - 2);
+
+        Connection connection = null;
+        try {
+            connection = dataSourceRegistry.resolve(dataSourceName).getConnection();
+            // the driver only uses a cursor inside of a transaction
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (var i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            var cursor = new Cursor(connection, statement, statement.executeQuery());
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, 0), false).onClose(cursor::close);
+        } catch (SQLException e) {
+            close(connection);
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private String sql(SqlQueryStatement statement, QuerySpec querySpec) {
+        var limitOffset = LIMIT_OFFSET_CLAUSE.matcher(statement.getQueryAsString());
+        if (!limitOffset.find()) {
+            throw new IllegalStateException("Cannot stream the query, the statement does not end with a LIMIT/OFFSET clause: " + statement.getQueryAsString());
+        }
+
+        var orderBy = "";
+        if (querySpec.getSortField() != null) {
+            var direction = querySpec.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC";
+            orderBy = " ORDER BY %s %s, %s %s".formatted(mapping.sortColumn(querySpec.getSortField()), direction, mapping.idColumn(), direction);
+        }
+        var sql = limitOffset.replaceFirst(orderBy);
+        // only the ids are read from the cursor, the entities are loaded through the store
+        return SELECT_ALL.matcher(sql).replaceFirst("SELECT %s FROM ".formatted(mapping.idColumn()));
+    }
+
+    private QuerySpec allMatching(QuerySpec querySpec) {
+        return QuerySpec.Builder.newInstance()
+                .filter(querySpec.getFilterExpression())
+                .offset(0)
+                .limit(Integer.MAX_VALUE)
+                .build();
+    }
+
+    private List<T> load(List<String> ids) {
+        var byIdSpec = QuerySpec.Builder.newInstance()
+                .filter(criterion(mapping.idProperty(), "in", ids))
+                .limit(ids.size())
+                .build();
+
+        try (var entities = loader.apply(byIdSpec)) {
+            var byId = entities.collect(toMap(idFunction, identity()));
+            // entities deleted since the cursor was opened are skipped
+            return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+    }
+
+    private static void close(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try (connection) {
+            connection.rollback();
+            connection.setReadOnly(false);
+            connection.setAutoCommit(true);
+        } catch (SQLException ignored) {
+            // the connection is closed anyway
+        }
+    }
+
+    /**
+     * Reads the ids from the cursor and loads the corresponding entities one portion at a time. Releases the connection
+     * as soon as the cursor is exhausted, when the stream is closed, or when reading fails.
+     */
+    private class Cursor implements Iterator<T> {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Iterator<T> portion = List.<T>of().iterator();
+
+        Cursor(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+            this.connection = connection;
+            this.statement = statement;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!portion.hasNext() && !closed.get()) {
+                portion = nextPortion().iterator();
+            }
+            return portion.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return portion.next();
+        }
+
+        private List<T> nextPortion() {
+            var ids = new ArrayList<String>(fetchSize);
+            try {
+                while (ids.size() < fetchSize && resultSet.next()) {
+                    ids.add(resultSet.getString(mapping.idColumn()));
+                }
+            } catch (SQLException e) {
+                close();
+                throw new EdcPersistenceException(e);
+            }
+            if (ids.size() < fetchSize) {
+                close();
+            }
+            return ids.isEmpty() ? List.of() : load(ids);
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                resultSet.close();
+                statement.close();
+            } catch (SQLException ignored) {
+                // the connection is closed anyway
+            }
+            StreamingQuery.close(connection);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.streaming;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link StreamingQuery}s registered by the Cosmos store extensions, keyed by entity type.
+ */
+public class StreamingQueryRegistry {
+
+    private final Map<Class<?>, StreamingQuery<?>> queries = new ConcurrentHashMap<>();
+
+    public <T> void register(Class<T> type, StreamingQuery<T> query) {
+        queries.put(type, query);
+    }
+
+    /**
+     * Returns the streaming query for an entity type.
+     *
+     * @param type the entity type, e.g. {@code TransferProcess}
+     * @return the streaming query, or null if no Cosmos store for that type is present in the runtime
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable StreamingQuery<T> resolve(Class<T> type) {
+        return (StreamingQuery<T>) queries.get(type);
+    }
+}
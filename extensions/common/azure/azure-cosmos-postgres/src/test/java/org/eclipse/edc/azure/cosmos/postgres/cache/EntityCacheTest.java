@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EntityCacheTest {
+
+    private final Clock clock = mock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, StringBuilder> rows = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private EntityCache<StringBuilder> cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(1000));
+        cache = new EntityCache<>("test", 2, Duration.ofSeconds(30), StringBuilder::new, clock, meterRegistry);
+        rows.put("id1", new StringBuilder("one"));
+        rows.put("id2", new StringBuilder("two"));
+        rows.put("id3", new StringBuilder("three"));
+    }
+
+    @Test
+    void get_shouldLoadOnceAndServeCopies() {
+        var first = cache.get("id1", this::load);
+        first.append(" changed");
+
+        assertThat(cache.get("id1", this::load)).hasToString("one");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("edc.cosmos.store.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.cosmos.store.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void get_notFound_shouldNotBeCached() {
+        assertThat(cache.get("unknown", this::load)).isNull();
+        assertThat(cache.get("unknown", this::load)).isNull();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_expired_shouldLoadAgain() {
+        cache.get("id1", this::load);
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(1031));
+
+        cache.get("id1", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_full_shouldEvictLeastRecentlyUsed() {
+        cache.get("id1", this::load);
+        cache.get("id2", this::load);
+        cache.get("id1", this::load);
+
+        cache.get("id3", this::load);
+        cache.get("id1", this::load);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(loads).hasValue(3);
+        cache.get("id2", this::load);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void invalidate_shouldLoadAgain() {
+        cache.get("id1", this::load);
+        rows.put("id1", new StringBuilder("new"));
+
+        cache.invalidate("id1");
+
+        assertThat(cache.get("id1", this::load)).hasToString("new");
+        assertThat(meterRegistry.get("edc.cosmos.store.cache.invalidations").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_duringLoad_shouldDiscardLoadedEntity() {
+        var loaded = cache.get("id1", id -> {
+            var entity = load(id);
+            // the row changes after it was read, but before the load completes
+            cache.invalidate(id);
+            return entity;
+        });
+
+        assertThat(loaded).hasToString("one");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidateAll_shouldRemoveAllEntities() {
+        cache.get("id1", this::load);
+        cache.get("id2", this::load);
+
+        cache.invalidateAll();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_disabled_shouldAlwaysLoad() {
+        var disabled = new EntityCache<StringBuilder>("disabled", 0, Duration.ofSeconds(30), StringBuilder::new, clock, meterRegistry);
+
+        disabled.get("id1", this::load);
+        disabled.get("id1", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private StringBuilder load(String id) {
+        loads.incrementAndGet();
+        return rows.get(id);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CosmosDataSourceFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CosmosDataSourceFactory factory = new CosmosDataSourceFactory(meterRegistry);
+
+    @Test
+    void create_shouldApplyPoolSettings() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "url", "jdbc:postgresql://localhost:5432/edc",
+                "pool.max-size", "4",
+                "pool.connection-timeout", "1000",
+                "statement-cache.prepare-threshold", "1"));
+
+        try (var pool = factory.create("test-primary", config)) {
+            assertThat(pool.getPoolName()).isEqualTo("test-primary");
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(4);
+            assertThat(pool.getMinimumIdle()).isEqualTo(4);
+            assertThat(pool.getConnectionTimeout()).isEqualTo(1000);
+            assertThat(pool.getKeepaliveTime()).isEqualTo(CosmosDataSourceFactory.DEFAULT_KEEPALIVE_TIME_MILLIS);
+            assertThat(pool.getDataSource()).isInstanceOfSatisfying(PGSimpleDataSource.class, dataSource -> {
+                assertThat(dataSource.getPrepareThreshold()).isEqualTo(1);
+                assertThat(dataSource.getPreparedStatementCacheQueries()).isEqualTo(CosmosDataSourceFactory.DEFAULT_STATEMENT_CACHE_QUERIES);
+                assertThat(dataSource.getTcpKeepAlive()).isTrue();
+            });
+        }
+    }
+
+    @Test
+    void create_shouldNotConnectEagerly() {
+        var config = ConfigFactory.fromMap(Map.of("url", "jdbc:postgresql://unreachable.invalid:5432/edc"));
+
+        try (var pool = factory.create("test-replica", config)) {
+            assertThat(pool.isRunning()).isTrue();
+            assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "test-replica").gauge()).isNotNull();
+        }
+    }
+}
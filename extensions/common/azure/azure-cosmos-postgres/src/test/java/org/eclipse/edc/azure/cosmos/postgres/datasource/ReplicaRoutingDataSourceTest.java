@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.azure.cosmos.postgres.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primaryDataSource = mock();
+    private final DataSource replicaDataSource = mock();
+    private final Connection primaryConnection = mock();
+    private final Connection replicaConnection = mock();
+    private final DataSourcePool replica = new DataSourcePool("test", "replica1", replicaDataSource, meterRegistry);
+    private final DataSourcePool primary = new DataSourcePool("test", DataSourcePool.PRIMARY, primaryDataSource, meterRegistry);
+    private final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource("test", primary, List.of(replica), meterRegistry);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        replica.updateLag(0, 1000);
+    }
+
+    @Test
+    void getConnection_shouldUseReplica() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(connections("replica1", "acquired")).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_noReplicas_shouldUsePrimary() throws SQLException {
+        var primaryOnly = new ReplicaRoutingDataSource("test", primary, List.of(), meterRegistry);
+
+        assertThat(primaryOnly.getConnection()).isSameAs(primaryConnection);
+        assertThat(connections(DataSourcePool.PRIMARY, "acquired")).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_replicaLagging_shouldFallBackToPrimary() throws SQLException {
+        replica.updateLag(5000, 1000);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("edc.cosmos.datasource.replica.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_replicaUnavailable_shouldFallBackToPrimaryAndMarkReplica() throws SQLException {
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(connections("replica1", "failed")).isEqualTo(1);
+    }
+
+    private double connections(String pool, String outcome) {
+        return meterRegistry.get("edc.cosmos.datasource.connections").tags("pool", pool, "outcome", outcome).counter().count();
+    }
+}
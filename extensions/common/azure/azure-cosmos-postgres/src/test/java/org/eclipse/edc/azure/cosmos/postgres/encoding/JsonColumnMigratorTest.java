@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.encoding;
+
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnEncoding.Codec.JSON;
+import static org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnEncoding.Codec.JSONB;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.mockito.Mockito.mock;
+
+@PostgresCosmosTest
+@ExtendWith(CosmosPostgresTestExtension.class)
+class JsonColumnMigratorTest {
+
+    private static final String TABLE = "edc_encoding_test";
+
+    private DataSourceRegistry dataSourceRegistry;
+    private TransactionContext transactionContext;
+    private QueryExecutor queryExecutor;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp(DataSourceRegistry reg, TransactionContext transactionContext, QueryExecutor queryExecutor, DataSource dataSource,
+               CosmosPostgresTestExtension.SqlHelper helper) {
+        this.dataSourceRegistry = reg;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.dataSource = dataSource;
+        helper.executeStatement("""
+                CREATE TABLE %s (
+                    id       VARCHAR PRIMARY KEY,
+                    messages JSON,
+                    trace    JSON
+                );
+                INSERT INTO %s VALUES ('id1', '{"b": [1, 2], "a": "x"}', NULL);
+                """.formatted(TABLE, TABLE));
+    }
+
+    @AfterEach
+    void tearDown(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.dropTable(TABLE);
+    }
+
+    @Test
+    void migrate_toJsonb_shouldConvertTypeAndCompression() throws SQLException {
+        var migrator = migrator(JSONB, "lz4", "messages", "trace");
+
+        assertThat(migrator.migrate()).isEqualTo(4);
+
+        assertThat(column("messages")).isEqualTo("jsonb/l");
+        assertThat(column("trace")).isEqualTo("jsonb/l");
+        assertThat(value()).isEqualTo("{\"a\": \"x\", \"b\": [1, 2]}");
+    }
+
+    @Test
+    void migrate_alreadyConverted_shouldDoNothing() {
+        migrator(JSONB, "lz4", "messages").migrate();
+
+        assertThat(migrator(JSONB, "lz4", "messages").migrate()).isZero();
+    }
+
+    @Test
+    void migrate_backToJson() throws SQLException {
+        migrator(JSONB, null, "messages").migrate();
+
+        assertThat(migrator(JSON, null, "messages").migrate()).isEqualTo(1);
+
+        assertThat(column("messages")).startsWith("json/");
+        assertThat(value()).isEqualTo("{\"a\": \"x\", \"b\": [1, 2]}");
+    }
+
+    @Test
+    void migrate_stringWrittenWithJsonCast_shouldBeAssignedToJsonb() throws SQLException {
+        migrator(JSONB, null, "messages").migrate();
+
+        try (var connection = dataSource.getConnection()) {
+            queryExecutor.execute(connection, "INSERT INTO " + TABLE + " (id, messages) VALUES (?, ?::json)", "id2", "{\"c\": true}");
+        }
+
+        assertThat(column("messages")).startsWith("jsonb/");
+    }
+
+    @Test
+    void migrate_unknownColumn_shouldBeSkipped() {
+        assertThat(migrator(JSONB, null, "messages", "unknown").migrate()).isEqualTo(1);
+    }
+
+    private JsonColumnMigrator migrator(JsonColumnEncoding.Codec codec, String compression, String... columns) {
+        var encoding = new JsonColumnEncoding(TABLE, List.of(columns), codec, compression, Duration.ofSeconds(5));
+        return new JsonColumnMigrator(dataSourceRegistry, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, encoding, mock(Monitor.class));
+    }
+
+    private String column(String name) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("SELECT format_type(atttypid, atttypmod) || '/' || attcompression FROM pg_attribute WHERE attrelid = ?::regclass AND attname = ?")) {
+            statement.setString(1, TABLE);
+            statement.setString(2, name);
+            try (var resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    private String value() throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT messages FROM " + TABLE + " WHERE id = 'id1'")) {
+            assertThat(resultSet.next()).isTrue();
+            return resultSet.getString(1);
+        }
+    }
+}
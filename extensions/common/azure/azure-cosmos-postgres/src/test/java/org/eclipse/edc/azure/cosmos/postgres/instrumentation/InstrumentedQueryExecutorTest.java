@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.instrumentation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InstrumentedQueryExecutorTest {
+
+    private static final String SELECT = "SELECT * FROM edc_entity WHERE id IN (?, ?)";
+    private static final String TEMPLATE_ID = StatementTemplate.of(SELECT).id();
+
+    private final QueryExecutor delegate = mock();
+    private final Monitor monitor = mock();
+    private final Connection connection = mock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void query_shouldRecordLatencyAndRows() {
+        when(delegate.query(eq(connection), eq(false), any(), eq(SELECT), any(Object[].class))).thenReturn(Stream.of("a", "b"));
+        var executor = executor(Duration.ofMinutes(1), null);
+
+        try (var rows = executor.query(connection, false, rs -> rs.getString(1), SELECT, "id1", "id2")) {
+            assertThat(rows).containsExactly("a", "b");
+        }
+
+        assertThat(meterRegistry.get("edc.cosmos.sql.statement").tags("store", "entity", "statement", TEMPLATE_ID).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.cosmos.sql.statement.rows").tags("statement", TEMPLATE_ID).summary().totalAmount()).isEqualTo(2);
+        verify(monitor, never()).warning(anyString());
+    }
+
+    @Test
+    void execute_slow_shouldLogParameterShapes() {
+        when(delegate.execute(eq(connection), anyString(), any(Object[].class))).thenReturn(3);
+        var executor = executor(Duration.ZERO, null);
+
+        var rows = executor.execute(connection, "DELETE FROM edc_entity WHERE id = ? AND created_at < ?", "abc", 10L);
+
+        assertThat(rows).isEqualTo(3);
+        verify(monitor).warning(contains("parameters [String(3), Long]"));
+        assertThat(meterRegistry.get("edc.cosmos.sql.statement.slow").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.cosmos.sql.statement.rows").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void query_slow_shouldExplainOncePerInterval() {
+        when(delegate.query(eq(connection), anyBoolean(), any(), anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> Stream.of("row"));
+        var executor = executor(Duration.ZERO, Duration.ZERO);
+
+        executor.query(connection, false, rs -> rs.getString(1), SELECT, "id1", "id2").close();
+        executor.query(connection, false, rs -> rs.getString(1), SELECT, "id1", "id2").close();
+
+        verify(delegate, times(1)).query(eq(connection), eq(false), any(), eq("EXPLAIN " + SELECT), any(Object[].class));
+        verify(monitor).warning(startsWith("Plan of slow statement " + TEMPLATE_ID));
+    }
+
+    @Test
+    void query_slow_explainAnalyze_shouldUseAnalyze() {
+        when(delegate.query(eq(connection), anyBoolean(), any(), anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> Stream.of("row"));
+        var executor = new InstrumentedQueryExecutor(delegate, "entity", Duration.ZERO, Duration.ZERO, true, Duration.ofMinutes(5), 100,
+                meterRegistry, monitor, Clock.systemUTC());
+
+        executor.query(connection, false, rs -> rs.getString(1), SELECT, "id1", "id2").close();
+
+        verify(delegate).query(eq(connection), eq(false), any(), eq("EXPLAIN (ANALYZE, BUFFERS) " + SELECT), any(Object[].class));
+    }
+
+    @Test
+    void execute_moreTemplatesThanMaxStatements_shouldTagTheRestAsOther() {
+        var executor = new InstrumentedQueryExecutor(delegate, "entity", Duration.ofMinutes(1), null, false, Duration.ofMinutes(5), 3,
+                meterRegistry, monitor, Clock.systemUTC());
+
+        for (var i = 0; i < 10; i++) {
+            executor.execute(connection, "UPDATE edc_entity SET properties = properties #- '{path%d}' WHERE id = ?".formatted(i), "id1");
+        }
+
+        var tags = meterRegistry.find("edc.cosmos.sql.statement").timers().stream().map(timer -> timer.getId().getTag("statement")).toList();
+        assertThat(tags).hasSize(4).contains(InstrumentedQueryExecutor.OTHER);
+        assertThat(meterRegistry.get("edc.cosmos.sql.statement").tags("statement", InstrumentedQueryExecutor.OTHER).timer().count()).isEqualTo(7);
+    }
+
+    @Test
+    void execute_slow_shouldNotExplainWrites() {
+        var executor = executor(Duration.ZERO, Duration.ZERO);
+
+        executor.execute(connection, "UPDATE edc_entity SET state = ? WHERE id = ?", 1, "id1");
+
+        verify(delegate, never()).query(any(), anyBoolean(), any(), startsWith("EXPLAIN"), any(Object[].class));
+    }
+
+    @Test
+    void execute_failure_shouldCountBySqlState() {
+        when(delegate.execute(eq(connection), anyString(), any(Object[].class)))
+                .thenThrow(new EdcPersistenceException(new SQLException("deadlock", "40P01")));
+        var executor = executor(Duration.ofMinutes(1), null);
+
+        assertThatThrownBy(() -> executor.execute(connection, "UPDATE edc_entity SET state = ?", 1)).isInstanceOf(EdcPersistenceException.class);
+
+        assertThat(meterRegistry.get("edc.cosmos.sql.statement.errors").tags("sqlstate", "40", "retriable", "true").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shapes() {
+        assertThat(InstrumentedQueryExecutor.shapes(new Object[]{ null, "ab", 1, new ArrayList<>(List.of(1, 2)) })).isEqualTo("[null, String(2), Integer, ArrayList(2)]");
+    }
+
+    private InstrumentedQueryExecutor executor(Duration slowThreshold, Duration explainThreshold) {
+        return new InstrumentedQueryExecutor(delegate, "entity", slowThreshold, explainThreshold, false, Duration.ofMinutes(5), 100,
+                meterRegistry, monitor, Clock.systemUTC());
+    }
+}
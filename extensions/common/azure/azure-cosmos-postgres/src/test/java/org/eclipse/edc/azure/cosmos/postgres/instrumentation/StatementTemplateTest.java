@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.instrumentation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementTemplateTest {
+
+    @Test
+    void of_shouldCollapsePlaceholderLists() {
+        var two = StatementTemplate.of("SELECT * FROM edc_asset WHERE asset_id IN (?, ?)");
+        var three = StatementTemplate.of("SELECT *  FROM edc_asset\n WHERE asset_id IN (?,?, ?)");
+
+        assertThat(two).isEqualTo(three);
+        assertThat(two.normalized()).isEqualTo("SELECT * FROM edc_asset WHERE asset_id IN (?, ...)");
+        assertThat(two.id()).startsWith("select:edc_asset:");
+        assertThat(two.readOnly()).isTrue();
+    }
+
+    @Test
+    void of_shouldCollapseRows() {
+        var template = StatementTemplate.of("INSERT INTO edc_transfer_process (id, state, trace_context) VALUES (?, ?, ?::json), (?, ?, ?::json) ON CONFLICT (id) DO NOTHING");
+
+        assertThat(template.normalized()).isEqualTo("INSERT INTO edc_transfer_process (id, state, trace_context) VALUES (?, ...), ... ON CONFLICT (id) DO NOTHING");
+        assertThat(template.id()).startsWith("insert:edc_transfer_process:");
+        assertThat(template.readOnly()).isFalse();
+    }
+
+    @Test
+    void of_lockingSelect_shouldNotBeReadOnly() {
+        assertThat(StatementTemplate.of("SELECT * FROM edc_lease WHERE lease_id = ? FOR UPDATE").readOnly()).isFalse();
+        assertThat(StatementTemplate.of("SELECT updated_at FROM edc_lease").readOnly()).isTrue();
+    }
+
+    @Test
+    void of_differentStatements_shouldHaveDifferentIds() {
+        assertThat(StatementTemplate.of("UPDATE edc_lease SET leased_at = ? WHERE lease_id = ?").id())
+                .isNotEqualTo(StatementTemplate.of("UPDATE edc_lease SET leased_by = ? WHERE lease_id = ?").id());
+    }
+}
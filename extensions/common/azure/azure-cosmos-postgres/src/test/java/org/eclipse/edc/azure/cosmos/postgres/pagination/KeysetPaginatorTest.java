@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.pagination;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeysetPaginatorTest {
+
+    private static final KeysetMapping MAPPING = new KeysetMapping("id", "entity_id", "createdAt", Map.of("createdAt", "created_at"));
+
+    private final List<Map.Entry<String, Object>> rows = new ArrayList<>();
+    private final List<String> executedSql = new ArrayList<>();
+    private final List<Object[]> executedParameters = new ArrayList<>();
+    private final QueryExecutor queryExecutor = mock(QueryExecutor.class, invocation -> {
+        var arguments = invocation.getRawArguments();
+        executedSql.add((String) arguments[3]);
+        executedParameters.add((Object[]) arguments[4]);
+        var mapper = (ResultSetMapper<?>) arguments[2];
+        var mapped = new ArrayList<>();
+        for (var row : rows) {
+            mapped.add(mapper.mapResultSet(resultSet(row.getKey(), row.getValue())));
+        }
+        return mapped.stream();
+    });
+    private final DataSourceRegistry dataSourceRegistry = mock();
+    private final SqlQueryStatement statement = mock();
+    private final KeysetPaginator<String> paginator = new KeysetPaginator<>(dataSourceRegistry, "datasource", new NoopTransactionContext(), queryExecutor,
+            spec -> statement, MAPPING, this::loadById, id -> id);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        when(dataSourceRegistry.resolve("datasource")).thenReturn(dataSource);
+        when(statement.getQueryAsString()).thenReturn("SELECT * FROM edc_entity WHERE name = ? LIMIT ? OFFSET ?");
+        when(statement.getParameters()).thenReturn(new Object[]{ "foo", 3, 0 });
+    }
+
+    @Test
+    void query_firstPage() {
+        rows.addAll(List.of(Map.entry("id1", 10L), Map.entry("id2", 20L), Map.entry("id3", 30L)));
+
+        var page = paginator.query(QuerySpec.Builder.newInstance().limit(2).build(), null);
+
+        assertThat(page.items()).containsExactly("id1", "id2");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(ContinuationToken.decode(page.continuationToken()))
+                .satisfies(token -> {
+                    assertThat(token.sortField()).isEqualTo("createdAt");
+                    assertThat(token.id()).isEqualTo("id2");
+                });
+        assertThat(executedSql).containsExactly("SELECT * FROM edc_entity WHERE name = ? ORDER BY created_at ASC, entity_id ASC LIMIT ?");
+        assertThat(executedParameters.get(0)).containsExactly("foo", 3);
+    }
+
+    @Test
+    void query_withContinuationToken_shouldSeekPastLastKey() {
+        var token = new ContinuationToken("createdAt", SortOrder.DESC, 20, "id2").encode();
+        rows.add(Map.entry("id1", 10L));
+
+        var page = paginator.query(QuerySpec.Builder.newInstance().limit(2).sortOrder(SortOrder.DESC).build(), token);
+
+        assertThat(page.items()).containsExactly("id1");
+        assertThat(page.hasNext()).isFalse();
+        verify(statement).addWhereClause("(created_at, entity_id) < (?, ?)", 20, "id2");
+        assertThat(executedSql).containsExactly("SELECT * FROM edc_entity WHERE name = ? ORDER BY created_at DESC, entity_id DESC LIMIT ?");
+    }
+
+    @Test
+    void query_emptyPage_shouldNotLoadEntities() {
+        var page = paginator.query(QuerySpec.Builder.newInstance().limit(2).build(), null);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(executedSql).hasSize(1);
+    }
+
+    @Test
+    void query_tokenOfOtherSortOrder_shouldThrow() {
+        var token = new ContinuationToken("createdAt", SortOrder.ASC, 20, "id2").encode();
+
+        assertThatThrownBy(() -> paginator.query(QuerySpec.Builder.newInstance().sortOrder(SortOrder.DESC).build(), token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void query_unsupportedSortField_shouldThrow() {
+        assertThatThrownBy(() -> paginator.query(QuerySpec.Builder.newInstance().sortField("name").build(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void query_invalidToken_shouldThrow() {
+        assertThatThrownBy(() -> paginator.query(QuerySpec.none(), "not a token"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<String> loadById(QuerySpec spec) {
+        var ids = new ArrayList<>((List<String>) spec.getFilterExpression().get(0).getOperandRight());
+        // the store does not guarantee the order of an IN query
+        Collections.reverse(ids);
+        return ids.stream();
+    }
+
+    private ResultSet resultSet(String id, Object sortValue) throws SQLException {
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.getString("entity_id")).thenReturn(id);
+        when(resultSet.getObject("created_at")).thenReturn(sortValue);
+        return resultSet;
+    }
+}
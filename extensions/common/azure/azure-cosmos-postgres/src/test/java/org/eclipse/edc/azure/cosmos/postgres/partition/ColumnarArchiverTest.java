@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.azure.cosmos.postgres.partition;
+
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.mockito.Mockito.mock;
+
+@PostgresCosmosTest
+@ExtendWith(CosmosPostgresTestExtension.class)
+class ColumnarArchiverTest {
+
+    private static final String TABLE = "edc_archive_test";
+    private static final int ACTIVE = 100;
+    private static final int TERMINAL = 800;
+    private static final int FINAL = 1000;
+    private static final Instant NOW = Instant.parse("2026-10-15T12:00:00Z");
+    private static final Instant NEXT_MONTH = Instant.parse("2026-11-15T12:00:00Z");
+
+    private final TimePartitioning partitioning = new TimePartitioning(TABLE, "created_at", "state", List.of(TERMINAL, FINAL), 1, null, false, 60);
+    private DataSourceRegistry dataSourceRegistry;
+    private TransactionContext transactionContext;
+    private QueryExecutor queryExecutor;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp(DataSourceRegistry reg, TransactionContext transactionContext, QueryExecutor queryExecutor, DataSource dataSource,
+               CosmosPostgresTestExtension.SqlHelper helper) throws SQLException {
+        this.dataSourceRegistry = reg;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.dataSource = dataSource;
+        assumeThat(single("SELECT EXISTS (SELECT 1 FROM pg_am WHERE amname = 'columnar')")).as("citus columnar is available").isEqualTo("t");
+
+        helper.executeStatement("""
+                CREATE TABLE %s (
+                    id         VARCHAR NOT NULL,
+                    created_at BIGINT  NOT NULL,
+                    state      INTEGER NOT NULL,
+                    payload    JSON,
+                    lease_id   VARCHAR,
+                    PRIMARY KEY (id, created_at, state)
+                ) PARTITION BY RANGE (created_at);
+                """.formatted(TABLE));
+    }
+
+    @AfterEach
+    void tearDown(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.executeStatement("DROP TABLE IF EXISTS " + TABLE + " CASCADE");
+    }
+
+    @Test
+    void archive() throws SQLException {
+        var partitionManager = manager(NOW);
+        partitionManager.createPartitions();
+        insert("final", FINAL, NOW);
+        insert("active", ACTIVE, NEXT_MONTH);
+
+        archiver(partitionManager, NOW.plus(Duration.ofDays(60))).archive();
+
+        assertThat(accessMethod(TABLE + "_p202610_terminal")).isEqualTo("columnar");
+        assertThat(accessMethod(TABLE + "_p202610_active")).isEqualTo("heap");
+        assertThat(accessMethod(TABLE + "_p202611_terminal")).isEqualTo("heap");
+        assertThat(single("SELECT count(*) FROM " + TABLE)).isEqualTo("2");
+    }
+
+    @Test
+    void archive_laterWrites_shouldSucceed() throws SQLException {
+        var partitionManager = manager(NOW);
+        partitionManager.createPartitions();
+        insert("final", FINAL, NOW);
+        insert("active", ACTIVE, NEXT_MONTH);
+        archiver(partitionManager, NOW.plus(Duration.ofDays(60))).archive();
+        assertThat(accessMethod(TABLE + "_p202610_terminal")).isEqualTo("columnar");
+
+        // the same statements as a store, which does not filter by created_at
+        execute("UPDATE %s SET lease_id = ? WHERE id = ?", "lease", "active");
+        execute("UPDATE %s SET state = ?, lease_id = NULL WHERE id = ?", FINAL, "active");
+        execute("DELETE FROM %s WHERE id = ?", "active");
+
+        assertThat(single("SELECT count(*) FROM " + TABLE)).isEqualTo("1");
+        assertThat(single("SELECT state FROM %s WHERE id = 'final'".formatted(TABLE))).isEqualTo(String.valueOf(FINAL));
+    }
+
+    @Test
+    void archive_activeRowInMonth_shouldNotArchive() throws SQLException {
+        var partitionManager = manager(NOW);
+        partitionManager.createPartitions();
+        insert("final", FINAL, NOW);
+        insert("active", ACTIVE, NOW);
+
+        archiver(partitionManager, NOW.plus(Duration.ofDays(60))).archive();
+
+        assertThat(accessMethod(TABLE + "_p202610_terminal")).isEqualTo("heap");
+        // the active row can still reach its final state and be deleted afterwards
+        execute("UPDATE %s SET state = ? WHERE id = ?", FINAL, "active");
+        execute("DELETE FROM %s WHERE id = ?", "active");
+        assertThat(single("SELECT count(*) FROM " + TABLE)).isEqualTo("1");
+    }
+
+    @Test
+    void archive_terminalButNotFinalRow_shouldNotArchive() throws SQLException {
+        var partitionManager = manager(NOW);
+        partitionManager.createPartitions();
+        insert("final", FINAL, NOW);
+        insert("terminal", TERMINAL, NOW);
+
+        archiver(partitionManager, NOW.plus(Duration.ofDays(60))).archive();
+
+        assertThat(accessMethod(TABLE + "_p202610_terminal")).isEqualTo("heap");
+    }
+
+    @Test
+    void archive_leasedRow_shouldNotArchive() throws SQLException {
+        var partitionManager = manager(NOW);
+        partitionManager.createPartitions();
+        insert("final", FINAL, NOW);
+        try (var connection = dataSource.getConnection()) {
+            queryExecutor.execute(connection, "UPDATE %s SET lease_id = ? WHERE id = ?".formatted(TABLE), "lease", "final");
+        }
+
+        archiver(partitionManager, NOW.plus(Duration.ofDays(60))).archive();
+
+        assertThat(accessMethod(TABLE + "_p202610_terminal")).isEqualTo("heap");
+    }
+
+    @Test
+    void archive_monthNotOldEnough_shouldNotArchive() throws SQLException {
+        var partitionManager = manager(NOW);
+        partitionManager.createPartitions();
+
+        archiver(partitionManager, NOW.plus(Duration.ofDays(20))).archive();
+
+        assertThat(accessMethod(TABLE + "_p202610_terminal")).isEqualTo("heap");
+    }
+
+    private PartitionManager manager(Instant now) {
+        return new PartitionManager(dataSourceRegistry, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, partitioning,
+                Clock.fixed(now, ZoneOffset.UTC), mock(Monitor.class));
+    }
+
+    private ColumnarArchiver archiver(PartitionManager partitionManager, Instant now) {
+        return new ColumnarArchiver(dataSourceRegistry, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, partitionManager, partitioning,
+                List.of(FINAL), Duration.ofDays(30), Clock.fixed(now, ZoneOffset.UTC), mock(Monitor.class));
+    }
+
+    private void insert(String id, int state, Instant createdAt) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            queryExecutor.execute(connection, "INSERT INTO %s (id, created_at, state, payload) VALUES (?, ?, ?, ?::json)".formatted(TABLE),
+                    id, createdAt.toEpochMilli(), state, "{\"messages\": []}");
+        }
+    }
+
+    private void execute(String statement, Object... arguments) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            queryExecutor.execute(connection, statement.formatted(TABLE), arguments);
+        }
+    }
+
+    private String accessMethod(String table) throws SQLException {
+        return single("SELECT am.amname FROM pg_class c JOIN pg_am am ON am.oid = c.relam WHERE c.oid = '%s'::regclass".formatted(table));
+    }
+
+    private String single(String sql) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            return queryExecutor.single(connection, false, rs -> rs.getString(1), sql);
+        }
+    }
+}
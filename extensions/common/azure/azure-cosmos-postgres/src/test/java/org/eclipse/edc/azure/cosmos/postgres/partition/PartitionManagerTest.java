@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.azure.cosmos.postgres.partition;
+
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.mockito.Mockito.mock;
+
+@PostgresCosmosTest
+@ExtendWith(CosmosPostgresTestExtension.class)
+class PartitionManagerTest {
+
+    private static final String TABLE = "edc_partition_test";
+    private static final int ACTIVE = 100;
+    private static final int TERMINAL = 800;
+    private static final Instant NOW = Instant.parse("2026-10-15T12:00:00Z");
+
+    private DataSourceRegistry dataSourceRegistry;
+    private TransactionContext transactionContext;
+    private QueryExecutor queryExecutor;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp(DataSourceRegistry reg, TransactionContext transactionContext, QueryExecutor queryExecutor, DataSource dataSource,
+               CosmosPostgresTestExtension.SqlHelper helper) {
+        this.dataSourceRegistry = reg;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.dataSource = dataSource;
+        helper.executeStatement("""
+                CREATE TABLE %s (
+                    id         VARCHAR NOT NULL,
+                    created_at BIGINT  NOT NULL,
+                    state      INTEGER NOT NULL,
+                    PRIMARY KEY (id, created_at, state)
+                ) PARTITION BY RANGE (created_at);
+                """.formatted(TABLE));
+    }
+
+    @AfterEach
+    void tearDown(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.dropTable(TABLE);
+    }
+
+    @Test
+    void createPartitions() throws SQLException {
+        var manager = manager(Clock.fixed(NOW, ZoneOffset.UTC), null);
+
+        manager.createPartitions();
+
+        assertThat(manager.existingPartitions())
+                .containsExactly(YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12));
+
+        insert("active", ACTIVE);
+        insert("terminal", TERMINAL);
+        assertThat(partitionOf("active")).isEqualTo(TABLE + "_p202610_active");
+        assertThat(partitionOf("terminal")).isEqualTo(TABLE + "_p202610_terminal");
+
+        update("active", TERMINAL);
+        assertThat(partitionOf("active")).isEqualTo(TABLE + "_p202610_terminal");
+    }
+
+    @Test
+    void dropExpiredPartitions() throws SQLException {
+        manager(Clock.fixed(NOW, ZoneOffset.UTC), null).createPartitions();
+        insert("active", ACTIVE);
+        insert("terminal", TERMINAL);
+
+        var later = manager(Clock.fixed(NOW.plus(Duration.ofDays(60)), ZoneOffset.UTC), Duration.ofDays(30));
+        later.dropExpiredPartitions();
+
+        assertThat(count()).isEqualTo(1);
+        assertThat(later.existingPartitions()).contains(YearMonth.of(2026, 10));
+
+        update("active", TERMINAL);
+        later.dropExpiredPartitions();
+
+        assertThat(count()).isZero();
+        assertThat(later.existingPartitions()).doesNotContain(YearMonth.of(2026, 10)).contains(YearMonth.of(2026, 11));
+    }
+
+    private PartitionManager manager(Clock clock, Duration retention) {
+        var partitioning = new TimePartitioning(TABLE, "created_at", "state", List.of(TERMINAL), 2, retention, false, 60);
+        return new PartitionManager(dataSourceRegistry, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, partitioning, clock, mock(Monitor.class));
+    }
+
+    private void insert(String id, int state) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            queryExecutor.execute(connection, "INSERT INTO %s (id, created_at, state) VALUES (?, ?, ?)".formatted(TABLE), id, NOW.toEpochMilli(), state);
+        }
+    }
+
+    private void update(String id, int state) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            queryExecutor.execute(connection, "UPDATE %s SET state = ? WHERE id = ?".formatted(TABLE), state, id);
+        }
+    }
+
+    private String partitionOf(String id) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            return queryExecutor.single(connection, false, rs -> rs.getString(1), "SELECT tableoid::regclass::text FROM %s WHERE id = ?".formatted(TABLE), id);
+        }
+    }
+
+    private long count() throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            return queryExecutor.single(connection, false, rs -> rs.getLong(1), "SELECT count(*) FROM %s".formatted(TABLE));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.postgres.streaming;
+
+import org.eclipse.edc.azure.cosmos.postgres.pagination.KeysetMapping;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingQueryTest {
+
+    private static final KeysetMapping MAPPING = new KeysetMapping("id", "entity_id", "createdAt", Map.of("createdAt", "created_at"));
+
+    private final List<List<String>> loadedIds = new ArrayList<>();
+    private final DataSourceRegistry dataSourceRegistry = mock();
+    private final Connection connection = mock();
+    private final PreparedStatement statement = mock();
+    private final ResultSet resultSet = mock();
+    private final SqlQueryStatement queryStatement = mock();
+    private final StreamingQuery<String> query = new StreamingQuery<>(dataSourceRegistry, "datasource", spec -> queryStatement, MAPPING,
+            this::loadById, id -> id, 2);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(dataSourceRegistry.resolve("datasource")).thenReturn(dataSource);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(queryStatement.getQueryAsString()).thenReturn("SELECT * FROM edc_entity WHERE name = ? LIMIT ? OFFSET ?");
+        when(queryStatement.getParameters()).thenReturn(new Object[]{ "foo", Integer.MAX_VALUE, 0 });
+    }
+
+    @Test
+    void stream_shouldUseCursorAndLoadInPortions() throws SQLException {
+        rows("id1", "id2", "id3");
+
+        try (var entities = query.stream(QuerySpec.Builder.newInstance().limit(1).build())) {
+            assertThat(entities).containsExactly("id1", "id2", "id3");
+        }
+
+        assertThat(loadedIds).containsExactly(List.of("id1", "id2"), List.of("id3"));
+        verify(connection).prepareStatement("SELECT entity_id FROM edc_entity WHERE name = ?", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(connection).setAutoCommit(false);
+        verify(statement).setFetchSize(2);
+        verify(statement).setObject(1, "foo");
+        verify(connection).close();
+    }
+
+    @Test
+    void stream_withSortField_shouldOrder() throws SQLException {
+        rows();
+
+        try (var entities = query.stream(QuerySpec.Builder.newInstance().sortField("createdAt").sortOrder(SortOrder.DESC).build())) {
+            assertThat(entities).isEmpty();
+        }
+
+        verify(connection).prepareStatement("SELECT entity_id FROM edc_entity WHERE name = ? ORDER BY created_at DESC, entity_id DESC",
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    }
+
+    @Test
+    void stream_closedBeforeExhausted_shouldReleaseConnection() throws SQLException {
+        rows("id1", "id2", "id3");
+
+        try (var entities = query.stream(QuerySpec.none())) {
+            assertThat(entities.findFirst()).contains("id1");
+        }
+
+        var order = inOrder(resultSet, statement, connection);
+        order.verify(resultSet).close();
+        order.verify(statement).close();
+        order.verify(connection).rollback();
+        order.verify(connection).setAutoCommit(true);
+        order.verify(connection).close();
+    }
+
+    @Test
+    void stream_readFails_shouldReleaseConnection() throws SQLException {
+        when(resultSet.next()).thenThrow(new SQLException("connection reset"));
+
+        try (var entities = query.stream(QuerySpec.none())) {
+            assertThatThrownBy(entities::toList).isInstanceOf(EdcPersistenceException.class);
+        }
+
+        verify(connection).close();
+    }
+
+    @Test
+    void stream_queryFails_shouldReleaseConnection() throws SQLException {
+        when(statement.executeQuery()).thenThrow(new SQLException("syntax error"));
+
+        assertThatThrownBy(() -> query.stream(QuerySpec.none())).isInstanceOf(EdcPersistenceException.class);
+        verify(connection).close();
+    }
+
+    @Test
+    void stream_unsupportedSortField_shouldThrow() throws SQLException {
+        assertThatThrownBy(() -> query.stream(QuerySpec.Builder.newInstance().sortField("name").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(connection, never()).prepareStatement(anyString(), anyInt(), anyInt());
+    }
+
+    private void rows(String... ids) throws SQLException {
+        var remaining = new ArrayList<>(List.of(ids));
+        when(resultSet.next()).thenAnswer(invocation -> !remaining.isEmpty());
+        when(resultSet.getString("entity_id")).thenAnswer(invocation -> remaining.remove(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<String> loadById(QuerySpec spec) {
+        var ids = new ArrayList<>((List<String>) spec.getFilterExpression().get(0).getOperandRight());
+        loadedIds.add(List.copyOf(ids));
+        // the store does not guarantee the order of an IN query
+        Collections.reverse(ids);
+        return ids.stream();
+    }
+}
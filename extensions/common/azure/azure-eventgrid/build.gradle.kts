@@ -21,6 +21,9 @@ dependencies {
     implementation(libs.edc.lib.util)
 
     implementation(libs.azure.eventgrid)
+
+    testImplementation(libs.edc.junit)
+    testImplementation(testFixtures(project(":extensions:common:azure:azure-test")))
 }
 
 
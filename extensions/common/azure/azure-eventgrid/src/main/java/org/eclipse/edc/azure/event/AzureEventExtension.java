@@ -25,6 +25,7 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Duration;
 import java.util.Objects;
 
 @Extension(value = AzureEventExtension.NAME)
@@ -35,15 +36,35 @@ public class AzureEventExtension implements ServiceExtension {
     public static final String TOPIC_NAME_SETTING = "edc.events.topic.name";
     @Setting
     public static final String TOPIC_ENDPOINT_SETTING = "edc.events.topic.endpoint";
+    @Setting(description = "Number of lanes publishing events concurrently, the events of a transfer process always use the same lane", defaultValue = "8")
+    public static final String LANES_SETTING = "edc.events.lanes";
+    @Setting(description = "Maximum number of events of a lane sent in one request", defaultValue = "100")
+    public static final String BATCH_SIZE_SETTING = "edc.events.batch-size";
+    @Setting(description = "Maximum number of events queued per lane, further events are dropped", defaultValue = "10000")
+    public static final String LANE_CAPACITY_SETTING = "edc.events.lane-capacity";
+    @Setting(description = "Number of times a batch of events is retried before it is dropped", defaultValue = "3")
+    public static final String MAX_RETRIES_SETTING = "edc.events.max-retries";
+    @Setting(description = "Seconds to wait at shutdown for the queued events to be published", defaultValue = "10")
+    public static final String SHUTDOWN_TIMEOUT_SETTING = "edc.events.shutdown-timeout";
     public static final String DEFAULT_SYSTEM_TOPIC_NAME = "connector-events";
     public static final String DEFAULT_ENDPOINT_NAME_TEMPLATE = "https://%s.westeurope-1.eventgrid.azure.net/api/events";
 
+    private static final int DEFAULT_LANES = 8;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_LANE_CAPACITY = 10000;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
     @Inject
     private Monitor monitor;
 
     @Inject
     private Vault vault;
 
+    private EventLanes lanes;
+    private Duration shutdownTimeout;
+
     @Override
     public String name() {
         return NAME;
@@ -62,7 +83,12 @@ public class AzureEventExtension implements ServiceExtension {
                 .buildEventGridEventPublisherAsyncClient();
 
 
-        var publisher = new AzureEventGridPublisher(context.getComponentId(), monitor, publisherClient);
+        var config = context.getConfig();
+        lanes = new EventLanes(publisherClient, config.getInteger(LANES_SETTING, DEFAULT_LANES), config.getInteger(BATCH_SIZE_SETTING, DEFAULT_BATCH_SIZE),
+                config.getInteger(LANE_CAPACITY_SETTING, DEFAULT_LANE_CAPACITY), config.getInteger(MAX_RETRIES_SETTING, DEFAULT_MAX_RETRIES),
+                RETRY_BACKOFF, monitor);
+        shutdownTimeout = Duration.ofSeconds(config.getLong(SHUTDOWN_TIMEOUT_SETTING, DEFAULT_SHUTDOWN_TIMEOUT_SECONDS));
+        var publisher = new AzureEventGridPublisher(context.getComponentId(), lanes);
 
         var processObservable = context.getService(TransferProcessObservable.class, true);
         if (processObservable != null) {
@@ -70,4 +96,17 @@ public class AzureEventExtension implements ServiceExtension {
         }
     }
 
+    @Override
+    public void shutdown() {
+        if (lanes == null) {
+            return;
+        }
+        try {
+            if (!lanes.awaitIdle(shutdownTimeout)) {
+                monitor.warning("AzureEventExtension: events still queued at shutdown were not published");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
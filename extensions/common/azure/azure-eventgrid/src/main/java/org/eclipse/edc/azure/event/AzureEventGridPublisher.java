@@ -16,59 +16,57 @@ package org.eclipse.edc.azure.event;
 
 import com.azure.core.util.BinaryData;
 import com.azure.messaging.eventgrid.EventGridEvent;
-import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
 import org.eclipse.edc.connector.controlplane.transfer.spi.observe.TransferProcessListener;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
-import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
-import reactor.core.publisher.BaseSubscriber;
-import reactor.core.publisher.Mono;
 
+/**
+ * Publishes the state changes of the transfer processes to Event Grid. The events of a transfer process are published
+ * in order through the same lane of the {@link EventLanes}, while the events of other processes are published
+ * concurrently through the other lanes.
+ */
 class AzureEventGridPublisher implements TransferProcessListener {
 
-    private final Monitor monitor;
-    private final EventGridPublisherAsyncClient<EventGridEvent> client;
+    private final EventLanes lanes;
     private final String eventTypeTransferprocess = "dataspaceconnector/transfer/transferprocess";
     private final String connectorId;
 
-    AzureEventGridPublisher(String connectorId, Monitor monitor, EventGridPublisherAsyncClient<EventGridEvent> client) {
+    AzureEventGridPublisher(String connectorId, EventLanes lanes) {
         this.connectorId = connectorId;
-        this.monitor = monitor;
-        this.client = client;
+        this.lanes = lanes;
     }
 
     @Override
     public void initiated(TransferProcess process) {
         var dto = createTransferProcessDto(process);
         if (process.getType() == TransferProcess.Type.CONSUMER) {
-            sendEvent("createdConsumer", eventTypeTransferprocess, dto).subscribe(new LoggingSubscriber<>("Transfer process created"));
+            sendEvent(process, "createdConsumer", eventTypeTransferprocess, dto);
         } else {
-            sendEvent("createdProvider", eventTypeTransferprocess, dto).subscribe(new LoggingSubscriber<>("Transfer process created"));
+            sendEvent(process, "createdProvider", eventTypeTransferprocess, dto);
         }
     }
 
     @Override
     public void completed(TransferProcess process) {
-        sendEvent("completed", eventTypeTransferprocess, createTransferProcessDto(process)).subscribe(new LoggingSubscriber<>("Transfer process completed"));
+        sendEvent(process, "completed", eventTypeTransferprocess, createTransferProcessDto(process));
     }
 
     @Override
     public void deprovisioned(TransferProcess process) {
-        sendEvent("deprovisioned", eventTypeTransferprocess, createTransferProcessDto(process)).subscribe(new LoggingSubscriber<>("Transfer process resources deprovisioned"));
-
+        sendEvent(process, "deprovisioned", eventTypeTransferprocess, createTransferProcessDto(process));
     }
 
     @Override
     public void terminated(TransferProcess process) {
-        sendEvent("ended", eventTypeTransferprocess, createTransferProcessDto(process)).subscribe(new LoggingSubscriber<>("Transfer process ended"));
-
+        sendEvent(process, "ended", eventTypeTransferprocess, createTransferProcessDto(process));
     }
 
-    private Mono<Void> sendEvent(String what, String where, Object payload) {
+    private void sendEvent(TransferProcess process, String what, String where, Object payload) {
         var data = BinaryData.fromObject(payload);
         var evt = new EventGridEvent(what, where, data, "0.1");
-        return client.sendEvent(evt);
+        // the id is set from creation on, unlike the correlation id published as request id
+        lanes.publish(process.getId(), evt);
     }
 
     @NotNull
@@ -80,23 +78,4 @@ class AzureEventGridPublisher implements TransferProcessListener {
                 .type(process.getType())
                 .build();
     }
-
-    private class LoggingSubscriber<T> extends BaseSubscriber<T> {
-
-        private final String message;
-
-        LoggingSubscriber(String message) {
-            this.message = message;
-        }
-
-        @Override
-        protected void hookOnComplete() {
-            monitor.debug("AzureEventGrid: " + message);
-        }
-
-        @Override
-        protected void hookOnError(@NotNull Throwable throwable) {
-            monitor.severe("Error during event publishing", throwable);
-        }
-    }
 }
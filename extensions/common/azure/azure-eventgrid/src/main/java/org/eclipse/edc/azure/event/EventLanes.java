@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.event;
+
+import com.azure.messaging.eventgrid.EventGridEvent;
+import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes events to Event Grid through a fixed number of lanes sending concurrently.
+ * <p>
+ * The events of a key, e.g. of a transfer process, always go through the same lane. A lane sends its events in
+ * batches, one batch at a time, and retries a failed batch before sending the next one, so that the events of a key are
+ * published in the order they were queued. Publishing never blocks the caller: an event is dropped if its lane already
+ * queues {@code laneCapacity} events.
+ */
+class EventLanes {
+
+    private final EventGridPublisherAsyncClient<EventGridEvent> client;
+    private final int batchSize;
+    private final int laneCapacity;
+    private final Retry retry;
+    private final Monitor monitor;
+    private final List<Lane> lanes;
+
+    EventLanes(EventGridPublisherAsyncClient<EventGridEvent> client, int laneCount, int batchSize, int laneCapacity, int maxRetries,
+               Duration retryBackoff, Monitor monitor) {
+        this.client = client;
+        this.batchSize = Math.max(1, batchSize);
+        this.laneCapacity = laneCapacity;
+        this.retry = Retry.backoff(maxRetries, retryBackoff);
+        this.monitor = monitor;
+        this.lanes = new ArrayList<>();
+        for (var i = 0; i < Math.max(1, laneCount); i++) {
+            lanes.add(new Lane(i));
+        }
+    }
+
+    /**
+     * Queues an event on the lane of its key.
+     *
+     * @return false if the event was dropped because its lane is full
+     */
+    boolean publish(String key, EventGridEvent event) {
+        var lane = lanes.get(key != null ? Math.floorMod(key.hashCode(), lanes.size()) : 0);
+        if (!lane.offer(event)) {
+            monitor.warning("AzureEventGrid: lane %d is full, dropping event %s".formatted(lane.index, event.getEventType()));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Waits until all queued events are sent, or the timeout elapses.
+     *
+     * @return true if no event is left to send
+     */
+    boolean awaitIdle(Duration timeout) throws InterruptedException {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        while (lanes.stream().anyMatch(Lane::busy)) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private class Lane {
+
+        private final int index;
+        private final Queue<EventGridEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        Lane(int index) {
+            this.index = index;
+        }
+
+        boolean offer(EventGridEvent event) {
+            if (size.incrementAndGet() > laneCapacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            queue.add(event);
+            drain();
+            return true;
+        }
+
+        boolean busy() {
+            return size.get() > 0 || sending.get();
+        }
+
+        private void drain() {
+            if (!sending.compareAndSet(false, true)) {
+                return;
+            }
+            var batch = new ArrayList<EventGridEvent>(batchSize);
+            EventGridEvent event;
+            while (batch.size() < batchSize && (event = queue.poll()) != null) {
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                sending.set(false);
+                // an event queued while the flag was still set is sent by this thread
+                if (!queue.isEmpty()) {
+                    drain();
+                }
+                return;
+            }
+            size.addAndGet(-batch.size());
+
+            Mono.defer(() -> client.sendEvents(batch))
+                    .retryWhen(retry)
+                    .subscribe(null, throwable -> {
+                        monitor.severe("AzureEventGrid: error publishing %d events of lane %d".formatted(batch.size(), index), throwable);
+                        next();
+                    }, () -> {
+                        monitor.debug("AzureEventGrid: published %d events of lane %d".formatted(batch.size(), index));
+                        next();
+                    });
+        }
+
+        private void next() {
+            sending.set(false);
+            drain();
+        }
+    }
+}
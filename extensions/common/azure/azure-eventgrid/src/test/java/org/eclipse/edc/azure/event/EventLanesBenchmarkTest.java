@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.event;
+
+import com.azure.core.util.BinaryData;
+import com.azure.messaging.eventgrid.EventGridEvent;
+import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
+import org.eclipse.edc.azure.testfixtures.annotations.EventGridBenchmark;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Publishes the events of many transfer processes, from several threads, to an Event Grid answering each request after
+ * a fixed latency, and reports the throughput of an increasing number of lanes. The throughput depends on the machine,
+ * so it is reported and not asserted; the ordering of the events is covered by {@link EventLanesTest}.
+ */
+@EventGridBenchmark
+class EventLanesBenchmarkTest {
+
+    private static final int PROCESSES = 200;
+    private static final int EVENTS_PER_PROCESS = 5;
+    private static final int PRODUCERS = 4;
+    private static final int BATCH_SIZE = 10;
+    private static final Duration LATENCY = Duration.ofMillis(10);
+
+    @Test
+    void throughput(TestReporter reporter) throws InterruptedException {
+        reporter.publishEntry("setup", "processes=%d events=%d batch-size=%d latency=%d ms".formatted(PROCESSES, PROCESSES * EVENTS_PER_PROCESS,
+                BATCH_SIZE, LATENCY.toMillis()));
+        for (var laneCount : new int[]{ 1, 4, 16 }) {
+            reporter.publishEntry("%d lanes".formatted(laneCount), "%.0f events/s".formatted(run(laneCount)));
+        }
+    }
+
+    private double run(int laneCount) throws InterruptedException {
+        var received = new ConcurrentHashMap<String, List<Integer>>();
+        EventGridPublisherAsyncClient<EventGridEvent> client = mock();
+        when(client.sendEvents(any())).thenAnswer(invocation -> {
+            Iterable<EventGridEvent> events = invocation.getArgument(0);
+            return Mono.fromRunnable(() -> events.forEach(event -> received.computeIfAbsent(event.getSubject(), subject -> new ArrayList<>())
+                            .add(event.getData().toObject(Integer.class))))
+                    .then(Mono.delay(LATENCY))
+                    .then();
+        });
+        var lanes = new EventLanes(client, laneCount, BATCH_SIZE, PROCESSES * EVENTS_PER_PROCESS, 3, Duration.ofMillis(10), mock(Monitor.class));
+
+        var start = System.nanoTime();
+        var producers = Executors.newFixedThreadPool(PRODUCERS);
+        for (var producer = 0; producer < PRODUCERS; producer++) {
+            var first = producer;
+            producers.execute(() -> {
+                // every process is published by a single producer, as by the state machine of the transfer processes
+                for (var sequence = 0; sequence < EVENTS_PER_PROCESS; sequence++) {
+                    for (var process = first; process < PROCESSES; process += PRODUCERS) {
+                        var id = "process-" + process;
+                        lanes.publish(id, new EventGridEvent(id, "type", BinaryData.fromObject(sequence), "0.1"));
+                    }
+                }
+            });
+        }
+        producers.shutdown();
+        assertThat(producers.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(lanes.awaitIdle(Duration.ofMinutes(1))).isTrue();
+        var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        assertThat(received).hasSize(PROCESSES);
+        assertThat(received.values()).allSatisfy(sequences -> assertThat(sequences).containsExactly(0, 1, 2, 3, 4));
+        return PROCESSES * EVENTS_PER_PROCESS / seconds;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.event;
+
+import com.azure.core.util.BinaryData;
+import com.azure.messaging.eventgrid.EventGridEvent;
+import com.azure.messaging.eventgrid.EventGridPublisherAsyncClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventLanesTest {
+
+    private final EventGridPublisherAsyncClient<EventGridEvent> client = mock();
+    private final List<String> sent = new ArrayList<>();
+
+    @Test
+    void publish_failedBatch_shouldBeRetriedBeforeNextBatch() throws InterruptedException {
+        var attempts = new AtomicInteger();
+        when(client.sendEvents(any())).thenAnswer(invocation -> {
+            Iterable<EventGridEvent> events = invocation.getArgument(0);
+            return Mono.defer(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    return Mono.error(new IllegalStateException("unavailable"));
+                }
+                events.forEach(event -> sent.add(event.getSubject()));
+                return Mono.<Void>empty();
+            }).delaySubscription(Duration.ofMillis(5));
+        });
+        var lanes = new EventLanes(client, 1, 1, 10, 3, Duration.ofMillis(1), mock(Monitor.class));
+
+        lanes.publish("process", event("initiated"));
+        lanes.publish("process", event("completed"));
+
+        assertThat(lanes.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(sent).containsExactly("initiated", "completed");
+    }
+
+    @Test
+    void publish_laneFull_shouldDropEvent() {
+        when(client.sendEvents(any())).thenReturn(Mono.never());
+        var lanes = new EventLanes(client, 1, 1, 2, 0, Duration.ofMillis(1), mock(Monitor.class));
+
+        // the first event is in flight, the two next ones fill the lane
+        assertThat(lanes.publish("process", event("1"))).isTrue();
+        assertThat(lanes.publish("process", event("2"))).isTrue();
+        assertThat(lanes.publish("process", event("3"))).isTrue();
+        assertThat(lanes.publish("process", event("4"))).isFalse();
+    }
+
+    @Test
+    void publish_concurrentProducers_shouldKeepOrderOfEveryProcess() throws InterruptedException {
+        var received = new ConcurrentHashMap<String, List<Integer>>();
+        when(client.sendEvents(any())).thenAnswer(invocation -> {
+            Iterable<EventGridEvent> events = invocation.getArgument(0);
+            return Mono.fromRunnable(() -> events.forEach(event -> received.computeIfAbsent(event.getSubject(), subject -> new ArrayList<>())
+                            .add(event.getData().toObject(Integer.class))))
+                    .then(Mono.delay(Duration.ofMillis(1)))
+                    .then();
+        });
+        var lanes = new EventLanes(client, 4, 10, 1000, 3, Duration.ofMillis(1), mock(Monitor.class));
+
+        var producers = Executors.newFixedThreadPool(4);
+        for (var producer = 0; producer < 4; producer++) {
+            var first = producer;
+            producers.execute(() -> {
+                // every process is published by a single producer, as by the state machine of the transfer processes
+                for (var sequence = 0; sequence < 5; sequence++) {
+                    for (var process = first; process < 40; process += 4) {
+                        var id = "process-" + process;
+                        lanes.publish(id, new EventGridEvent(id, "type", BinaryData.fromObject(sequence), "0.1"));
+                    }
+                }
+            });
+        }
+        producers.shutdown();
+        assertThat(producers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(lanes.awaitIdle(Duration.ofSeconds(10))).isTrue();
+        assertThat(received).hasSize(40);
+        assertThat(received.values()).allSatisfy(sequences -> assertThat(sequences).containsExactly(0, 1, 2, 3, 4));
+    }
+
+    private EventGridEvent event(String subject) {
+        return new EventGridEvent(subject, "type", BinaryData.fromString("{}"), "0.1");
+    }
+}
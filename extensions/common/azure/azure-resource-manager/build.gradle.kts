@@ -22,6 +22,7 @@ dependencies {
     implementation(libs.azure.identity)
     implementation(libs.azure.resourcemanager)
     implementation(libs.azure.resourcemanager.authorization)
+    api(libs.micrometer.core)
 
     testImplementation(testFixtures(project(":extensions:common:azure:azure-test")))
 
@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.resourcemanager;
+
+import com.azure.resourcemanager.AzureResourceManager;
+import com.azure.resourcemanager.resources.models.ResourceGroup;
+import com.azure.resourcemanager.storage.models.StorageAccount;
+import com.azure.resourcemanager.storage.models.StorageAccountKey;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches the resource metadata looked up through the {@link AzureResourceManager}, to save the Azure Resource Manager
+ * read requests shared by the whole subscription.
+ * <p>
+ * Entries expire after the time to live of their resource type, and the least recently used entries are dropped
+ * beyond the maximum size. Writes run through {@link #write} invalidate the entry of the written resource, other
+ * writes must call {@link #invalidate}.
+ */
+public class ArmMetadataCache {
+
+    public static final String RESOURCE_GROUP = "resource-group";
+    public static final String STORAGE_ACCOUNT = "storage-account";
+    public static final String STORAGE_ACCOUNT_KEYS = "storage-account-keys";
+
+    private final AzureResourceManager resourceManager;
+    private final int maxSize;
+    private final Function<String, Duration> timeToLive;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Entry> entries;
+    private long invalidations;
+
+    /**
+     * Creates the cache.
+     *
+     * @param maxSize the maximum number of cached entries, 0 disables the cache
+     * @param timeToLive the time to live of the entries of a resource type
+     */
+    public ArmMetadataCache(AzureResourceManager resourceManager, int maxSize, Function<String, Duration> timeToLive, Clock clock, MeterRegistry meterRegistry) {
+        this.resourceManager = resourceManager;
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        Gauge.builder("edc.azure.arm.cache.size", this, ArmMetadataCache::size)
+                .description("Number of Azure resource metadata entries cached")
+                .register(meterRegistry);
+    }
+
+    public ResourceGroup resourceGroup(String name) {
+        return get(RESOURCE_GROUP, name, () -> resourceManager.resourceGroups().getByName(name));
+    }
+
+    public StorageAccount storageAccount(String resourceGroup, String name) {
+        return get(STORAGE_ACCOUNT, resourceGroup + "/" + name, () -> resourceManager.storageAccounts().getByResourceGroup(resourceGroup, name));
+    }
+
+    public List<StorageAccountKey> storageAccountKeys(String resourceGroup, String name) {
+        return get(STORAGE_ACCOUNT_KEYS, resourceGroup + "/" + name, () -> storageAccount(resourceGroup, name).getKeys());
+    }
+
+    /**
+     * Returns a cached entry, loading it if it is not cached or expired.
+     *
+     * @param resourceType the type of the resource, which sets the time to live of the entry
+     * @param id the identifier of the resource within its type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String resourceType, String id, Supplier<T> loader) {
+        var key = key(resourceType, id);
+        long generation;
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+                count(resourceType, "hit");
+                return (T) entry.value();
+            }
+            generation = invalidations;
+        }
+        count(resourceType, "miss");
+        var value = loader.get();
+        var ttl = timeToLive.apply(resourceType);
+        if (value != null && maxSize > 0 && !ttl.isZero()) {
+            synchronized (entries) {
+                // a value loaded while an entry was invalidated may predate the write
+                if (generation == invalidations) {
+                    entries.put(key, new Entry(value, clock.instant().plus(ttl)));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Runs a write to a resource and invalidates its entry. Keys derived from a storage account are invalidated with
+     * the account.
+     */
+    public <T> T write(String resourceType, String id, Supplier<T> write) {
+        invalidate(resourceType, id);
+        try {
+            return write.get();
+        } finally {
+            invalidate(resourceType, id);
+        }
+    }
+
+    public void invalidate(String resourceType, String id) {
+        synchronized (entries) {
+            invalidations++;
+            entries.remove(key(resourceType, id));
+            if (STORAGE_ACCOUNT.equals(resourceType)) {
+                entries.remove(key(STORAGE_ACCOUNT_KEYS, id));
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations++;
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void count(String resourceType, String result) {
+        meterRegistry.counter("edc.azure.arm.cache.requests", "type", resourceType, "result", result).increment();
+    }
+
+    private static String key(String resourceType, String id) {
+        return resourceType + ":" + id.toLowerCase();
+    }
+
+    private record Entry(Object value, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.resourcemanager;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.SyncPoller;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.spi.EdcException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs Azure Resource Manager operations concurrently, with a bounded number of operations in progress per resource
+ * type.
+ * <p>
+ * Operations are held back while the {@link ArmThrottle} reports the subscription as throttled, and operations failing
+ * with {@code 429 Too Many Requests} are retried once the throttling delay elapsed. The long-running operations are
+ * polled by a single periodic task, which only sends the polls that are due to the worker threads.
+ */
+public class ArmOperationExecutor {
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+    private final ArmThrottle throttle;
+    private final Function<String, Integer> parallelism;
+    private final int maxRetries;
+    private final Duration pollInterval;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Queue<PendingPoll<?>> polls = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates the executor and starts polling the long-running operations.
+     *
+     * @param parallelism the maximum number of operations in progress for a resource type
+     * @param maxRetries the number of times a throttled operation is retried
+     */
+    public ArmOperationExecutor(ExecutorService workers, ScheduledExecutorService scheduler, ArmThrottle throttle, Function<String, Integer> parallelism,
+                                int maxRetries, Duration pollInterval, MeterRegistry meterRegistry) {
+        this.workers = workers;
+        this.scheduler = scheduler;
+        this.throttle = throttle;
+        this.parallelism = parallelism;
+        this.maxRetries = maxRetries;
+        this.pollInterval = pollInterval;
+        this.meterRegistry = meterRegistry;
+        scheduler.scheduleWithFixedDelay(this::pollDue, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs an operation completing synchronously, e.g. {@code azure.storageAccounts().define(name)...create()}.
+     *
+     * @param resourceType the type of the resource the operation is about, which bounds the operations in progress
+     */
+    public <T> CompletableFuture<T> execute(String resourceType, Supplier<T> operation) {
+        var result = new CompletableFuture<T>();
+        var lane = lane(resourceType);
+        var sample = Timer.start(meterRegistry);
+        lane.submit(() -> attempt(lane, 0, operation, value -> {
+            complete(result, value, null, sample, resourceType);
+            lane.release();
+        }, failure -> {
+            complete(result, null, failure, sample, resourceType);
+            lane.release();
+        }));
+        return result;
+    }
+
+    /**
+     * Runs a long-running operation, e.g. {@code azure.genericResources().beginDeleteById(id)}. The operation counts
+     * as in progress until it completes.
+     *
+     * @param resourceType the type of the resource the operation is about, which bounds the operations in progress
+     * @param operation begins the operation and returns its poller
+     */
+    public <T> CompletableFuture<T> executeLongRunning(String resourceType, Supplier<SyncPoller<?, T>> operation) {
+        var result = new CompletableFuture<T>();
+        var lane = lane(resourceType);
+        var sample = Timer.start(meterRegistry);
+        lane.submit(() -> attempt(lane, 0, operation, poller -> {
+            polls.add(new PendingPoll<>(resourceType, lane, poller, result, sample, System.nanoTime() + pollInterval.toNanos()));
+        }, failure -> {
+            complete(result, null, failure, sample, resourceType);
+            lane.release();
+        }));
+        return result;
+    }
+
+    private <T> void attempt(Lane lane, int retry, Supplier<T> call, Consumer<T> onSuccess, Consumer<Exception> onFailure) {
+        T value;
+        try {
+            value = call.get();
+        } catch (Exception e) {
+            if (isThrottled(e) && retry < maxRetries) {
+                meterRegistry.counter("edc.azure.arm.operations.retries", "type", lane.resourceType).increment();
+                dispatch(() -> attempt(lane, retry + 1, call, onSuccess, onFailure));
+            } else {
+                onFailure.accept(e);
+            }
+            return;
+        }
+        onSuccess.accept(value);
+    }
+
+    private void pollDue() {
+        var now = System.nanoTime();
+        for (var poll : polls) {
+            if (poll.nextPollAt - now <= 0 && polls.remove(poll)) {
+                workers.execute(() -> poll(poll));
+            }
+        }
+    }
+
+    private <T> void poll(PendingPoll<T> poll) {
+        try {
+            var response = poll.poller.poll();
+            var status = response.getStatus();
+            if (status == LongRunningOperationStatus.SUCCESSFULLY_COMPLETED) {
+                complete(poll.result, poll.poller.getFinalResult(), null, poll.sample, poll.resourceType);
+                poll.lane.release();
+            } else if (status.isComplete()) {
+                complete(poll.result, null, new EdcException("Azure Resource Manager operation ended with status " + status), poll.sample, poll.resourceType);
+                poll.lane.release();
+            } else {
+                var delay = response.getRetryAfter() != null ? response.getRetryAfter() : pollInterval;
+                delay = delay.compareTo(throttle.delay()) >= 0 ? delay : throttle.delay();
+                polls.add(poll.next(System.nanoTime() + delay.toNanos()));
+            }
+        } catch (Exception e) {
+            if (isThrottled(e)) {
+                polls.add(poll.next(System.nanoTime() + Math.max(pollInterval.toNanos(), throttle.delay().toNanos())));
+            } else {
+                complete(poll.result, null, e, poll.sample, poll.resourceType);
+                poll.lane.release();
+            }
+        }
+    }
+
+    private <T> void complete(CompletableFuture<T> result, T value, Exception failure, Timer.Sample sample, String resourceType) {
+        sample.stop(Timer.builder("edc.azure.arm.operations")
+                .description("Azure Resource Manager operations run by the executor, including the time they were queued")
+                .tag("type", resourceType)
+                .tag("outcome", failure == null ? SUCCESS : FAILURE)
+                .register(meterRegistry));
+        if (failure == null) {
+            result.complete(value);
+        } else {
+            result.completeExceptionally(failure);
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        var delay = throttle.delay();
+        if (delay.isZero()) {
+            workers.execute(task);
+        } else {
+            scheduler.schedule(() -> workers.execute(task), delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Lane lane(String resourceType) {
+        return lanes.computeIfAbsent(resourceType, type -> {
+            var lane = new Lane(type, Math.max(1, parallelism.apply(type)));
+            Gauge.builder("edc.azure.arm.operations.active", lane, Lane::running)
+                    .description("Azure Resource Manager operations in progress")
+                    .tag("type", type)
+                    .register(meterRegistry);
+            Gauge.builder("edc.azure.arm.operations.queued", lane, Lane::queued)
+                    .description("Azure Resource Manager operations waiting for a slot of their resource type")
+                    .tag("type", type)
+                    .register(meterRegistry);
+            return lane;
+        });
+    }
+
+    private static boolean isThrottled(Exception exception) {
+        return exception instanceof HttpResponseException responseException && responseException.getResponse() != null &&
+                responseException.getResponse().getStatusCode() == ArmThrottle.TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * Operations of a resource type, of which at most {@code limit} are in progress.
+     */
+    private class Lane {
+
+        private final String resourceType;
+        private final int limit;
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private int running;
+
+        Lane(String resourceType, int limit) {
+            this.resourceType = resourceType;
+            this.limit = limit;
+        }
+
+        void submit(Runnable task) {
+            synchronized (this) {
+                if (running >= limit) {
+                    pending.add(task);
+                    return;
+                }
+                running++;
+            }
+            dispatch(task);
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    running--;
+                    return;
+                }
+            }
+            dispatch(next);
+        }
+
+        synchronized int running() {
+            return running;
+        }
+
+        synchronized int queued() {
+            return pending.size();
+        }
+    }
+
+    private record PendingPoll<T>(String resourceType, Lane lane, SyncPoller<?, T> poller, CompletableFuture<T> result, Timer.Sample sample, long nextPollAt) {
+
+        PendingPoll<T> next(long nextPollAt) {
+            return new PendingPoll<>(resourceType, lane, poller, result, sample, nextPollAt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.resourcemanager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Tracks the throttling of the Azure Resource Manager requests of the subscription, from the {@code Retry-After} header
+ * of the throttled responses and the {@code x-ms-ratelimit-remaining-subscription-*} headers of all responses. The
+ * {@link ArmOperationExecutor} holds back the operations while the subscription is throttled.
+ */
+public class ArmThrottle {
+
+    static final String REMAINING_READS_HEADER = "x-ms-ratelimit-remaining-subscription-reads";
+    static final String REMAINING_WRITES_HEADER = "x-ms-ratelimit-remaining-subscription-writes";
+    static final int TOO_MANY_REQUESTS = 429;
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(10);
+
+    private final int minRemainingRequests;
+    private final Duration lowRemainingPause;
+    private final Clock clock;
+    private final Counter throttled;
+
+    private Instant pausedUntil = Instant.MIN;
+
+    public ArmThrottle(int minRemainingRequests, Duration lowRemainingPause, Clock clock, MeterRegistry meterRegistry) {
+        this.minRemainingRequests = minRemainingRequests;
+        this.lowRemainingPause = lowRemainingPause;
+        this.clock = clock;
+        this.throttled = Counter.builder("edc.azure.arm.throttled")
+                .description("Azure Resource Manager requests throttled by the subscription")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the response to a request.
+     *
+     * @param statusCode the status code of the response
+     * @param retryAfter the {@code Retry-After} header, if any
+     * @param remainingRequests the {@code x-ms-ratelimit-remaining-subscription-*} header matching the request, if any
+     */
+    public synchronized void onResponse(int statusCode, @Nullable String retryAfter, @Nullable String remainingRequests) {
+        var now = clock.instant();
+        if (statusCode == TOO_MANY_REQUESTS) {
+            throttled.increment();
+            pauseUntil(now.plus(retryAfter(retryAfter, now)));
+        } else if (remainingRequests != null) {
+            try {
+                if (Integer.parseInt(remainingRequests.trim()) < minRemainingRequests) {
+                    pauseUntil(now.plus(lowRemainingPause));
+                }
+            } catch (NumberFormatException e) {
+                // ignore malformed headers
+            }
+        }
+    }
+
+    /**
+     * Returns how long operations must be held back, zero if they can be sent right away.
+     */
+    public synchronized Duration delay() {
+        var now = clock.instant();
+        return pausedUntil.isAfter(now) ? Duration.between(now, pausedUntil) : Duration.ZERO;
+    }
+
+    private void pauseUntil(Instant instant) {
+        if (instant.isAfter(pausedUntil)) {
+            pausedUntil = instant;
+        }
+    }
+
+    private Duration retryAfter(@Nullable String header, Instant now) {
+        if (header == null || header.isBlank()) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                var date = ZonedDateTime.parse(header.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return date.isAfter(now) ? Duration.between(now, date) : Duration.ZERO;
+            } catch (DateTimeParseException ex) {
+                return DEFAULT_RETRY_AFTER;
+            }
+        }
+    }
+}
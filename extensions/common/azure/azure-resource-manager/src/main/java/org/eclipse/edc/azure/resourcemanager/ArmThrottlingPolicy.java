@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.resourcemanager;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pipeline policy of the {@code AzureResourceManager} recording the latency of every Azure Resource Manager request and
+ * feeding its throttling headers to the {@link ArmThrottle}.
+ */
+class ArmThrottlingPolicy implements HttpPipelinePolicy {
+
+    private static final HttpHeaderName REMAINING_READS = HttpHeaderName.fromString(ArmThrottle.REMAINING_READS_HEADER);
+    private static final HttpHeaderName REMAINING_WRITES = HttpHeaderName.fromString(ArmThrottle.REMAINING_WRITES_HEADER);
+
+    private final ArmThrottle throttle;
+    private final MeterRegistry meterRegistry;
+
+    ArmThrottlingPolicy(ArmThrottle throttle, MeterRegistry meterRegistry) {
+        this.throttle = throttle;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        var sample = Timer.start(meterRegistry);
+        var method = context.getHttpRequest().getHttpMethod();
+        return next.process().doOnNext(response -> onResponse(sample, method, response));
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        var sample = Timer.start(meterRegistry);
+        var response = next.processSync();
+        onResponse(sample, context.getHttpRequest().getHttpMethod(), response);
+        return response;
+    }
+
+    private void onResponse(Timer.Sample sample, HttpMethod method, HttpResponse response) {
+        sample.stop(Timer.builder("edc.azure.arm.requests")
+                .description("Requests sent to Azure Resource Manager")
+                .tag("method", method.name())
+                .tag("status", String.valueOf(response.getStatusCode()))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+
+        var headers = response.getHeaders();
+        var remaining = method == HttpMethod.GET || method == HttpMethod.HEAD ? headers.getValue(REMAINING_READS) : headers.getValue(REMAINING_WRITES);
+        throttle.onResponse(response.getStatusCode(), headers.getValue(HttpHeaderName.RETRY_AFTER), remaining);
+    }
+}
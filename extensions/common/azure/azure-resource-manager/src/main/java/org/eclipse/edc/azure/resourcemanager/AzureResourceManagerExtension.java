@@ -19,20 +19,81 @@ import com.azure.core.management.AzureEnvironment;
 import com.azure.core.management.profile.AzureProfile;
 import com.azure.identity.DefaultAzureCredentialBuilder;
 import com.azure.resourcemanager.AzureResourceManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * Provides Azure Identity SDK and Azure Resource Manager SDK objects configured based on runtime settings.
  */
-@Provides({AzureEnvironment.class, TokenCredential.class, AzureProfile.class, AzureResourceManager.class})
+@Provides({AzureEnvironment.class, TokenCredential.class, AzureProfile.class, AzureResourceManager.class, ArmOperationExecutor.class, ArmMetadataCache.class})
 @Extension(value = AzureResourceManagerExtension.NAME)
 public class AzureResourceManagerExtension implements ServiceExtension {
 
     public static final String NAME = "Azure Resource Manager";
 
+    @Setting(description = "Number of threads running the Azure Resource Manager operations", defaultValue = "16")
+    public static final String EXECUTOR_THREADS = "edc.azure.arm.executor.threads";
+
+    @Setting(description = "Maximum number of operations in progress per resource type", defaultValue = "4")
+    public static final String EXECUTOR_DEFAULT_PARALLELISM = "edc.azure.arm.executor.default-parallelism";
+
+    @Setting(description = "Maximum number of operations in progress for the resource type <type>, overriding the default", required = false)
+    public static final String EXECUTOR_PARALLELISM = "edc.azure.arm.executor.parallelism.<type>";
+
+    @Setting(description = "Number of times an operation throttled by Azure Resource Manager is retried", defaultValue = "3")
+    public static final String EXECUTOR_MAX_RETRIES = "edc.azure.arm.executor.max-retries";
+
+    @Setting(description = "Milliseconds between two polls of a long-running operation, unless Azure Resource Manager requests otherwise", defaultValue = "2000")
+    public static final String EXECUTOR_POLL_INTERVAL = "edc.azure.arm.executor.poll-interval";
+
+    @Setting(description = "Number of remaining requests of the subscription below which the operations are held back", defaultValue = "50")
+    public static final String THROTTLE_MIN_REMAINING = "edc.azure.arm.throttle.min-remaining";
+
+    @Setting(description = "Milliseconds the operations are held back when the subscription is about to be throttled", defaultValue = "1000")
+    public static final String THROTTLE_PAUSE = "edc.azure.arm.throttle.pause";
+
+    @Setting(description = "Maximum number of resource metadata entries cached, 0 disables the cache", defaultValue = "1000")
+    public static final String CACHE_MAX_SIZE = "edc.azure.arm.cache.max-size";
+
+    @Setting(description = "Seconds resource metadata is cached, unless set for its type", defaultValue = "60")
+    public static final String CACHE_DEFAULT_TTL = "edc.azure.arm.cache.default-ttl";
+
+    @Setting(description = "Seconds the metadata of the resource type <type> is cached, e.g. resource-group, storage-account or storage-account-keys", required = false)
+    public static final String CACHE_TTL = "edc.azure.arm.cache.ttl.<type>";
+
+    private static final String CACHE_TTL_PREFIX = "edc.azure.arm.cache.ttl";
+    private static final int DEFAULT_CACHE_MAX_SIZE = 1000;
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 60;
+    private static final String EXECUTOR_PARALLELISM_PREFIX = "edc.azure.arm.executor.parallelism";
+    private static final int DEFAULT_EXECUTOR_THREADS = 16;
+    private static final int DEFAULT_EXECUTOR_PARALLELISM = 4;
+    private static final int DEFAULT_EXECUTOR_MAX_RETRIES = 3;
+    private static final long DEFAULT_EXECUTOR_POLL_INTERVAL_MILLIS = 2000;
+    private static final int DEFAULT_THROTTLE_MIN_REMAINING = 50;
+    private static final long DEFAULT_THROTTLE_PAUSE_MILLIS = 1000;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService workers;
+    private ScheduledExecutorService scheduler;
+
     @Override
     public String name() {
         return NAME;
@@ -40,8 +101,12 @@ public class AzureResourceManagerExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var tenantId = context.getConfig().getString("edc.azure.tenant.id");
-        var subscriptionId = context.getConfig().getString("edc.azure.subscription.id");
+        var config = context.getConfig();
+        var tenantId = config.getString("edc.azure.tenant.id");
+        var subscriptionId = config.getString("edc.azure.subscription.id");
+        var registry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+        var throttle = new ArmThrottle(config.getInteger(THROTTLE_MIN_REMAINING, DEFAULT_THROTTLE_MIN_REMAINING),
+                Duration.ofMillis(config.getLong(THROTTLE_PAUSE, DEFAULT_THROTTLE_PAUSE_MILLIS)), Clock.systemUTC(), registry);
 
         // Detect credential source based on runtime environment, e.g. Azure CLI, environment variables
         var credential = new DefaultAzureCredentialBuilder().build();
@@ -49,6 +114,8 @@ public class AzureResourceManagerExtension implements ServiceExtension {
         var azure = AzureEnvironment.AZURE;
         var profile = new AzureProfile(tenantId, subscriptionId, azure);
         var resourceManager = AzureResourceManager
+                .configure()
+                .withPolicy(new ArmThrottlingPolicy(throttle, registry))
                 .authenticate(credential, profile)
                 .withSubscription(subscriptionId);
 
@@ -56,5 +123,28 @@ public class AzureResourceManagerExtension implements ServiceExtension {
         context.registerService(TokenCredential.class, credential);
         context.registerService(AzureProfile.class, profile);
         context.registerService(AzureResourceManager.class, resourceManager);
+
+        var defaultTtl = config.getLong(CACHE_DEFAULT_TTL, DEFAULT_CACHE_TTL_SECONDS);
+        var ttls = config.getConfig(CACHE_TTL_PREFIX);
+        context.registerService(ArmMetadataCache.class, new ArmMetadataCache(resourceManager, config.getInteger(CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE),
+                type -> Duration.ofSeconds(ttls.getLong(type, defaultTtl)), Clock.systemUTC(), registry));
+
+        workers = executorInstrumentation.instrument(Executors.newFixedThreadPool(config.getInteger(EXECUTOR_THREADS, DEFAULT_EXECUTOR_THREADS)), "azure-arm-operations");
+        scheduler = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "azure-arm-scheduler");
+        var defaultParallelism = config.getInteger(EXECUTOR_DEFAULT_PARALLELISM, DEFAULT_EXECUTOR_PARALLELISM);
+        var parallelism = config.getConfig(EXECUTOR_PARALLELISM_PREFIX);
+        context.registerService(ArmOperationExecutor.class, new ArmOperationExecutor(workers, scheduler, throttle,
+                type -> parallelism.getInteger(type, defaultParallelism), config.getInteger(EXECUTOR_MAX_RETRIES, DEFAULT_EXECUTOR_MAX_RETRIES),
+                Duration.ofMillis(config.getLong(EXECUTOR_POLL_INTERVAL, DEFAULT_EXECUTOR_POLL_INTERVAL_MILLIS)), registry));
+    }
+
+    @Override
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
     }
 }
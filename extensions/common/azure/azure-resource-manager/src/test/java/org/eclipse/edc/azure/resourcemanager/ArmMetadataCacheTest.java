@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.resourcemanager;
+
+import com.azure.resourcemanager.AzureResourceManager;
+import com.azure.resourcemanager.resources.models.ResourceGroup;
+import com.azure.resourcemanager.resources.models.ResourceGroups;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArmMetadataCacheTest {
+
+    private final AzureResourceManager resourceManager = mock();
+    private final ResourceGroups resourceGroups = mock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Clock clock = mock();
+    private Instant now = Instant.EPOCH;
+    private final ArmMetadataCache cache = new ArmMetadataCache(resourceManager, 2,
+            type -> type.equals(ArmMetadataCache.RESOURCE_GROUP) ? Duration.ofMinutes(10) : Duration.ofMinutes(1), clock, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenAnswer(invocation -> now);
+        when(resourceManager.resourceGroups()).thenReturn(resourceGroups);
+        when(resourceGroups.getByName("rg")).thenReturn(mock(ResourceGroup.class));
+    }
+
+    @Test
+    void resourceGroup_shouldBeCachedUntilExpired() {
+        var first = cache.resourceGroup("rg");
+        assertThat(cache.resourceGroup("RG")).isSameAs(first);
+
+        now = now.plus(Duration.ofMinutes(11));
+        cache.resourceGroup("rg");
+
+        verify(resourceGroups, times(2)).getByName("rg");
+        assertThat(meterRegistry.get("edc.azure.arm.cache.requests").tags("type", "resource-group", "result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void write_shouldInvalidateEntry() {
+        cache.resourceGroup("rg");
+
+        cache.write(ArmMetadataCache.RESOURCE_GROUP, "rg", () -> "updated");
+        cache.resourceGroup("rg");
+
+        verify(resourceGroups, times(2)).getByName("rg");
+    }
+
+    @Test
+    void get_beyondMaxSize_shouldEvictLeastRecentlyUsed() {
+        var loads = new AtomicInteger();
+        cache.get("type", "a", loads::incrementAndGet);
+        cache.get("type", "b", loads::incrementAndGet);
+        cache.get("type", "a", loads::incrementAndGet);
+        cache.get("type", "c", loads::incrementAndGet);
+
+        cache.get("type", "a", loads::incrementAndGet);
+        cache.get("type", "b", loads::incrementAndGet);
+
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void get_invalidatedWhileLoading_shouldNotCacheStaleValue() {
+        cache.get("type", "a", () -> {
+            cache.invalidate("type", "a");
+            return "stale";
+        });
+
+        assertThat(cache.get("type", "a", () -> "fresh")).isEqualTo("fresh");
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.resourcemanager;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.SyncPoller;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArmOperationExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ArmThrottle throttle = new ArmThrottle(10, Duration.ofMillis(100), Clock.systemUTC(), meterRegistry);
+    private final ExecutorService workers = Executors.newFixedThreadPool(8);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ArmOperationExecutor executor = new ArmOperationExecutor(workers, scheduler, throttle,
+            type -> type.equals("storage-account") ? 2 : 4, 2, Duration.ofMillis(20), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @Test
+    void execute_shouldBoundParallelismPerResourceType() throws Exception {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var futures = new ArrayList<CompletableFuture<Integer>>();
+        for (var i = 0; i < 10; i++) {
+            var index = i;
+            futures.add(executor.execute("storage-account", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+                return index;
+            }));
+        }
+
+        for (var i = 0; i < 10; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("edc.azure.arm.operations").tags("type", "storage-account", "outcome", "success").timer().count()).isEqualTo(10);
+    }
+
+    @Test
+    void execute_throttled_shouldRetry() throws Exception {
+        var attempts = new AtomicInteger();
+
+        var result = executor.execute("storage-account", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw throttled();
+            }
+            return "created";
+        });
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("created");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void execute_throttledBeyondMaxRetries_shouldFail() {
+        var result = executor.execute("storage-account", () -> {
+            throw throttled();
+        });
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(HttpResponseException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void executeLongRunning_shouldPollUntilCompletion() throws Exception {
+        SyncPoller<Void, String> poller = mock(SyncPoller.class);
+        when(poller.poll()).thenReturn(
+                new PollResponse<>(LongRunningOperationStatus.IN_PROGRESS, null),
+                new PollResponse<>(LongRunningOperationStatus.SUCCESSFULLY_COMPLETED, null));
+        when(poller.getFinalResult()).thenReturn("deleted");
+
+        var result = executor.executeLongRunning("resource-group", () -> poller);
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("deleted");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void executeLongRunning_shouldHoldSlotUntilCompletion() throws Exception {
+        var release = new CountDownLatch(1);
+        SyncPoller<Void, String> poller = mock(SyncPoller.class);
+        when(poller.poll()).thenAnswer(invocation -> new PollResponse<>(release.getCount() == 0
+                ? LongRunningOperationStatus.SUCCESSFULLY_COMPLETED : LongRunningOperationStatus.IN_PROGRESS, null));
+        when(poller.getFinalResult()).thenReturn("done");
+
+        var first = executor.executeLongRunning("storage-account", () -> poller);
+        var second = executor.executeLongRunning("storage-account", () -> poller);
+        var third = executor.execute("storage-account", () -> "queued");
+
+        sleep(100);
+        assertThat(third).isNotDone();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    void throttle_shouldHoldBackOnRetryAfterAndLowRemaining() {
+        throttle.onResponse(200, null, "500");
+        assertThat(throttle.delay()).isZero();
+
+        throttle.onResponse(200, null, "5");
+        assertThat(throttle.delay()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(100));
+
+        throttle.onResponse(429, "7", null);
+        assertThat(throttle.delay()).isGreaterThan(Duration.ofSeconds(6));
+        assertThat(meterRegistry.get("edc.azure.arm.throttled").counter().count()).isEqualTo(1);
+    }
+
+    private HttpResponseException throttled() {
+        var response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(429);
+        return new HttpResponseException("throttled", response);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -22,6 +22,7 @@ dependencies {
     api(libs.edc.controlplane.spi)
     testFixturesApi(libs.edc.spi.transaction.datasource)
     testFixturesApi(libs.postgres)
+    testFixturesApi(libs.hikaricp)
     testFixturesApi(libs.testcontainers.junit)
     testFixturesApi(libs.edc.lib.util)
     testFixturesApi(libs.edc.junit)
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.azure.testfixtures;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import org.postgresql.ds.PGSimpleDataSource;
 
 import java.util.Objects;
@@ -23,10 +25,50 @@ import static org.eclipse.edc.util.configuration.ConfigurationFunctions.propOrEn
 
 public class CosmosPostgresFunctions {
     private static final String PG_CONNECTION_STRING = "PG_CONNECTION_STRING";
+    private static final int POOL_SIZE = 8;
 
-    public static DataSource createDataSource() {
+    /**
+     * Creates a connection pool, so that the tests do not pay for a TLS handshake with the coordinator on every
+     * {@code getConnection()}.
+     *
+     * @return the pool, which should be closed when it is not needed anymore
+     */
+    public static HikariDataSource createDataSource() {
+        return pooled(createPgDataSource());
+    }
+
+    /**
+     * Creates a connection pool whose connections resolve unqualified table names in the given schema. The
+     * {@code public} schema stays on the search path, so that the functions of the installed extensions can still be
+     * called.
+     *
+     * @param schema the schema, which must already exist
+     * @return the pool, which should be closed when it is not needed anymore
+     */
+    public static HikariDataSource createDataSource(String schema) {
+        var ds = createPgDataSource();
+        ds.setCurrentSchema(schema + ",public");
+        return pooled(ds);
+    }
 
+    /**
+     * Creates a data source that opens a new connection on every call, for one-off statements.
+     *
+     * @return the data source
+     */
+    public static DataSource createUnpooledDataSource() {
+        return createPgDataSource();
+    }
+
+    private static HikariDataSource pooled(DataSource dataSource) {
+        var config = new HikariConfig();
+        config.setDataSource(dataSource);
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(1);
+        return new HikariDataSource(config);
+    }
 
+    private static PGSimpleDataSource createPgDataSource() {
         var connectionString = propOrEnv(PG_CONNECTION_STRING, null);
         Objects.requireNonNull(connectionString, "CosmosDB Postgres connection string not found");
 
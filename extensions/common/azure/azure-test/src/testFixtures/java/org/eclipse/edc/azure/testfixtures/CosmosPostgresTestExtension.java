@@ -14,14 +14,15 @@
 
 package org.eclipse.edc.azure.testfixtures;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.SqlQueryExecutor;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
-import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
@@ -30,25 +31,51 @@ import org.junit.jupiter.api.extension.ParameterResolver;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.UUID;
 import java.util.function.Supplier;
 import javax.sql.DataSource;
 
 import static org.eclipse.edc.azure.testfixtures.CosmosPostgresFunctions.createDataSource;
-
-public class CosmosPostgresTestExtension implements BeforeAllCallback, BeforeEachCallback, ParameterResolver {
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresFunctions.createUnpooledDataSource;
+
+/**
+ * Provides the database fixtures of the Cosmos DB for PostgreSQL integration tests. Every top-level test class gets its
+ * own schema, which is on the search path of all the connections handed out, so that test classes creating tables with
+ * the same names can run concurrently, in one JVM or in several Gradle forks. {@code @Nested} classes share the schema
+ * of their top-level class. The schema is dropped after the top-level class.
+ * <p>
+ * The fixtures are kept in the root {@link ExtensionContext.Store}, keyed by the top-level class, because the extension
+ * instance is shared by a class and its nested classes.
+ */
+public class CosmosPostgresTestExtension implements BeforeAllCallback, AfterAllCallback, ParameterResolver {
 
     public static final String DEFAULT_DATASOURCE_NAME = "test-datasource";
+    private static final String SCHEMA_PREFIX = "edc_test_";
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(CosmosPostgresTestExtension.class);
     private final QueryExecutor queryExecutor = new SqlQueryExecutor();
     private final TransactionContext transactionContext = new NoopTransactionContext();
-    private DataSource dataSource;
-    private DataSourceRegistry registry;
 
     @Override
-    public void beforeAll(ExtensionContext context) {
-        dataSource = createDataSource();
-
+    public void beforeAll(ExtensionContext context) throws SQLException {
+        if (isNested(context)) {
+            return;
+        }
+        var schema = SCHEMA_PREFIX + UUID.randomUUID().toString().replace("-", "");
+        executeUnqualified("CREATE SCHEMA " + schema);
+        rootStore(context).put(topLevelClass(context), new Fixture(schema, createDataSource(schema)));
     }
 
+    @Override
+    public void afterAll(ExtensionContext context) throws SQLException {
+        if (isNested(context)) {
+            return;
+        }
+        var fixture = rootStore(context).remove(topLevelClass(context), Fixture.class);
+        if (fixture != null) {
+            fixture.dataSource().close();
+            executeUnqualified("DROP SCHEMA IF EXISTS " + fixture.schema() + " CASCADE");
+        }
+    }
 
     @Override
     public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
@@ -66,19 +93,49 @@ public class CosmosPostgresTestExtension implements BeforeAllCallback, BeforeEac
         } else if (type.equals(TransactionContext.class)) {
             return transactionContext;
         } else if (type.equals(DataSource.class)) {
-            return dataSource;
+            return fixture(extensionContext).dataSource();
         } else if (type.equals(SqlHelper.class)) {
-            return new SqlHelper();
+            return new SqlHelper(fixture(extensionContext).dataSource());
         } else if (type.equals(DataSourceRegistry.class)) {
-            return registry;
+            // one registry per test, shared by its lifecycle methods
+            var dataSource = fixture(extensionContext).dataSource();
+            return extensionContext.getStore(NAMESPACE).getOrComputeIfAbsent(DataSourceRegistry.class, key -> {
+                var registry = new DefaultDataSourceRegistry();
+                registry.register(DEFAULT_DATASOURCE_NAME, dataSource);
+                return registry;
+            }, DataSourceRegistry.class);
         }
         return null;
     }
 
-    @Override
-    public void beforeEach(ExtensionContext context) throws Exception {
-        registry = new DefaultDataSourceRegistry();
-        registry.register(DEFAULT_DATASOURCE_NAME, dataSource);
+    private Fixture fixture(ExtensionContext context) {
+        var fixture = rootStore(context).get(topLevelClass(context), Fixture.class);
+        if (fixture == null) {
+            throw new ParameterResolutionException("No schema was created for " + topLevelClass(context).getName());
+        }
+        return fixture;
+    }
+
+    private ExtensionContext.Store rootStore(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE);
+    }
+
+    private boolean isNested(ExtensionContext context) {
+        return context.getParent().flatMap(ExtensionContext::getTestClass).isPresent();
+    }
+
+    private Class<?> topLevelClass(ExtensionContext context) {
+        var current = context;
+        while (current.getParent().flatMap(ExtensionContext::getTestClass).isPresent()) {
+            current = current.getParent().get();
+        }
+        return current.getRequiredTestClass();
+    }
+
+    private void executeUnqualified(String sql) throws SQLException {
+        try (var connection = createUnpooledDataSource().getConnection(); var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
     }
 
     /**
@@ -86,6 +143,12 @@ public class CosmosPostgresTestExtension implements BeforeAllCallback, BeforeEac
      */
     public class SqlHelper {
 
+        private final DataSource dataSource;
+
+        private SqlHelper(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
         /**
          * Executes a database statement with the given SQL statement.
          *
@@ -127,4 +190,7 @@ public class CosmosPostgresTestExtension implements BeforeAllCallback, BeforeEac
             };
         }
     }
+
+    private record Fixture(String schema, HikariDataSource dataSource) {
+    }
 }
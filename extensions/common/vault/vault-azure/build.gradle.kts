@@ -19,9 +19,12 @@ plugins {
 
 dependencies {
     api(libs.edc.spi.core)
+    implementation(libs.edc.spi.web)
 
     implementation(libs.azure.keyvault)
+    implementation(libs.azure.keyvault.keys)
     implementation(libs.azure.identity)
+    api(libs.micrometer.core)
 
     testImplementation(libs.edc.junit)
 }
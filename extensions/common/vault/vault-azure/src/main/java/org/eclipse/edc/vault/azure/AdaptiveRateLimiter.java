@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side limit of the rate of the requests sent to a Key Vault, adapting to its throttling.
+ * <p>
+ * Requests are spaced evenly at the current rate. The rate grows additively, by one request per second for every
+ * second of requests sent at the current rate without being throttled, and is halved when Key Vault throttles a
+ * request. No request is sent before the {@code Retry-After} delay of a throttled request elapsed. Requests that would
+ * have to wait longer than the maximum wait are rejected, so that callers fail fast instead of piling up.
+ */
+public class AdaptiveRateLimiter {
+
+    private static final double MULTIPLICATIVE_DECREASE = 0.5;
+
+    private final double minRate;
+    private final double maxRate;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter throttled;
+    private final Counter rejected;
+
+    private double rate;
+    private long nextPermitAt;
+    private long blockedUntil;
+
+    public AdaptiveRateLimiter(String vaultName, double initialRate, double minRate, double maxRate, Duration maxWait, MeterRegistry meterRegistry) {
+        this(vaultName, initialRate, minRate, maxRate, maxWait, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(String vaultName, double initialRate, double minRate, double maxRate, Duration maxWait, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        if (minRate <= 0 || minRate > maxRate) {
+            throw new IllegalArgumentException("The minimum rate must be positive and not exceed the maximum rate");
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.maxWaitNanos = maxWait.toNanos();
+        this.nanoTime = nanoTime;
+        this.nextPermitAt = nanoTime.getAsLong();
+        this.blockedUntil = nextPermitAt;
+
+        Gauge.builder("edc.vault.azure.limiter.rate", this, AdaptiveRateLimiter::rate)
+                .description("Current number of requests per second allowed to the Azure vault")
+                .tag("vault", vaultName)
+                .register(meterRegistry);
+        Gauge.builder("edc.vault.azure.limiter.queue", waiting, AtomicInteger::get)
+                .description("Number of requests waiting for a permit of the Azure vault rate limiter")
+                .tag("vault", vaultName)
+                .register(meterRegistry);
+        throttled = Counter.builder("edc.vault.azure.limiter.throttled")
+                .description("Requests throttled by the Azure vault")
+                .tag("vault", vaultName)
+                .register(meterRegistry);
+        rejected = Counter.builder("edc.vault.azure.limiter.rejected")
+                .description("Requests rejected by the Azure vault rate limiter as they would have waited too long")
+                .tag("vault", vaultName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Waits for a permit to send a request.
+     *
+     * @return false if the request was rejected as it would have waited longer than the maximum wait
+     */
+    public boolean acquire() {
+        var wait = reserve();
+        if (wait == null) {
+            rejected.increment();
+            return false;
+        }
+        if (wait > 0) {
+            waiting.incrementAndGet();
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a request that was not throttled.
+     */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + 1 / rate);
+    }
+
+    /**
+     * Records a request throttled by Key Vault.
+     *
+     * @param retryAfter the delay requested by Key Vault, if any
+     */
+    public synchronized void onThrottled(@Nullable Duration retryAfter) {
+        throttled.increment();
+        rate = Math.max(minRate, rate * MULTIPLICATIVE_DECREASE);
+        if (retryAfter != null) {
+            blockedUntil = Math.max(blockedUntil, nanoTime.getAsLong() + retryAfter.toNanos());
+        }
+    }
+
+    synchronized double rate() {
+        return rate;
+    }
+
+    /**
+     * Reserves the next permit.
+     *
+     * @return the nanoseconds to wait for the permit, or null if that exceeds the maximum wait
+     */
+    synchronized @Nullable Long reserve() {
+        var now = nanoTime.getAsLong();
+        var permitAt = Math.max(now, Math.max(nextPermitAt, blockedUntil));
+        var wait = permitAt - now;
+        if (wait > maxWaitNanos) {
+            return null;
+        }
+        nextPermitAt = permitAt + (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        return wait;
+    }
+}
@@ -14,10 +14,13 @@
 
 package org.eclipse.edc.vault.azure;
 
+import com.azure.core.exception.HttpResponseException;
 import com.azure.core.exception.ResourceNotFoundException;
+import com.azure.core.http.HttpHeaderName;
 import com.azure.core.util.polling.SyncPoller;
 import com.azure.security.keyvault.secrets.SecretClient;
 import com.azure.security.keyvault.secrets.models.DeletedSecret;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
@@ -25,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
 import static java.lang.String.format;
@@ -40,55 +44,100 @@ public class AzureVault implements Vault {
     private static final String LETTER_PREFIX = "x-";
     private final SecretClient secretClient;
     private final Monitor monitor;
+    private final SecretCache cache;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final AzureVaultMetrics metrics;
+    private final SingleFlight<String, String> resolutions = new SingleFlight<>();
 
     public AzureVault(Monitor monitor, SecretClient secretClient) {
+        this(monitor, secretClient, SecretCache.disabled());
+    }
+
+    public AzureVault(Monitor monitor, SecretClient secretClient, SecretCache cache) {
+        this(monitor, secretClient, cache, null);
+    }
+
+    public AzureVault(Monitor monitor, SecretClient secretClient, SecretCache cache, @Nullable AdaptiveRateLimiter rateLimiter) {
+        this(monitor, secretClient, cache, rateLimiter, new AzureVaultMetrics(Objects.requireNonNullElse(secretClient.getVaultUrl(), "unknown"), Metrics.globalRegistry));
+    }
+
+    public AzureVault(Monitor monitor, SecretClient secretClient, SecretCache cache, @Nullable AdaptiveRateLimiter rateLimiter, AzureVaultMetrics metrics) {
         this.monitor = monitor;
         this.secretClient = secretClient;
+        this.cache = cache;
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
     }
 
     @Override
     public @Nullable String resolveSecret(String key) {
         var sanitizedKey = sanitizeKey(key);
-        try {
-            var secret = secretClient.getSecret(sanitizedKey);
-            return secret.getValue();
-        } catch (ResourceNotFoundException ex) {
-            monitor.debug(format("Secret %s not found", sanitizedKey));
-            return null;
-        } catch (Exception ex) {
-            monitor.severe("Error accessing secret " + key, ex);
-            return null;
+        var cached = cache.get(sanitizedKey);
+        if (cached != null) {
+            return cached;
         }
+        return resolutions.execute(sanitizedKey, () -> fetchSecret(key, sanitizedKey));
     }
 
     @Override
     public Result<Void> storeSecret(String key, String value) {
+        var sample = metrics.start();
+        if (!acquirePermit()) {
+            metrics.record(sample, AzureVaultMetrics.STORE, AzureVaultMetrics.THROTTLED);
+            return Result.failure("Key Vault is throttling, secret not stored");
+        }
+        var sanitizedKey = sanitizeKey(key);
+        cache.evict(sanitizedKey);
         try {
-            var sanitizedKey = sanitizeKey(key);
             secretClient.setSecret(sanitizedKey, value);
+            onResponse(null);
+            metrics.record(sample, AzureVaultMetrics.STORE, AzureVaultMetrics.SUCCESS);
             monitor.debug("storing secret successful");
             return Result.success();
         } catch (Exception ex) {
+            onResponse(ex);
+            metrics.record(sample, AzureVaultMetrics.STORE, AzureVaultMetrics.outcome(ex));
             monitor.severe("Error storing secret", ex);
             return Result.failure(ex.getMessage());
+        } finally {
+            // a resolution running concurrently with the write may have cached the previous value
+            cache.evict(sanitizedKey);
         }
     }
 
     @Override
     public Result<Void> deleteSecret(String key) {
         var sanitizedKey = sanitizeKey(key);
+        cache.evict(sanitizedKey);
+        var sample = metrics.start();
+        if (!acquirePermit()) {
+            metrics.record(sample, AzureVaultMetrics.DELETE, AzureVaultMetrics.THROTTLED);
+            return Result.failure("Key Vault is throttling, secret not deleted");
+        }
         SyncPoller<DeletedSecret, Void> poller = null;
         try {
             poller = secretClient.beginDeleteSecret(sanitizedKey);
             monitor.debug("Begin deleting secret");
-            poller.waitForCompletion(Duration.ofMinutes(1));
+            var pollSample = metrics.start();
+            try {
+                poller.waitForCompletion(Duration.ofMinutes(1));
+                metrics.record(pollSample, AzureVaultMetrics.DELETE_POLL, AzureVaultMetrics.SUCCESS);
+            } catch (RuntimeException e) {
+                metrics.record(pollSample, AzureVaultMetrics.DELETE_POLL, AzureVaultMetrics.outcome(e));
+                throw e;
+            }
+            onResponse(null);
+            metrics.record(sample, AzureVaultMetrics.DELETE, AzureVaultMetrics.SUCCESS);
 
             monitor.debug("deletion complete");
             return Result.success();
         } catch (ResourceNotFoundException ex) {
+            metrics.record(sample, AzureVaultMetrics.DELETE, AzureVaultMetrics.NOT_FOUND);
             monitor.severe("Error deleting secret - does not exist!");
             return Result.failure(ex.getMessage());
         } catch (RuntimeException re) {
+            onResponse(re);
+            metrics.record(sample, AzureVaultMetrics.DELETE, AzureVaultMetrics.outcome(re));
             monitor.severe("Error deleting secret", re);
 
             if (re.getCause() != null && re.getCause() instanceof TimeoutException) {
@@ -103,16 +152,85 @@ public class AzureVault implements Vault {
             }
             return Result.failure(re.getMessage());
         } finally {
+            var purgeSample = metrics.start();
             try {
                 secretClient.purgeDeletedSecret(sanitizedKey);
+                metrics.record(purgeSample, AzureVaultMetrics.PURGE, AzureVaultMetrics.SUCCESS);
             } catch (Exception e) {
+                metrics.record(purgeSample, AzureVaultMetrics.PURGE, AzureVaultMetrics.outcome(e));
                 monitor.severe("Error purging secret from AzureVault", e);
             }
+            // a resolution running concurrently with the deletion may have cached the deleted value
+            cache.evict(sanitizedKey);
+        }
+    }
+
+    /**
+     * Looks a secret up in Key Vault, bypassing the cache in both directions.
+     */
+    public SecretLookup lookupSecret(String key) {
+        return lookup(key, sanitizeKey(key));
+    }
+
+    private @Nullable String fetchSecret(String key, String sanitizedKey) {
+        var lookup = lookup(key, sanitizedKey);
+        if (lookup.value() != null) {
+            cache.put(sanitizedKey, lookup.value());
+        }
+        return lookup.value();
+    }
+
+    private SecretLookup lookup(String key, String sanitizedKey) {
+        var sample = metrics.start();
+        if (!acquirePermit()) {
+            metrics.record(sample, AzureVaultMetrics.RESOLVE, AzureVaultMetrics.THROTTLED);
+            monitor.warning(format("Key Vault is throttling, secret %s not resolved", sanitizedKey));
+            return SecretLookup.unknown();
+        }
+        try {
+            var secret = secretClient.getSecret(sanitizedKey);
+            onResponse(null);
+            metrics.record(sample, AzureVaultMetrics.RESOLVE, AzureVaultMetrics.FOUND);
+            return secret.getValue() != null ? SecretLookup.found(secret.getValue()) : SecretLookup.notFound();
+        } catch (ResourceNotFoundException ex) {
+            onResponse(null);
+            metrics.record(sample, AzureVaultMetrics.RESOLVE, AzureVaultMetrics.NOT_FOUND);
+            monitor.debug(format("Secret %s not found", sanitizedKey));
+            return SecretLookup.notFound();
+        } catch (Exception ex) {
+            onResponse(ex);
+            metrics.record(sample, AzureVaultMetrics.RESOLVE, AzureVaultMetrics.outcome(ex));
+            monitor.severe("Error accessing secret " + key, ex);
+            return SecretLookup.unknown();
+        }
+    }
+
+    private boolean acquirePermit() {
+        return rateLimiter == null || rateLimiter.acquire();
+    }
+
+    private void onResponse(@Nullable Exception failure) {
+        if (rateLimiter == null) {
+            return;
+        }
+        if (failure instanceof HttpResponseException responseException && AzureVaultMetrics.isThrottled(responseException)) {
+            rateLimiter.onThrottled(retryAfter(responseException));
+        } else if (failure == null || failure instanceof HttpResponseException) {
+            rateLimiter.onSuccess();
+        }
+    }
+
+    private @Nullable Duration retryAfter(HttpResponseException exception) {
+        var retryAfter = exception.getResponse().getHeaders().getValue(HttpHeaderName.RETRY_AFTER);
+        try {
+            return retryAfter != null ? Duration.ofSeconds(Long.parseLong(retryAfter.trim())) : null;
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
     @NotNull
-    private String sanitizeKey(String key) {
+    String sanitizeKey(String key) {
         if (!key.matches(STARTS_WITH_LETTER_REGEX)) {
             monitor.debug("AzureVault: key does not start with a letter. Prefixing with " + LETTER_PREFIX);
             key = LETTER_PREFIX + key;
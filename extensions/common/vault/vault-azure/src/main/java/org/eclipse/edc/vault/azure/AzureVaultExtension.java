@@ -15,8 +15,11 @@
 
 package org.eclipse.edc.vault.azure;
 
+import com.azure.core.credential.TokenCredential;
 import com.azure.identity.DefaultAzureCredentialBuilder;
 import com.azure.security.keyvault.secrets.SecretClientBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
@@ -28,10 +31,14 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
 
 @Extension(value = AzureVaultExtension.NAME)
 public class AzureVaultExtension implements ServiceExtension {
@@ -47,9 +54,52 @@ public class AzureVaultExtension implements ServiceExtension {
     @Setting(description = "If true, allow the usage of non-azure domains for the vault.", defaultValue = "false")
     private static final String VAULT_URL_OVERRIDE_UNSAFE = "edc.vault.url.override.unsafe";
 
+    @Setting(description = "Seconds a resolved secret is cached before it is fetched again from the vault, 0 disables the cache", defaultValue = "0")
+    public static final String CACHE_TTL = "edc.vault.azure.cache.ttl";
+
+    @Setting(description = "Maximum number of cached secrets, the least recently used secrets are dropped beyond it", defaultValue = "10000")
+    public static final String CACHE_MAX_SIZE = "edc.vault.azure.cache.max-size";
+
+    @Setting(description = "Comma separated names of the Azure vaults the secrets are sharded across, replaces " + VAULT_NAME + " if set")
+    public static final String SHARDS = "edc.vault.azure.shards";
+
+    @Setting(description = "If true, secrets missing from the vault owning them are looked up in the other shards, to be enabled while resharding", defaultValue = "false")
+    public static final String SHARDS_FALLBACK = "edc.vault.azure.shards.fallback";
+
+    @Setting(description = "Number of points every shard is placed at on the consistent hash ring", defaultValue = "128")
+    public static final String SHARDS_VIRTUAL_NODES = "edc.vault.azure.shards.virtual-nodes";
+
+    @Setting(description = "If true, the rate of the requests sent to every vault is limited, and adapted to the throttling of the vault", defaultValue = "false")
+    public static final String RATE_LIMIT_ENABLED = "edc.vault.azure.rate-limit.enabled";
+
+    @Setting(description = "Requests per second initially allowed to a vault", defaultValue = "100")
+    public static final String RATE_LIMIT_INITIAL_RATE = "edc.vault.azure.rate-limit.initial-rate";
+
+    @Setting(description = "Requests per second the rate allowed to a vault is never lowered below", defaultValue = "1")
+    public static final String RATE_LIMIT_MIN_RATE = "edc.vault.azure.rate-limit.min-rate";
+
+    @Setting(description = "Requests per second the rate allowed to a vault is never raised above", defaultValue = "400")
+    public static final String RATE_LIMIT_MAX_RATE = "edc.vault.azure.rate-limit.max-rate";
+
+    @Setting(description = "Milliseconds a request waits at most for a permit before it fails", defaultValue = "1000")
+    public static final String RATE_LIMIT_MAX_WAIT = "edc.vault.azure.rate-limit.max-wait";
+
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 0;
+    private static final int DEFAULT_CACHE_MAX_SIZE = 10_000;
+    private static final int DEFAULT_RATE_LIMIT_INITIAL_RATE = 100;
+    private static final int DEFAULT_RATE_LIMIT_MIN_RATE = 1;
+    private static final int DEFAULT_RATE_LIMIT_MAX_RATE = 400;
+    private static final long DEFAULT_RATE_LIMIT_MAX_WAIT_MILLIS = 1000;
+    private static final int DEFAULT_SHARDS_VIRTUAL_NODES = 128;
+
     @Inject
     private Monitor monitor;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private SecretCache secretCache;
+
     @Override
     public String name() {
         return NAME;
@@ -60,23 +110,71 @@ public class AzureVaultExtension implements ServiceExtension {
         var config = context.getConfig();
         var override = config.getString(VAULT_URL_OVERRIDE, null);
 
-        if (override != null && !override.isEmpty()) {
+        secretCache(context);
+        var shards = config.getString(SHARDS, null);
+
+        if (shards != null && !shards.isBlank()) {
+            return createShardedVault(config, shards);
+        } else if (override != null && !override.isEmpty()) {
             return createCustomVault(config, new SecretClientBuilder());
         } else {
             return createDefaultVault(config);
         }
     }
 
+    @Provider
+    public SecretCache secretCache(ServiceExtensionContext context) {
+        if (secretCache == null) {
+            var config = context.getConfig();
+            var ttl = Duration.ofSeconds(config.getLong(CACHE_TTL, DEFAULT_CACHE_TTL_SECONDS));
+            secretCache = new SecretCache(ttl, config.getInteger(CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE), Clock.systemUTC());
+        }
+        return secretCache;
+    }
+
     @NotNull
     private AzureVault createDefaultVault(Config config) {
-        var name = config.getString(VAULT_NAME);
+        return createNamedVault(config, config.getString(VAULT_NAME), new DefaultAzureCredentialBuilder().build());
+    }
+
+    @NotNull
+    private ShardedAzureVault createShardedVault(Config config, String names) {
         var credentials = new DefaultAzureCredentialBuilder().build();
+        var shards = Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> new ShardedAzureVault.Shard(name, createNamedVault(config, name, credentials)))
+                .toList();
+        monitor.info("Sharding secrets across %d Azure vaults".formatted(shards.size()));
+        return new ShardedAzureVault(shards, config.getInteger(SHARDS_VIRTUAL_NODES, DEFAULT_SHARDS_VIRTUAL_NODES),
+                config.getBoolean(SHARDS_FALLBACK, false), meterRegistry());
+    }
+
+    @NotNull
+    private AzureVault createNamedVault(Config config, String name, TokenCredential credentials) {
         var client = new SecretClientBuilder()
                 .vaultUrl("https://" + name + ".vault.azure.net")
                 .credential(credentials)
                 .buildClient();
 
-        return new AzureVault(monitor, client);
+        return new AzureVault(monitor, client, secretCache, rateLimiter(config, name), new AzureVaultMetrics(name, meterRegistry()));
+    }
+
+    @Nullable
+    private AdaptiveRateLimiter rateLimiter(Config config, String vaultName) {
+        if (!config.getBoolean(RATE_LIMIT_ENABLED, false)) {
+            return null;
+        }
+        return new AdaptiveRateLimiter(vaultName,
+                config.getInteger(RATE_LIMIT_INITIAL_RATE, DEFAULT_RATE_LIMIT_INITIAL_RATE),
+                config.getInteger(RATE_LIMIT_MIN_RATE, DEFAULT_RATE_LIMIT_MIN_RATE),
+                config.getInteger(RATE_LIMIT_MAX_RATE, DEFAULT_RATE_LIMIT_MAX_RATE),
+                Duration.ofMillis(config.getLong(RATE_LIMIT_MAX_WAIT, DEFAULT_RATE_LIMIT_MAX_WAIT_MILLIS)),
+                meterRegistry());
+    }
+
+    private MeterRegistry meterRegistry() {
+        return meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
     }
 
     @NotNull
@@ -96,6 +194,7 @@ public class AzureVaultExtension implements ServiceExtension {
             builder.disableChallengeResourceVerification();
         }
 
-        return new AzureVault(monitor, builder.buildClient());
+        return new AzureVault(monitor, builder.buildClient(), secretCache != null ? secretCache : SecretCache.disabled(), rateLimiter(config, override),
+                new AzureVaultMetrics(override, meterRegistry()));
     }
 }
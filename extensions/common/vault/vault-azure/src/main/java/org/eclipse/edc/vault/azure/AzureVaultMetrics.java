@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the latency and the outcome of the requests sent by an {@link AzureVault} to Key Vault, in the
+ * {@code edc.vault.azure.requests} timer tagged with the vault, the operation and the outcome.
+ */
+public class AzureVaultMetrics {
+
+    public static final String RESOLVE = "resolve";
+    public static final String STORE = "store";
+    public static final String DELETE = "delete";
+    public static final String DELETE_POLL = "delete-poll";
+    public static final String PURGE = "purge";
+
+    public static final String FOUND = "found";
+    public static final String NOT_FOUND = "not-found";
+    public static final String SUCCESS = "success";
+    public static final String THROTTLED = "throttled";
+    public static final String ERROR = "error";
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final String vaultName;
+    private final MeterRegistry meterRegistry;
+
+    public AzureVaultMetrics(String vaultName, MeterRegistry meterRegistry) {
+        this.vaultName = vaultName;
+        this.meterRegistry = meterRegistry;
+    }
+
+    static boolean isThrottled(Exception exception) {
+        return exception instanceof HttpResponseException responseException && responseException.getResponse() != null &&
+                responseException.getResponse().getStatusCode() == TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * Returns the outcome of a request that failed.
+     */
+    static String outcome(Exception exception) {
+        if (exception instanceof ResourceNotFoundException) {
+            return NOT_FOUND;
+        }
+        return isThrottled(exception) ? THROTTLED : ERROR;
+    }
+
+    Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    void record(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("edc.vault.azure.requests")
+                .description("Requests sent to the Azure vault")
+                .tag("vault", vaultName)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring assigning keys to shards. Every shard is placed on the ring at a number of virtual nodes, so
+ * that keys spread evenly and adding or removing a shard only moves the keys of its neighbours.
+ */
+class ConsistentHashRing<T> {
+
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+    private final List<T> shards;
+
+    ConsistentHashRing(List<T> shards, List<String> shardNames, int virtualNodes) {
+        if (shards.isEmpty() || shards.size() != shardNames.size()) {
+            throw new IllegalArgumentException("A ring needs at least one shard, and a name for each shard");
+        }
+        this.shards = List.copyOf(shards);
+        for (var i = 0; i < shards.size(); i++) {
+            for (var node = 0; node < virtualNodes; node++) {
+                ring.put(hash(shardNames.get(i) + "#" + node), shards.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the shard owning a key.
+     */
+    T shardFor(String key) {
+        var entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Returns all the shards except the owner of a key, in the order they follow it on the ring.
+     */
+    List<T> otherShards(String key) {
+        var owner = shardFor(key);
+        var others = new ArrayList<T>(shards.size() - 1);
+        for (var shard : ring.tailMap(hash(key), true).values()) {
+            addDistinct(others, shard, owner);
+        }
+        for (var shard : ring.values()) {
+            addDistinct(others, shard, owner);
+        }
+        return others;
+    }
+
+    List<T> shards() {
+        return shards;
+    }
+
+    private void addDistinct(List<T> others, T shard, T owner) {
+        if (shard != owner && !others.contains(shard)) {
+            others.add(shard);
+        }
+    }
+
+    private static long hash(String value) {
+        try {
+            var digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            var hash = 0L;
+            for (var i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xff);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the secrets resolved from Azure Key Vault, by the sanitized key under which they are stored in the vault.
+ * <p>
+ * Entries expire after a time to live, and the least recently used entries are dropped beyond the maximum size. Expired
+ * entries are swept at most once per time to live, when a secret is added. Secrets that change in Key Vault are
+ * evicted earlier by the Key Vault events received by the webhook of {@code AzureVaultEventsExtension}, so that the
+ * time to live only bounds the staleness when an event is lost or not published, e.g. for a deleted secret.
+ */
+public class SecretCache {
+
+    private final Duration timeToLive;
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    private Instant nextSweep = Instant.MIN;
+
+    /**
+     * Creates a cache.
+     *
+     * @param timeToLive the time after which a secret is resolved again, zero disables the cache
+     * @param maxSize the maximum number of cached secrets, 0 disables the cache
+     */
+    public SecretCache(Duration timeToLive, int maxSize, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static SecretCache disabled() {
+        return new SecretCache(Duration.ZERO, 0, Clock.systemUTC());
+    }
+
+    public boolean isEnabled() {
+        return !timeToLive.isZero() && maxSize > 0;
+    }
+
+    /**
+     * Returns a cached secret.
+     *
+     * @return the secret, or null if it is not cached or expired
+     */
+    public @Nullable String get(String key) {
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (!entry.expiresAt().isAfter(clock.instant())) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(String key, String value) {
+        if (!isEnabled()) {
+            return;
+        }
+        var now = clock.instant();
+        synchronized (entries) {
+            if (!now.isBefore(nextSweep)) {
+                entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+                nextSweep = now.plus(timeToLive);
+            }
+            entries.put(key, new Entry(value, now.plus(timeToLive)));
+        }
+    }
+
+    public void evict(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void evictAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the secrets currently cached and not expired.
+     */
+    public Map<String, String> snapshot() {
+        var now = clock.instant();
+        var secrets = new HashMap<String, String>();
+        synchronized (entries) {
+            entries.forEach((key, entry) -> {
+                if (entry.expiresAt().isAfter(now)) {
+                    secrets.put(key, entry.value());
+                }
+            });
+        }
+        return secrets;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(String value, Instant expiresAt) {
+    }
+}
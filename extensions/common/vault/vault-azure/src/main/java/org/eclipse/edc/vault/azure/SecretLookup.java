@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of looking up a secret in Key Vault without the {@link SecretCache}, which, unlike
+ * {@link AzureVault#resolveSecret(String)}, tells a missing secret apart from a lookup that failed or was throttled.
+ *
+ * @param status whether the secret was found
+ * @param value the secret, only set if it was found
+ */
+public record SecretLookup(Status status, @Nullable String value) {
+
+    public static SecretLookup found(String value) {
+        return new SecretLookup(Status.FOUND, value);
+    }
+
+    public static SecretLookup notFound() {
+        return new SecretLookup(Status.NOT_FOUND, null);
+    }
+
+    public static SecretLookup unknown() {
+        return new SecretLookup(Status.UNKNOWN, null);
+    }
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        /**
+         * The lookup failed or was throttled, so the secret may or may not exist.
+         */
+        UNKNOWN
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Vault spreading the secrets across several Azure Key Vaults, to sum up their per-vault transaction limits. Every
+ * secret is stored in the vault owning its sanitized key on a {@link ConsistentHashRing}.
+ * <p>
+ * While the vaults are resharded, secrets can still be in the vault that owned them before. With the fallback enabled
+ * a secret missing from its owner is looked up in the other vaults, and is deleted from all of them that may hold it.
+ */
+public class ShardedAzureVault implements Vault {
+
+    private final ConsistentHashRing<Shard> ring;
+    private final boolean fallback;
+    private final MeterRegistry meterRegistry;
+
+    public ShardedAzureVault(List<Shard> shards, int virtualNodes, boolean fallback, MeterRegistry meterRegistry) {
+        this.ring = new ConsistentHashRing<>(shards, shards.stream().map(Shard::name).toList(), virtualNodes);
+        this.fallback = fallback;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        var sanitizedKey = sanitizeKey(key);
+        var secret = resolve(ring.shardFor(sanitizedKey), key, "resolve");
+        if (secret != null || !fallback) {
+            return secret;
+        }
+        for (var shard : ring.otherShards(sanitizedKey)) {
+            secret = resolve(shard, key, "fallback-resolve");
+            if (secret != null) {
+                return secret;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks a secret up in its vault, and with the fallback enabled in the other vaults if it is missing, without the
+     * cache.
+     */
+    public SecretLookup lookupSecret(String key) {
+        var sanitizedKey = sanitizeKey(key);
+        var owner = ring.shardFor(sanitizedKey);
+        var lookup = record(owner, "lookup", () -> owner.vault().lookupSecret(key));
+        if (lookup.status() != SecretLookup.Status.NOT_FOUND || !fallback) {
+            return lookup;
+        }
+        for (var shard : ring.otherShards(sanitizedKey)) {
+            var fallbackLookup = record(shard, "fallback-lookup", () -> shard.vault().lookupSecret(key));
+            if (fallbackLookup.status() == SecretLookup.Status.FOUND) {
+                return fallbackLookup;
+            }
+            if (fallbackLookup.status() == SecretLookup.Status.UNKNOWN) {
+                lookup = fallbackLookup;
+            }
+        }
+        return lookup;
+    }
+
+    @Override
+    public Result<Void> storeSecret(String key, String value) {
+        var shard = ring.shardFor(sanitizeKey(key));
+        return record(shard, "store", () -> shard.vault().storeSecret(key, value));
+    }
+
+    @Override
+    public Result<Void> deleteSecret(String key) {
+        var sanitizedKey = sanitizeKey(key);
+        var owner = ring.shardFor(sanitizedKey);
+        if (fallback) {
+            // the shards share the cache, which may hold the secret of the owner, so they are asked directly
+            for (var shard : ring.otherShards(sanitizedKey)) {
+                var lookup = record(shard, "fallback-lookup", () -> shard.vault().lookupSecret(key));
+                if (lookup.status() != SecretLookup.Status.NOT_FOUND) {
+                    record(shard, "delete", () -> shard.vault().deleteSecret(key));
+                }
+            }
+        }
+        return record(owner, "delete", () -> owner.vault().deleteSecret(key));
+    }
+
+    private String resolve(Shard shard, String key, String operation) {
+        return record(shard, operation, () -> shard.vault().resolveSecret(key));
+    }
+
+    private <T> T record(Shard shard, String operation, Supplier<T> call) {
+        return Timer.builder("edc.vault.azure.shard.requests")
+                .description("Requests sent to a shard of the sharded Azure vault")
+                .tag("shard", shard.name())
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(call);
+    }
+
+    private String sanitizeKey(String key) {
+        return ring.shards().get(0).vault().sanitizeKey(key);
+    }
+
+    /**
+     * A vault of the sharded vault.
+     *
+     * @param name the name identifying the vault on the ring, which must not change when the vaults are resharded
+     */
+    public record Shard(String name, AzureVault vault) {
+    }
+}
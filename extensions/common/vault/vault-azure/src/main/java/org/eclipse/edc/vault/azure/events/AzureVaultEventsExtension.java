@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.events;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.vault.azure.SecretCache;
+import org.eclipse.edc.web.spi.WebService;
+
+/**
+ * Registers the webhook that evicts the secrets changed in Key Vault from the {@link SecretCache}.
+ */
+@Extension(value = AzureVaultEventsExtension.NAME)
+public class AzureVaultEventsExtension implements ServiceExtension {
+
+    public static final String NAME = "Azure Vault Events";
+
+    @Setting(description = "Enables the webhook receiving the Key Vault events of an Event Grid subscription", defaultValue = "false")
+    public static final String EVENTS_ENABLED = "edc.vault.azure.events.enabled";
+
+    @Setting(description = "The web context the Key Vault events webhook is registered in", defaultValue = "default")
+    public static final String EVENTS_CONTEXT = "edc.vault.azure.events.context";
+
+    @Setting(description = "Value of the token query parameter the Event Grid subscription endpoint must carry, required if the webhook is enabled", required = false)
+    public static final String EVENTS_TOKEN = "edc.vault.azure.events.token";
+
+    private static final String DEFAULT_EVENTS_CONTEXT = "default";
+
+    @Inject(required = false)
+    private WebService webService;
+
+    @Inject
+    private SecretCache secretCache;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        if (!config.getBoolean(EVENTS_ENABLED, false)) {
+            return;
+        }
+
+        var token = config.getString(EVENTS_TOKEN, null);
+        if (token == null || token.isBlank()) {
+            throw new EdcException("The Key Vault events webhook requires %s to be set".formatted(EVENTS_TOKEN));
+        }
+        if (webService == null) {
+            throw new EdcException("The Key Vault events webhook is enabled but the runtime has no web server");
+        }
+
+        var monitor = context.getMonitor();
+        if (!secretCache.isEnabled()) {
+            monitor.warning("The Key Vault events webhook is enabled but the secret cache is not, events will be ignored");
+        }
+
+        var handler = new KeyVaultEventHandler(secretCache, typeManager.getMapper(), monitor);
+        webService.registerResource(config.getString(EVENTS_CONTEXT, DEFAULT_EVENTS_CONTEXT),
+                new KeyVaultEventController(handler, token));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.events;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.OPTIONS;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Objects;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+
+/**
+ * Webhook receiving the Key Vault events of an Event Grid subscription.
+ */
+@Path(KeyVaultEventController.PATH)
+@Consumes({ APPLICATION_JSON, "application/cloudevents+json", "application/cloudevents-batch+json" })
+@Produces(APPLICATION_JSON)
+public class KeyVaultEventController {
+
+    static final String PATH = "/azure/keyvault/events";
+    static final String REQUEST_ORIGIN_HEADER = "WebHook-Request-Origin";
+    static final String ALLOWED_ORIGIN_HEADER = "WebHook-Allowed-Origin";
+
+    private final KeyVaultEventHandler handler;
+    private final String token;
+
+    /**
+     * Creates the controller.
+     *
+     * @param token the value the {@code token} query parameter of the subscription endpoint must have
+     */
+    public KeyVaultEventController(KeyVaultEventHandler handler, String token) {
+        this.handler = handler;
+        this.token = Objects.requireNonNull(token, "token");
+    }
+
+    @POST
+    public Response receive(@QueryParam("token") String requestToken, String body) {
+        if (!isAuthorized(requestToken)) {
+            return Response.status(Response.Status.UNAUTHORIZED).build();
+        }
+        try {
+            return handler.handle(body)
+                    .map(code -> Response.ok(Map.of("validationResponse", code)).build())
+                    .orElseGet(() -> Response.ok().build());
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * Abuse protection handshake of the CloudEvents webhook specification, used by Event Grid to validate the endpoint.
+     */
+    @OPTIONS
+    public Response handshake(@QueryParam("token") String requestToken, @HeaderParam(REQUEST_ORIGIN_HEADER) String origin) {
+        if (!isAuthorized(requestToken)) {
+            return Response.status(Response.Status.UNAUTHORIZED).build();
+        }
+        return Response.ok().header(ALLOWED_ORIGIN_HEADER, origin).build();
+    }
+
+    private boolean isAuthorized(String requestToken) {
+        return requestToken != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.vault.azure.SecretCache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+/**
+ * Evicts the secrets changed in Key Vault from the {@link SecretCache}. Accepts the events delivered by Event Grid
+ * both in the Event Grid schema, a JSON array of events, and in the CloudEvents schema, a single JSON object.
+ * <p>
+ * Key Vault does not publish an event when a secret is deleted, so deletions made outside this connector are only
+ * picked up once the cached secret expires.
+ */
+public class KeyVaultEventHandler {
+
+    static final String SUBSCRIPTION_VALIDATION_EVENT = "Microsoft.EventGrid.SubscriptionValidationEvent";
+    static final Set<String> INVALIDATING_EVENTS = Set.of(
+            "Microsoft.KeyVault.SecretNewVersionCreated",
+            "Microsoft.KeyVault.SecretExpired");
+
+    private final SecretCache cache;
+    private final ObjectMapper mapper;
+    private final Monitor monitor;
+
+    public KeyVaultEventHandler(SecretCache cache, ObjectMapper mapper, Monitor monitor) {
+        this.cache = cache;
+        this.mapper = mapper;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Handles a delivery of events.
+     *
+     * @return the validation code to echo back if the delivery is the validation of an Event Grid subscription
+     * @throws IllegalArgumentException if the body is not valid JSON
+     */
+    public Optional<String> handle(String body) {
+        JsonNode root;
+        try {
+            root = mapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid Key Vault event payload", e);
+        }
+
+        var events = root.isArray() ? StreamSupport.stream(root.spliterator(), false).toList() : List.of(root);
+        String validationCode = null;
+        for (var event : events) {
+            var type = event.hasNonNull("eventType") ? event.get("eventType").asText() : event.path("type").asText();
+            var data = event.path("data");
+            if (SUBSCRIPTION_VALIDATION_EVENT.equals(type)) {
+                validationCode = data.path("validationCode").asText(null);
+            } else if (INVALIDATING_EVENTS.contains(type)) {
+                var secretName = data.hasNonNull("ObjectName") ? data.get("ObjectName").asText() : event.path("subject").asText(null);
+                if (secretName != null) {
+                    monitor.debug("Evicting secret '%s' from the cache after %s".formatted(secretName, type));
+                    cache.evict(secretName);
+                }
+            }
+        }
+        return Optional.ofNullable(validationCode);
+    }
+}
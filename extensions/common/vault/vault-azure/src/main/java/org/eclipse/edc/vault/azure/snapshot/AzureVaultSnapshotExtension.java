@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.snapshot;
+
+import com.azure.identity.DefaultAzureCredentialBuilder;
+import com.azure.security.keyvault.keys.cryptography.CryptographyClientBuilder;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.vault.azure.AzureVault;
+import org.eclipse.edc.vault.azure.SecretCache;
+import org.eclipse.edc.vault.azure.SecretLookup;
+import org.eclipse.edc.vault.azure.ShardedAzureVault;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Persists the secrets cached by the Azure vault to an encrypted snapshot, restored when the connector starts.
+ */
+@Extension(value = AzureVaultSnapshotExtension.NAME)
+public class AzureVaultSnapshotExtension implements ServiceExtension {
+
+    public static final String NAME = "Azure Vault Snapshot";
+
+    @Setting(description = "Enables the encrypted snapshot of the cached secrets", defaultValue = "false")
+    public static final String SNAPSHOT_ENABLED = "edc.vault.azure.snapshot.enabled";
+
+    @Setting(description = "Path of the snapshot file", required = false)
+    public static final String SNAPSHOT_PATH = "edc.vault.azure.snapshot.path";
+
+    @Setting(description = "Seconds between two writes of the snapshot", defaultValue = "60")
+    public static final String SNAPSHOT_INTERVAL = "edc.vault.azure.snapshot.interval";
+
+    @Setting(description = "Identifier of the Key Vault RSA key wrapping the data key of the snapshot", required = false)
+    public static final String SNAPSHOT_KEY_ID = "edc.vault.azure.snapshot.key-id";
+
+    @Setting(description = "Path of a file holding the key material the data key of the snapshot is wrapped with, if no key-id is set", required = false)
+    public static final String SNAPSHOT_KEY_FILE = "edc.vault.azure.snapshot.key-file";
+
+    @Setting(description = "Mean milliseconds between two lookups verifying the restored secrets against the vault, randomized by half of it", defaultValue = "100")
+    public static final String SNAPSHOT_VERIFICATION_DELAY = "edc.vault.azure.snapshot.verification-delay";
+
+    private static final long DEFAULT_SNAPSHOT_INTERVAL_SECONDS = 60;
+    private static final long DEFAULT_SNAPSHOT_VERIFICATION_DELAY_MILLIS = 100;
+
+    @Inject
+    private Vault vault;
+
+    @Inject
+    private SecretCache secretCache;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Monitor monitor;
+
+    private SecretSnapshotService snapshotService;
+    private long intervalSeconds;
+    private ScheduledExecutorService executor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        if (!config.getBoolean(SNAPSHOT_ENABLED, false)) {
+            return;
+        }
+        if (!secretCache.isEnabled()) {
+            monitor.warning("The secret snapshot is enabled but the secret cache is not, no snapshot will be taken");
+            return;
+        }
+
+        var file = new SecretSnapshotFile(Path.of(config.getString(SNAPSHOT_PATH)), keyWrapper(config));
+        var verificationDelay = Duration.ofMillis(config.getLong(SNAPSHOT_VERIFICATION_DELAY, DEFAULT_SNAPSHOT_VERIFICATION_DELAY_MILLIS));
+        snapshotService = new SecretSnapshotService(file, secretCache, lookup(), verificationDelay, monitor);
+        intervalSeconds = config.getLong(SNAPSHOT_INTERVAL, DEFAULT_SNAPSHOT_INTERVAL_SECONDS);
+    }
+
+    @Override
+    public void start() {
+        if (snapshotService == null) {
+            return;
+        }
+        executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "azure-vault-snapshot");
+        executor.execute(snapshotService::restore);
+        executor.scheduleWithFixedDelay(snapshotService::persist, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            snapshotService.persist();
+        }
+    }
+
+    private Function<String, SecretLookup> lookup() {
+        if (vault instanceof AzureVault azureVault) {
+            return azureVault::lookupSecret;
+        }
+        if (vault instanceof ShardedAzureVault shardedVault) {
+            return shardedVault::lookupSecret;
+        }
+        // another vault cannot tell a missing secret from a failed lookup, so the restored secrets are only replaced
+        return key -> {
+            var secret = vault.resolveSecret(key);
+            return secret != null ? SecretLookup.found(secret) : SecretLookup.unknown();
+        };
+    }
+
+    private KeyWrapper keyWrapper(Config config) {
+        var keyId = config.getString(SNAPSHOT_KEY_ID, null);
+        if (keyId != null) {
+            return new KeyVaultKeyWrapper(new CryptographyClientBuilder()
+                    .keyIdentifier(keyId)
+                    .credential(new DefaultAzureCredentialBuilder().build())
+                    .buildClient());
+        }
+        var keyFile = config.getString(SNAPSHOT_KEY_FILE, null);
+        if (keyFile == null) {
+            throw new EdcException("The secret snapshot requires either %s or %s".formatted(SNAPSHOT_KEY_ID, SNAPSHOT_KEY_FILE));
+        }
+        try {
+            return new DerivedKeyWrapper(Files.readAllBytes(Path.of(keyFile)));
+        } catch (IOException e) {
+            throw new EdcException("Cannot read the key material of the secret snapshot from " + keyFile, e);
+        }
+    }
+}
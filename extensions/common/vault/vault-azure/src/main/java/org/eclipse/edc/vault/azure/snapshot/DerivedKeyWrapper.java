@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Wraps the data key with AES-GCM under a key derived from key material available to the pod only, e.g. a file
+ * projected from its workload identity.
+ */
+public class DerivedKeyWrapper implements KeyWrapper {
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final byte[] CONTEXT = "edc-vault-azure-snapshot".getBytes(StandardCharsets.UTF_8);
+
+    private final SecretKeySpec wrappingKey;
+    private final SecureRandom random = new SecureRandom();
+
+    public DerivedKeyWrapper(byte[] keyMaterial) {
+        if (keyMaterial.length == 0) {
+            throw new IllegalArgumentException("The key material must not be empty");
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(CONTEXT);
+            wrappingKey = new SecretKeySpec(digest.digest(keyMaterial), "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public byte[] wrap(byte[] dataKey) {
+        var iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, wrappingKey, new GCMParameterSpec(TAG_BITS, iv));
+            var encrypted = cipher.doFinal(dataKey);
+            return ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public byte[] unwrap(byte[] wrappedKey) {
+        try {
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, wrappingKey, new GCMParameterSpec(TAG_BITS, wrappedKey, 0, IV_LENGTH));
+            return cipher.doFinal(wrappedKey, IV_LENGTH, wrappedKey.length - IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("The data key cannot be unwrapped with the derived key", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.snapshot;
+
+import com.azure.security.keyvault.keys.cryptography.CryptographyClient;
+import com.azure.security.keyvault.keys.cryptography.models.KeyWrapAlgorithm;
+
+/**
+ * Wraps the data key with an RSA key of Azure Key Vault, which never leaves the vault.
+ */
+public class KeyVaultKeyWrapper implements KeyWrapper {
+
+    private final CryptographyClient cryptographyClient;
+
+    public KeyVaultKeyWrapper(CryptographyClient cryptographyClient) {
+        this.cryptographyClient = cryptographyClient;
+    }
+
+    @Override
+    public byte[] wrap(byte[] dataKey) {
+        return cryptographyClient.wrapKey(KeyWrapAlgorithm.RSA_OAEP_256, dataKey).getEncryptedKey();
+    }
+
+    @Override
+    public byte[] unwrap(byte[] wrappedKey) {
+        return cryptographyClient.unwrapKey(KeyWrapAlgorithm.RSA_OAEP_256, wrappedKey).getKey();
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.snapshot;
+
+/**
+ * Wraps the data key a secret snapshot is encrypted with, so that the snapshot can only be read by a holder of the
+ * wrapping key.
+ */
+public interface KeyWrapper {
+
+    byte[] wrap(byte[] dataKey);
+
+    byte[] unwrap(byte[] wrappedKey);
+}
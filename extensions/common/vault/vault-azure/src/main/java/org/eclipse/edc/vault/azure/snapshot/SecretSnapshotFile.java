@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.snapshot;
+
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * File holding an envelope-encrypted snapshot of secrets. The secrets are encrypted with AES-GCM under a random data
+ * key generated for every write, and the data key is stored wrapped by a {@link KeyWrapper}.
+ */
+public class SecretSnapshotFile {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int DATA_KEY_LENGTH = 32;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final Path path;
+    private final KeyWrapper keyWrapper;
+    private final SecureRandom random = new SecureRandom();
+
+    public SecretSnapshotFile(Path path, KeyWrapper keyWrapper) {
+        this.path = path;
+        this.keyWrapper = keyWrapper;
+    }
+
+    /**
+     * Reads the snapshot.
+     *
+     * @return the secrets by sanitized key, empty if there is no snapshot yet
+     * @throws EdcException if the snapshot cannot be read or decrypted
+     */
+    public Map<String, String> read() {
+        if (!Files.exists(path)) {
+            return Map.of();
+        }
+        try (var input = new DataInputStream(Files.newInputStream(path))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                throw new EdcException("Unsupported format of the secret snapshot " + path);
+            }
+            var dataKey = keyWrapper.unwrap(readBytes(input));
+            var iv = readBytes(input);
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(dataKey, "AES"), new GCMParameterSpec(TAG_BITS, iv));
+            return deserialize(cipher.doFinal(readBytes(input)));
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            throw new EdcException("Cannot read the secret snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Replaces the snapshot atomically, readable by the owner of the process only.
+     */
+    public void write(Map<String, String> secrets) {
+        var dataKey = new byte[DATA_KEY_LENGTH];
+        random.nextBytes(dataKey);
+        var iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(dataKey, "AES"), new GCMParameterSpec(TAG_BITS, iv));
+            var encrypted = cipher.doFinal(serialize(secrets));
+
+            var directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            var temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            restrictToOwner(temporary);
+            try (var output = new DataOutputStream(Files.newOutputStream(temporary))) {
+                output.writeInt(FORMAT_VERSION);
+                writeBytes(output, keyWrapper.wrap(dataKey));
+                writeBytes(output, iv);
+                writeBytes(output, encrypted);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new EdcException("Cannot write the secret snapshot " + path, e);
+        }
+    }
+
+    private void restrictToOwner(Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system, the file keeps the default permissions
+        }
+    }
+
+    private byte[] serialize(Map<String, String> secrets) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeInt(secrets.size());
+            for (var entry : secrets.entrySet()) {
+                writeBytes(output, entry.getKey().getBytes(StandardCharsets.UTF_8));
+                writeBytes(output, entry.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private Map<String, String> deserialize(byte[] bytes) throws IOException {
+        try (var input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            var count = input.readInt();
+            var secrets = new HashMap<String, String>(count);
+            for (var i = 0; i < count; i++) {
+                secrets.put(new String(readBytes(input), StandardCharsets.UTF_8), new String(readBytes(input), StandardCharsets.UTF_8));
+            }
+            return secrets;
+        }
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        var length = input.readInt();
+        var bytes = length >= 0 ? input.readNBytes(length) : null;
+        if (bytes == null || bytes.length != length) {
+            throw new IOException("Truncated secret snapshot");
+        }
+        return bytes;
+    }
+}
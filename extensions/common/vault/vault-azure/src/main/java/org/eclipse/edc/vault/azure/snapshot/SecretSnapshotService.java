@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.snapshot;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.vault.azure.SecretCache;
+import org.eclipse.edc.vault.azure.SecretLookup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Keeps a snapshot of the cached secrets on disk, so that a restarted connector serves them without querying Key Vault
+ * for every secret at once.
+ */
+public class SecretSnapshotService {
+
+    private final SecretSnapshotFile file;
+    private final SecretCache cache;
+    private final Function<String, SecretLookup> lookup;
+    private final Duration verificationDelay;
+    private final Monitor monitor;
+
+    /**
+     * Creates the service.
+     *
+     * @param lookup looks a secret up in the vault without the cache
+     * @param verificationDelay the mean delay between the lookups verifying the restored secrets, randomized by half of it
+     */
+    public SecretSnapshotService(SecretSnapshotFile file, SecretCache cache, Function<String, SecretLookup> lookup, Duration verificationDelay,
+                                 Monitor monitor) {
+        this.file = file;
+        this.cache = cache;
+        this.lookup = lookup;
+        this.verificationDelay = verificationDelay;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Loads the snapshot into the cache, then checks every secret against the vault, which replaces the changed
+     * secrets and drops the deleted ones. A restored secret is kept as long as its lookup fails or is throttled, until
+     * it expires from the cache.
+     */
+    public void restore() {
+        try {
+            var secrets = file.read();
+            var current = cache.snapshot();
+            secrets.forEach((key, value) -> {
+                if (!current.containsKey(key)) {
+                    cache.put(key, value);
+                }
+            });
+            monitor.info("Restored %d secrets from the snapshot".formatted(secrets.size()));
+
+            var unverified = 0;
+            for (var key : secrets.keySet()) {
+                pause();
+                var result = lookup.apply(key);
+                switch (result.status()) {
+                    case FOUND -> cache.put(key, result.value());
+                    case NOT_FOUND -> cache.evict(key);
+                    default -> unverified++;
+                }
+            }
+            monitor.debug("Checked the %d restored secrets against the vault, %d could not be checked".formatted(secrets.size(), unverified));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            monitor.debug("Stopped checking the restored secrets against the vault");
+        } catch (Exception e) {
+            monitor.warning("Cannot restore the secret snapshot, secrets are resolved from the vault", e);
+        }
+    }
+
+    /**
+     * Writes the secrets currently cached to the snapshot.
+     */
+    public void persist() {
+        try {
+            file.write(cache.snapshot());
+        } catch (Exception e) {
+            monitor.warning("Cannot write the secret snapshot", e);
+        }
+    }
+
+    // spreads the lookups of all restarted replicas over time instead of sending them to Key Vault at once
+    private void pause() throws InterruptedException {
+        var mean = verificationDelay.toMillis();
+        if (mean > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(mean - mean / 2, mean + mean / 2 + 1));
+        }
+    }
+}
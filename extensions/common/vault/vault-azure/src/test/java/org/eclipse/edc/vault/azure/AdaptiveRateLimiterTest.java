@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveRateLimiterTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void reserve_shouldSpacePermitsAtRate() {
+        var limiter = limiter(10, Duration.ofSeconds(1));
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(100 * MILLI);
+        assertThat(limiter.reserve()).isEqualTo(200 * MILLI);
+    }
+
+    @Test
+    void reserve_beyondMaxWait_shouldReject() {
+        var limiter = limiter(10, Duration.ofMillis(150));
+
+        limiter.reserve();
+        limiter.reserve();
+
+        assertThat(limiter.reserve()).isNull();
+    }
+
+    @Test
+    void onThrottled_shouldHalveRateAndHonourRetryAfter() {
+        var limiter = limiter(10, Duration.ofSeconds(5));
+
+        limiter.onThrottled(Duration.ofSeconds(2));
+
+        assertThat(limiter.rate()).isEqualTo(5);
+        assertThat(limiter.reserve()).isEqualTo(2_000 * MILLI);
+        assertThat(meterRegistry.get("edc.vault.azure.limiter.throttled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onThrottled_shouldNotGoBelowMinRate() {
+        var limiter = limiter(2, Duration.ofSeconds(1));
+
+        limiter.onThrottled(null);
+        limiter.onThrottled(null);
+
+        assertThat(limiter.rate()).isEqualTo(1);
+    }
+
+    @Test
+    void onSuccess_shouldIncreaseRateAdditivelyUpToMax() {
+        var limiter = limiter(10, Duration.ofSeconds(1));
+
+        for (var i = 0; i < 10; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.rate()).isBetween(10.9, 11.0);
+
+        for (var i = 0; i < 10_000; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.rate()).isEqualTo(20);
+        assertThat(meterRegistry.get("edc.vault.azure.limiter.rate").gauge().value()).isEqualTo(20);
+    }
+
+    @Test
+    void verifyInvalidRates_shouldThrow() {
+        assertThatThrownBy(() -> new AdaptiveRateLimiter("vault", 10, 0, 20, Duration.ofSeconds(1), meterRegistry, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveRateLimiter limiter(double initialRate, Duration maxWait) {
+        return new AdaptiveRateLimiter("vault", initialRate, 1, 20, maxWait, meterRegistry, now::get);
+    }
+}
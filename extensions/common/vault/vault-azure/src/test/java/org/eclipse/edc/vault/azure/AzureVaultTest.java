@@ -14,21 +14,36 @@
 
 package org.eclipse.edc.vault.azure;
 
+import com.azure.core.exception.HttpResponseException;
 import com.azure.core.exception.ResourceNotFoundException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpResponse;
+import com.azure.core.util.polling.SyncPoller;
 import com.azure.security.keyvault.secrets.SecretClient;
+import com.azure.security.keyvault.secrets.models.DeletedSecret;
 import com.azure.security.keyvault.secrets.models.KeyVaultSecret;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,4 +111,147 @@ class AzureVaultTest {
 
         verify(secretClient).setSecret(eq("x-123testkey"), eq("test-value"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void resolveSecret_cached_shouldNotFetchAgain() {
+        var cachedVault = new AzureVault(monitor, secretClient, new SecretCache(Duration.ofMinutes(1), 100, Clock.systemUTC()));
+        when(secretClient.getSecret("key")).thenReturn(new KeyVaultSecret("key", "secret"));
+
+        assertThat(cachedVault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(cachedVault.resolveSecret("key")).isEqualTo("secret");
+
+        verify(secretClient, times(1)).getSecret("key");
+    }
+
+    @Test
+    void resolveSecret_cacheExpired_shouldFetchAgain() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plusSeconds(61));
+        var cachedVault = new AzureVault(monitor, secretClient, new SecretCache(Duration.ofMinutes(1), 100, clock));
+        when(secretClient.getSecret("key")).thenReturn(new KeyVaultSecret("key", "secret"));
+
+        cachedVault.resolveSecret("key");
+        cachedVault.resolveSecret("key");
+
+        verify(secretClient, times(2)).getSecret("key");
+    }
+
+    @Test
+    void storeSecret_shouldEvictCachedSecret() {
+        var cache = new SecretCache(Duration.ofMinutes(1), 100, Clock.systemUTC());
+        var cachedVault = new AzureVault(monitor, secretClient, cache);
+        cache.put("key-name", "old");
+
+        cachedVault.storeSecret("key.name", "new");
+
+        assertThat(cache.get("key-name")).isNull();
+    }
+
+    @Test
+    void storeSecret_secretCachedDuringWrite_shouldBeEvicted() {
+        var cache = new SecretCache(Duration.ofMinutes(1), 100, Clock.systemUTC());
+        var cachedVault = new AzureVault(monitor, secretClient, cache);
+        when(secretClient.setSecret("key-name", "new")).thenAnswer(invocation -> {
+            cache.put("key-name", "old");
+            return new KeyVaultSecret("key-name", "new");
+        });
+
+        cachedVault.storeSecret("key.name", "new");
+
+        assertThat(cache.get("key-name")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteSecret_secretCachedDuringDeletion_shouldBeEvicted() {
+        var cache = new SecretCache(Duration.ofMinutes(1), 100, Clock.systemUTC());
+        var cachedVault = new AzureVault(monitor, secretClient, cache);
+        SyncPoller<DeletedSecret, Void> poller = mock(SyncPoller.class);
+        when(secretClient.beginDeleteSecret("key")).thenAnswer(invocation -> {
+            cache.put("key", "old");
+            return poller;
+        });
+
+        cachedVault.deleteSecret("key");
+
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void resolveSecret_concurrentCalls_shouldBeCoalesced() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(secretClient.getSecret("key")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new KeyVaultSecret("key", "secret");
+        });
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var first = executor.submit(() -> vault.resolveSecret("key"));
+            started.await(5, TimeUnit.SECONDS);
+            var second = executor.submit(() -> vault.resolveSecret("key"));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("secret");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("secret");
+            verify(secretClient, times(1)).getSecret("key");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void resolveSecret_throttled_shouldSlowDownLimiter() {
+        var limiter = spy(new AdaptiveRateLimiter("vault", 10, 1, 20, Duration.ofSeconds(5), new SimpleMeterRegistry()));
+        var limitedVault = new AzureVault(monitor, secretClient, SecretCache.disabled(), limiter);
+        var response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(429);
+        when(response.getHeaders()).thenReturn(new HttpHeaders().set(HttpHeaderName.RETRY_AFTER, "3"));
+        when(secretClient.getSecret("key")).thenThrow(new HttpResponseException("throttled", response));
+
+        var result = limitedVault.resolveSecret("key");
+
+        assertThat(result).isNull();
+        verify(limiter).onThrottled(Duration.ofSeconds(3));
+        assertThat(limiter.rate()).isEqualTo(5);
+    }
+
+    @Test
+    void resolveSecret_shouldRecordOutcome() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var instrumentedVault = new AzureVault(monitor, secretClient, SecretCache.disabled(), null, new AzureVaultMetrics("vault", meterRegistry));
+        when(secretClient.getSecret("key")).thenReturn(new KeyVaultSecret("key", "secret"));
+        when(secretClient.getSecret("missing")).thenThrow(new ResourceNotFoundException("error", mock(HttpResponse.class)));
+        when(secretClient.getSecret("broken")).thenThrow(new RuntimeException("error"));
+
+        instrumentedVault.resolveSecret("key");
+        instrumentedVault.resolveSecret("missing");
+        instrumentedVault.resolveSecret("broken");
+
+        assertThat(requests(meterRegistry, "resolve", "found")).isEqualTo(1);
+        assertThat(requests(meterRegistry, "resolve", "not-found")).isEqualTo(1);
+        assertThat(requests(meterRegistry, "resolve", "error")).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteSecret_shouldRecordPollAndPurge() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var instrumentedVault = new AzureVault(monitor, secretClient, SecretCache.disabled(), null, new AzureVaultMetrics("vault", meterRegistry));
+        SyncPoller<DeletedSecret, Void> poller = mock(SyncPoller.class);
+        when(secretClient.beginDeleteSecret("key")).thenReturn(poller);
+
+        var result = instrumentedVault.deleteSecret("key");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(requests(meterRegistry, "delete", "success")).isEqualTo(1);
+        assertThat(requests(meterRegistry, "delete-poll", "success")).isEqualTo(1);
+        assertThat(requests(meterRegistry, "purge", "success")).isEqualTo(1);
+    }
+
+    private long requests(SimpleMeterRegistry meterRegistry, String operation, String outcome) {
+        return meterRegistry.get("edc.vault.azure.requests").tags("vault", "vault", "operation", operation, "outcome", outcome).timer().count();
+    }
+}
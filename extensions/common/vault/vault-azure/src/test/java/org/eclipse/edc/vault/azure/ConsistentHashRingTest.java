@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> KEYS = IntStream.range(0, 10_000).mapToObj(i -> "key-" + i).toList();
+
+    @Test
+    void shardFor_shouldSpreadKeysEvenly() {
+        var shards = List.of("a", "b", "c", "d");
+        var ring = new ConsistentHashRing<>(shards, shards, 128);
+
+        var counts = new HashMap<String, Integer>();
+        KEYS.forEach(key -> counts.merge(ring.shardFor(key), 1, Integer::sum));
+
+        assertThat(counts).hasSize(4);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(1_800, 3_200));
+    }
+
+    @Test
+    void shardFor_addingShard_shouldOnlyMoveKeysToNewShard() {
+        var before = new ConsistentHashRing<>(List.of("a", "b", "c"), List.of("a", "b", "c"), 128);
+        var after = new ConsistentHashRing<>(List.of("a", "b", "c", "d"), List.of("a", "b", "c", "d"), 128);
+
+        var moved = KEYS.stream().filter(key -> !before.shardFor(key).equals(after.shardFor(key))).toList();
+
+        assertThat(moved).allSatisfy(key -> assertThat(after.shardFor(key)).isEqualTo("d"));
+        assertThat(moved.size()).isBetween(1_500, 3_500);
+    }
+
+    @Test
+    void otherShards_shouldListAllButOwner() {
+        var shards = List.of("a", "b", "c");
+        var ring = new ConsistentHashRing<>(shards, shards, 16);
+
+        var others = ring.otherShards("key");
+
+        assertThat(others).hasSize(2).doesNotContain(ring.shardFor("key")).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void verifyNoShards_shouldThrow() {
+        assertThatThrownBy(() -> new ConsistentHashRing<>(List.of(), List.of(), 16)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.vault.azure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SecretCacheTest {
+
+    private final Clock clock = mock();
+    private Instant now = Instant.EPOCH;
+    private final SecretCache cache = new SecretCache(Duration.ofMinutes(1), 2, clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenAnswer(invocation -> now);
+    }
+
+    @Test
+    void put_beyondMaxSize_shouldEvictLeastRecentlyUsed() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("3");
+    }
+
+    @Test
+    void put_afterTimeToLive_shouldSweepExpiredEntries() {
+        cache.put("a", "1");
+        now = now.plus(Duration.ofSeconds(61));
+
+        cache.put("b", "2");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.snapshot()).containsOnlyKeys("b");
+    }
+
+    @Test
+    void put_zeroMaxSize_shouldNotCache() {
+        var disabled = new SecretCache(Duration.ofMinutes(1), 0, clock);
+
+        disabled.put("a", "1");
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get("a")).isNull();
+    }
+}
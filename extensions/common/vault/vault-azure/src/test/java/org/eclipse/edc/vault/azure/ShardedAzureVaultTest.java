@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure;
+
+import com.azure.core.exception.ResourceNotFoundException;
+import com.azure.core.http.HttpResponse;
+import com.azure.security.keyvault.secrets.SecretClient;
+import com.azure.security.keyvault.secrets.models.KeyVaultSecret;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardedAzureVaultTest {
+
+    private final Monitor monitor = mock();
+    private final Map<String, SecretClient> clients = Map.of("vault-a", mock(SecretClient.class), "vault-b", mock(SecretClient.class), "vault-c", mock(SecretClient.class));
+    private final List<ShardedAzureVault.Shard> shards = clients.entrySet().stream()
+            .map(entry -> new ShardedAzureVault.Shard(entry.getKey(), new AzureVault(monitor, entry.getValue())))
+            .toList();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConsistentHashRing<String> ring = new ConsistentHashRing<>(shards.stream().map(ShardedAzureVault.Shard::name).toList(),
+            shards.stream().map(ShardedAzureVault.Shard::name).toList(), 16);
+
+    @BeforeEach
+    void setUp() {
+        clients.values().forEach(client -> when(client.getSecret(anyString())).thenThrow(new ResourceNotFoundException("not found", mock(HttpResponse.class))));
+    }
+
+    @Test
+    void resolveSecret_shouldOnlyQueryOwner() {
+        var vault = new ShardedAzureVault(shards, 16, false, meterRegistry);
+        var owner = ring.shardFor("key");
+        doReturn(new KeyVaultSecret("key", "secret")).when(clients.get(owner)).getSecret("key");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+
+        clients.forEach((name, client) -> {
+            if (!name.equals(owner)) {
+                verify(client, never()).getSecret(anyString());
+            }
+        });
+        assertThat(meterRegistry.get("edc.vault.azure.shard.requests").tags("shard", owner, "operation", "resolve").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void resolveSecret_missingFromOwner_withoutFallback_shouldReturnNull() {
+        var vault = new ShardedAzureVault(shards, 16, false, meterRegistry);
+        var other = ring.otherShards("key").get(0);
+        doReturn(new KeyVaultSecret("key", "secret")).when(clients.get(other)).getSecret("key");
+
+        assertThat(vault.resolveSecret("key")).isNull();
+    }
+
+    @Test
+    void resolveSecret_missingFromOwner_withFallback_shouldQueryOtherShards() {
+        var vault = new ShardedAzureVault(shards, 16, true, meterRegistry);
+        var other = ring.otherShards("key").get(1);
+        doReturn(new KeyVaultSecret("key", "secret")).when(clients.get(other)).getSecret("key");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("secret");
+        assertThat(meterRegistry.get("edc.vault.azure.shard.requests").tags("shard", other, "operation", "fallback-resolve").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void storeSecret_shouldWriteToOwner() {
+        var vault = new ShardedAzureVault(shards, 16, false, meterRegistry);
+        var owner = ring.shardFor("key");
+
+        assertThat(vault.storeSecret("key", "secret").succeeded()).isTrue();
+
+        verify(clients.get(owner)).setSecret("key", "secret");
+        clients.forEach((name, client) -> {
+            if (!name.equals(owner)) {
+                verify(client, never()).setSecret(anyString(), anyString());
+            }
+        });
+    }
+
+    @Test
+    void deleteSecret_withFallback_shouldOnlyDeleteFromShardsHoldingTheSecret() {
+        var cache = new SecretCache(Duration.ofMinutes(1), 100, Clock.systemUTC());
+        var cachedShards = clients.entrySet().stream()
+                .map(entry -> new ShardedAzureVault.Shard(entry.getKey(), new AzureVault(monitor, entry.getValue(), cache)))
+                .toList();
+        var vault = new ShardedAzureVault(cachedShards, 16, true, meterRegistry);
+        var owner = ring.shardFor("key");
+        var holding = ring.otherShards("key").get(0);
+        var notHolding = ring.otherShards("key").get(1);
+        doReturn(new KeyVaultSecret("key", "secret")).when(clients.get(owner)).getSecret("key");
+        doReturn(new KeyVaultSecret("key", "old")).when(clients.get(holding)).getSecret("key");
+        vault.resolveSecret("key");
+
+        vault.deleteSecret("key");
+
+        verify(clients.get(owner)).beginDeleteSecret("key");
+        verify(clients.get(holding)).beginDeleteSecret("key");
+        verify(clients.get(notHolding), atLeastOnce()).getSecret("key");
+        verify(clients.get(notHolding), never()).beginDeleteSecret(anyString());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.vault.azure.SecretCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class KeyVaultEventHandlerTest {
+
+    private final SecretCache cache = new SecretCache(Duration.ofMinutes(5), 100, Clock.systemUTC());
+    private final KeyVaultEventHandler handler = new KeyVaultEventHandler(cache, new ObjectMapper(), mock(Monitor.class));
+
+    @BeforeEach
+    void setUp() {
+        cache.put("x-key", "value");
+        cache.put("x-other", "value");
+    }
+
+    @Test
+    void handle_eventGridSchema_shouldEvictSecret() {
+        var body = """
+                [{"eventType": "Microsoft.KeyVault.SecretNewVersionCreated", "subject": "x-key",
+                  "data": {"ObjectType": "Secret", "ObjectName": "x-key", "VaultName": "vault"}}]
+                """;
+
+        var result = handler.handle(body);
+
+        assertThat(result).isEmpty();
+        assertThat(cache.get("x-key")).isNull();
+        assertThat(cache.get("x-other")).isEqualTo("value");
+    }
+
+    @Test
+    void handle_cloudEventSchema_shouldEvictSecret() {
+        var body = """
+                {"specversion": "1.0", "type": "Microsoft.KeyVault.SecretExpired", "subject": "x-key", "data": {}}
+                """;
+
+        handler.handle(body);
+
+        assertThat(cache.get("x-key")).isNull();
+    }
+
+    @Test
+    void handle_otherEvent_shouldNotEvict() {
+        var body = """
+                [{"eventType": "Microsoft.KeyVault.KeyNewVersionCreated", "subject": "x-key", "data": {"ObjectName": "x-key"}}]
+                """;
+
+        handler.handle(body);
+
+        assertThat(cache.get("x-key")).isEqualTo("value");
+    }
+
+    @Test
+    void handle_subscriptionValidation_shouldReturnCode() {
+        var body = """
+                [{"eventType": "Microsoft.EventGrid.SubscriptionValidationEvent", "subject": "",
+                  "data": {"validationCode": "512d38b6-c7b8-40c8-89fe-f46f9e9622b6"}}]
+                """;
+
+        assertThat(handler.handle(body)).contains("512d38b6-c7b8-40c8-89fe-f46f9e9622b6");
+    }
+
+    @Test
+    void handle_invalidJson_shouldThrow() {
+        assertThatThrownBy(() -> handler.handle("not json")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
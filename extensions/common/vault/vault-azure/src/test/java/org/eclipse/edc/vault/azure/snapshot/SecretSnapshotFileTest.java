@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.snapshot;
+
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SecretSnapshotFileTest {
+
+    private final KeyWrapper keyWrapper = new DerivedKeyWrapper("pod-key".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void write_shouldRoundTrip(@TempDir Path directory) throws Exception {
+        var file = new SecretSnapshotFile(directory.resolve("snapshot"), keyWrapper);
+
+        file.write(Map.of("key-1", "secret-1", "key-2", "sécret-2"));
+
+        assertThat(file.read()).containsExactlyInAnyOrderEntriesOf(Map.of("key-1", "secret-1", "key-2", "sécret-2"));
+        assertThat(Files.readString(directory.resolve("snapshot"), StandardCharsets.ISO_8859_1)).doesNotContain("secret-1");
+    }
+
+    @Test
+    void read_noSnapshot_shouldReturnEmpty(@TempDir Path directory) {
+        var file = new SecretSnapshotFile(directory.resolve("snapshot"), keyWrapper);
+
+        assertThat(file.read()).isEmpty();
+    }
+
+    @Test
+    void read_otherKey_shouldThrow(@TempDir Path directory) {
+        new SecretSnapshotFile(directory.resolve("snapshot"), keyWrapper).write(Map.of("key", "secret"));
+        var file = new SecretSnapshotFile(directory.resolve("snapshot"), new DerivedKeyWrapper("other-key".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(file::read).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void read_corrupted_shouldThrow(@TempDir Path directory) throws Exception {
+        var path = directory.resolve("snapshot");
+        new SecretSnapshotFile(path, keyWrapper).write(Map.of("key", "secret"));
+        var bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> new SecretSnapshotFile(path, keyWrapper).read()).isInstanceOf(EdcException.class);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.azure.snapshot;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.vault.azure.SecretCache;
+import org.eclipse.edc.vault.azure.SecretLookup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SecretSnapshotServiceTest {
+
+    private final SecretCache cache = new SecretCache(Duration.ofMinutes(5), 100, Clock.systemUTC());
+    private final Function<String, SecretLookup> noLookup = key -> SecretLookup.unknown();
+    private final Monitor monitor = mock();
+
+    @Test
+    void persistAndRestore_shouldRefreshSecretsFromVault(@TempDir Path directory) {
+        var file = snapshotFile(directory);
+        cache.put("unchanged", "value");
+        cache.put("changed", "old");
+        cache.put("deleted", "value");
+        new SecretSnapshotService(file, cache, noLookup, Duration.ZERO, monitor).persist();
+
+        var restartedCache = new SecretCache(Duration.ofMinutes(5), 100, Clock.systemUTC());
+        Function<String, SecretLookup> lookup = key -> switch (key) {
+            case "unchanged" -> SecretLookup.found("value");
+            case "changed" -> SecretLookup.found("new");
+            default -> SecretLookup.notFound();
+        };
+
+        new SecretSnapshotService(file, restartedCache, lookup, Duration.ZERO, monitor).restore();
+
+        assertThat(restartedCache.snapshot()).containsExactlyInAnyOrderEntriesOf(Map.of("unchanged", "value", "changed", "new"));
+    }
+
+    @Test
+    void restore_lookupFailed_shouldKeepRestoredSecret(@TempDir Path directory) {
+        var file = snapshotFile(directory);
+        cache.put("throttled", "value");
+        cache.put("deleted", "value");
+        new SecretSnapshotService(file, cache, noLookup, Duration.ZERO, monitor).persist();
+
+        var restartedCache = new SecretCache(Duration.ofMinutes(5), 100, Clock.systemUTC());
+        Function<String, SecretLookup> lookup = key -> key.equals("throttled") ? SecretLookup.unknown() : SecretLookup.notFound();
+
+        new SecretSnapshotService(file, restartedCache, lookup, Duration.ZERO, monitor).restore();
+
+        assertThat(restartedCache.snapshot()).containsExactlyEntriesOf(Map.of("throttled", "value"));
+    }
+
+    @Test
+    void restore_unreadableSnapshot_shouldKeepCacheEmpty(@TempDir Path directory) {
+        var writer = snapshotFile(directory);
+        writer.write(Map.of("key", "value"));
+        var reader = new SecretSnapshotFile(directory.resolve("snapshot"), new DerivedKeyWrapper("other-key".getBytes(StandardCharsets.UTF_8)));
+
+        new SecretSnapshotService(reader, cache, noLookup, Duration.ZERO, monitor).restore();
+
+        assertThat(cache.snapshot()).isEmpty();
+    }
+
+    private SecretSnapshotFile snapshotFile(Path directory) {
+        return new SecretSnapshotFile(directory.resolve("snapshot"), new DerivedKeyWrapper("pod-key".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -18,13 +18,16 @@ plugins {
 
 dependencies {
     api(libs.edc.spi.core)
+    api(libs.edc.spi.asset)
     api(libs.edc.lib.util)
+    api(project(":extensions:common:azure:azure-cosmos-postgres"))
     implementation(libs.failsafe.core)
+    implementation(libs.edc.sql.lib)
+    implementation(libs.edc.sql.assetindex)
+    implementation(libs.postgres)
 
     testImplementation(testFixtures(project(":extensions:common:azure:azure-test")))
     testImplementation(testFixtures(libs.edc.spi.asset))
-    testImplementation(libs.edc.sql.lib)
-    testImplementation(libs.edc.sql.assetindex)
 
 }
 
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * The properties of the assets that are covered by a search index.
+ *
+ * @param trigramProperties  the properties with a {@code pg_trgm} GIN index on their text value, used by {@code like} and
+ *                           {@code ilike} criteria on them
+ * @param fullTextProperty   the pseudo property whose {@code =} criteria are answered by the {@code search_vector} column, or
+ *                           null if there is no full-text index
+ * @param textSearchConfig   the text search configuration the {@code search_vector} column was generated with
+ */
+public record AssetSearchConfiguration(List<String> trigramProperties, @Nullable String fullTextProperty, String textSearchConfig) {
+
+    public static AssetSearchConfiguration none() {
+        return new AssetSearchConfiguration(List.of(), null, "simple");
+    }
+
+    public boolean isEnabled() {
+        return !trigramProperties.isEmpty() || fullTextProperty != null;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+
+import java.sql.SQLException;
+
+import static java.lang.String.format;
+
+/**
+ * Creates the trigram indexes of the configured asset properties that do not exist yet. The indexes are created
+ * {@code CONCURRENTLY}, so that the asset table stays writable while a large catalog is indexed.
+ */
+class AssetSearchIndexer implements Runnable {
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final CosmosAssetStatements statements;
+    private final AssetSearchConfiguration search;
+    private final Monitor monitor;
+
+    AssetSearchIndexer(DataSourceRegistry dataSourceRegistry, String dataSourceName, CosmosAssetStatements statements,
+                       AssetSearchConfiguration search, Monitor monitor) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.statements = statements;
+        this.search = search;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void run() {
+        // CREATE INDEX CONCURRENTLY cannot run within a transaction
+        try (var connection = dataSourceRegistry.resolve(dataSourceName).getConnection();
+             var statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            for (var property : search.trigramProperties()) {
+                var indexName = indexName(property);
+                monitor.debug(() -> format("Creating trigram index %s of asset property %s if it does not exist", indexName, property));
+                statement.execute(format("CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s USING gin (%s gin_trgm_ops)",
+                        indexName, statements.getAssetTable(), statements.propertyExpression(property)));
+            }
+        } catch (SQLException e) {
+            monitor.warning(format("Could not create the trigram indexes of the asset properties %s: %s", search.trigramProperties(), e.getMessage()), e);
+        }
+    }
+
+    String indexName(String property) {
+        return format("%s_trgm_%08x", statements.getAssetTable(), property.hashCode());
+    }
+}
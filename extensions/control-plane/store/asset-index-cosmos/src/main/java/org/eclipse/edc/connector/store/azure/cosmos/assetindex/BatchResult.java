@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Outcome of one batch of a bulk ingestion. A batch is written in a single transaction, so either all or none of its
+ * assets are stored.
+ *
+ * @param index the position of the batch in the ingested stream, starting at 0
+ * @param size the number of distinct assets in the batch
+ * @param error the reason why the batch was rolled back, or null if it succeeded
+ */
+public record BatchResult(int index, int size, @Nullable String error) {
+
+    public static BatchResult success(int index, int size) {
+        return new BatchResult(index, size, null);
+    }
+
+    public static BatchResult failure(int index, int size, String error) {
+        return new BatchResult(index, size, error);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk ingestion, with one {@link BatchResult} per batch in the order of the ingested stream.
+ */
+public record BulkIngestionResult(List<BatchResult> batches) {
+
+    public long ingested() {
+        return batches.stream().filter(BatchResult::succeeded).mapToLong(BatchResult::size).sum();
+    }
+
+    public List<BatchResult> failedBatches() {
+        return batches.stream().filter(batch -> !batch.succeeded()).toList();
+    }
+
+    public boolean succeeded() {
+        return batches.stream().allMatch(BatchResult::succeeded);
+    }
+}
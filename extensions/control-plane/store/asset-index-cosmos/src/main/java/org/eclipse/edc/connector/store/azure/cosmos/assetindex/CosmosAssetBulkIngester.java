@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.postgresql.PGConnection;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Writes large amounts of assets into the asset table of a Cosmos DB for PostgreSQL cluster.
+ * <p>
+ * The stream of assets is cut into batches that are written concurrently, each one in its own transaction. If the
+ * connection is a PostgreSQL connection, a batch is streamed into a temporary staging table with
+ * {@code COPY ... FROM STDIN (FORMAT binary)} and moved into the asset table with a single upsert, otherwise it is
+ * written with one multi-row upsert. Existing assets with the same id are replaced.
+ * <p>
+ * At most {@code parallelism} batches are in flight: the source stream is not consumed any further until one of them
+ * is done, so that arbitrarily large streams can be ingested with bounded memory.
+ * <p>
+ * The ingester writes into the table directly and bypasses the {@code AssetService}: the assets are not validated and no
+ * {@code AssetCreated} or {@code AssetUpdated} events are published. Callers validate the assets beforehand and must
+ * not rely on event subscribers, e.g. caches or catalog indexes, to learn about ingested assets.
+ */
+public class CosmosAssetBulkIngester {
+
+    private static final int COLUMN_COUNT = 5;
+    private static final byte[] COPY_SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+    // a bind parameter index is a 16 bit integer in the PostgreSQL wire protocol
+    private static final int MAX_BATCH_SIZE = Short.MAX_VALUE * 2 / COLUMN_COUNT;
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final TransactionContext transactionContext;
+    private final QueryExecutor queryExecutor;
+    private final AssetStatements statements;
+    private final ObjectMapper objectMapper;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final Monitor monitor;
+    private final int batchSize;
+    private final int parallelism;
+    private final String columns;
+
+    public CosmosAssetBulkIngester(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                   QueryExecutor queryExecutor, AssetStatements statements, ObjectMapper objectMapper,
+                                   ExecutorInstrumentation executorInstrumentation, Monitor monitor, int batchSize, int parallelism) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(format("Batch size must be between 1 and %d but was %d", MAX_BATCH_SIZE, batchSize));
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive but was " + parallelism);
+        }
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        this.statements = statements;
+        this.objectMapper = objectMapper;
+        this.executorInstrumentation = executorInstrumentation;
+        this.monitor = monitor;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        columns = String.join(", ", statements.getAssetIdColumn(), statements.getCreatedAtColumn(), statements.getPropertiesColumn(),
+                statements.getPrivatePropertiesColumn(), statements.getDataAddressColumn());
+    }
+
+    /**
+     * Ingests all assets of the stream and blocks until the last batch is written. A failed batch does not stop the
+     * ingestion of the following ones.
+     *
+     * @param assets the assets, duplicate ids within a batch are collapsed to the last occurrence
+     * @return the outcome of every batch
+     */
+    public BulkIngestionResult ingest(Stream<Asset> assets) {
+        var executor = executorInstrumentation.instrument(Executors.newFixedThreadPool(parallelism), "cosmos-asset-bulk-ingestion");
+        var inFlight = new Semaphore(parallelism);
+        var futures = new ArrayList<CompletableFuture<BatchResult>>();
+        try (assets) {
+            var iterator = assets.iterator();
+            var index = 0;
+            while (iterator.hasNext()) {
+                var batch = new LinkedHashMap<String, Asset>();
+                while (batch.size() < batchSize && iterator.hasNext()) {
+                    var asset = iterator.next();
+                    batch.put(asset.getId(), asset);
+                }
+                inFlight.acquire();
+                var batchIndex = index++;
+                var batchAssets = List.copyOf(batch.values());
+                futures.add(CompletableFuture.supplyAsync(() -> ingestBatch(batchIndex, batchAssets), executor)
+                        .whenComplete((result, throwable) -> inFlight.release()));
+            }
+            return new BulkIngestionResult(futures.stream().map(CompletableFuture::join).toList());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new EdcPersistenceException("Bulk ingestion of assets was interrupted");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private BatchResult ingestBatch(int index, List<Asset> batch) {
+        try {
+            transactionContext.execute(() -> {
+                try (var connection = getConnection()) {
+                    if (connection.isWrapperFor(PGConnection.class)) {
+                        copy(connection, batch);
+                    } else {
+                        upsert(connection, batch);
+                    }
+                } catch (SQLException | IOException e) {
+                    throw new EdcPersistenceException(e);
+                }
+            });
+            return BatchResult.success(index, batch.size());
+        } catch (Exception e) {
+            monitor.warning(format("Bulk ingestion of asset batch %d (%d assets) failed: %s", index, batch.size(), e.getMessage()), e);
+            return BatchResult.failure(index, batch.size(), e.getMessage());
+        }
+    }
+
+    private void copy(Connection connection, List<Asset> batch) throws SQLException, IOException {
+        var stagingTable = statements.getAssetTable() + "_bulk_staging";
+        queryExecutor.execute(connection, format("CREATE TEMPORARY TABLE IF NOT EXISTS %s (LIKE %s INCLUDING DEFAULTS)", stagingTable, statements.getAssetTable()));
+        queryExecutor.execute(connection, format("TRUNCATE %s", stagingTable));
+
+        var copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        copyManager.copyIn(format("COPY %s (%s) FROM STDIN (FORMAT binary)", stagingTable, columns),
+                new ByteArrayInputStream(encodeBinary(batch)));
+
+        queryExecutor.execute(connection, format("INSERT INTO %s (%s) SELECT %s FROM %s %s",
+                statements.getAssetTable(), columns, columns, stagingTable, onConflictClause()));
+    }
+
+    private void upsert(Connection connection, List<Asset> batch) {
+        var row = "(?, ?, ?::json, ?::json, ?::json)";
+        var parameters = new ArrayList<>(batch.size() * COLUMN_COUNT);
+        for (var asset : batch) {
+            parameters.add(asset.getId());
+            parameters.add(asset.getCreatedAt());
+            parameters.add(toJson(asset.getProperties()));
+            parameters.add(toJson(asset.getPrivateProperties()));
+            parameters.add(toJson(dataAddressProperties(asset)));
+        }
+        queryExecutor.execute(connection, format("INSERT INTO %s (%s) VALUES %s %s",
+                statements.getAssetTable(), columns, String.join(", ", Collections.nCopies(batch.size(), row)), onConflictClause()),
+                parameters.toArray());
+    }
+
+    private String onConflictClause() {
+        return format("ON CONFLICT (%1$s) DO UPDATE SET %2$s = EXCLUDED.%2$s, %3$s = EXCLUDED.%3$s, %4$s = EXCLUDED.%4$s, %5$s = EXCLUDED.%5$s",
+                statements.getAssetIdColumn(), statements.getCreatedAtColumn(), statements.getPropertiesColumn(),
+                statements.getPrivatePropertiesColumn(), statements.getDataAddressColumn());
+    }
+
+    /**
+     * Encodes the batch in the binary {@code COPY} format: a header, one tuple per asset made of length-prefixed
+     * fields, and a trailer. {@code json} and {@code varchar} are sent as UTF-8 text, {@code bigint} as 8 bytes.
+     */
+    private byte[] encodeBinary(List<Asset> batch) throws IOException {
+        var bytes = new ByteArrayOutputStream(batch.size() * 512);
+        var out = new DataOutputStream(bytes);
+        out.write(COPY_SIGNATURE);
+        out.writeInt(0);
+        out.writeInt(0);
+        for (var asset : batch) {
+            out.writeShort(COLUMN_COUNT);
+            writeText(out, asset.getId());
+            out.writeInt(Long.BYTES);
+            out.writeLong(asset.getCreatedAt());
+            writeText(out, toJson(asset.getProperties()));
+            writeText(out, toJson(asset.getPrivateProperties()));
+            writeText(out, toJson(dataAddressProperties(asset)));
+        }
+        out.writeShort(-1);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private void writeText(DataOutputStream out, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private Map<String, Object> dataAddressProperties(Asset asset) {
+        return asset.getDataAddress() != null ? asset.getDataAddress().getProperties() : Map.of();
+    }
+
+    private String toJson(Object object) {
+        try {
+            return objectMapper.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        return dataSourceRegistry.resolve(dataSourceName).getConnection();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import org.eclipse.edc.azure.cosmos.postgres.instrumentation.StatementInstrumentation;
+import org.eclipse.edc.azure.cosmos.postgres.pagination.KeysetMapping;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQuery;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQueryRegistry;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndex;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.Map;
+
+/**
+ * Provides the SQL {@link AssetIndex} with the Cosmos DB for PostgreSQL specific features on top of it.
+ */
+@Extension(value = CosmosAssetIndexExtension.NAME)
+public class CosmosAssetIndexExtension implements ServiceExtension {
+
+    public static final String NAME = "Cosmos Asset Index";
+
+    @Setting(description = "The datasource used by the asset index", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_NAME_SETTING = "edc.sql.store.asset.datasource";
+
+    @Setting(description = "Number of rows fetched at a time when streaming all assets matching a query", defaultValue = "1000")
+    public static final String STREAM_FETCH_SIZE_SETTING = "edc.cosmos.store.asset.stream.fetch-size";
+
+    @Setting(description = "The datasource of the streaming queries, e.g. the read-only name of a Cosmos datasource to read from its replicas", defaultValue = "the datasource of the store")
+    public static final String READ_DATASOURCE_NAME_SETTING = "edc.cosmos.store.asset.read-datasource";
+
+    @Setting(description = "Number of assets written in one transaction by the bulk ingestion", defaultValue = "1000")
+    public static final String BULK_BATCH_SIZE_SETTING = "edc.cosmos.asset.bulk.batch-size";
+
+    @Setting(description = "Number of batches the bulk ingestion writes concurrently", defaultValue = "4")
+    public static final String BULK_PARALLELISM_SETTING = "edc.cosmos.asset.bulk.parallelism";
+
+    public static final KeysetMapping KEYSET_MAPPING = new KeysetMapping("id", "asset_id", "createdAt", Map.of("createdAt", "created_at"));
+
+    private static final int DEFAULT_BULK_BATCH_SIZE = 1000;
+    private static final int DEFAULT_BULK_PARALLELISM = 4;
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+
+    @Inject
+    private AssetStatements statements;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private StatementInstrumentation statementInstrumentation;
+
+    @Inject
+    private StreamingQueryRegistry streamingQueryRegistry;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private QueryExecutor instrumentedQueryExecutor;
+    private AssetIndex assetIndex;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
+        var readDataSourceName = context.getConfig().getString(READ_DATASOURCE_NAME_SETTING, dataSourceName);
+        instrumentedQueryExecutor = statementInstrumentation.instrument(queryExecutor, "asset");
+        assetIndex = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), statements, instrumentedQueryExecutor);
+
+        var fetchSize = context.getConfig().getInteger(STREAM_FETCH_SIZE_SETTING, DEFAULT_STREAM_FETCH_SIZE);
+        streamingQueryRegistry.register(Asset.class, new StreamingQuery<>(dataSourceRegistry, readDataSourceName, statements::createQuery, KEYSET_MAPPING,
+                assetIndex::queryAssets, Asset::getId, fetchSize));
+    }
+
+    @Provider
+    public AssetIndex assetIndex() {
+        return assetIndex;
+    }
+
+    @Provider
+    public CosmosAssetBulkIngester assetBulkIngester(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        return new CosmosAssetBulkIngester(dataSourceRegistry, config.getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE),
+                transactionContext, instrumentedQueryExecutor, statements, typeManager.getMapper(), executorInstrumentation,
+                context.getMonitor(), config.getInteger(BULK_BATCH_SIZE_SETTING, DEFAULT_BULK_BATCH_SIZE),
+                config.getInteger(BULK_PARALLELISM_SETTING, DEFAULT_BULK_PARALLELISM));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.edc.connector.store.azure.cosmos.assetindex.CosmosAssetIndexExtension.DATASOURCE_NAME_SETTING;
+
+/**
+ * Provides the {@link AssetStatements} of the SQL asset index, with the criteria covered by a search index translated
+ * to predicates that use it, see {@link CosmosAssetStatements}. This is an extension of its own, because the SQL asset
+ * index depends on the statements, while {@link CosmosAssetIndexExtension} depends on the asset index.
+ */
+@Extension(value = CosmosAssetSearchExtension.NAME)
+public class CosmosAssetSearchExtension implements ServiceExtension {
+
+    public static final String NAME = "Cosmos Asset Search";
+
+    @Setting(description = "Comma separated asset properties with a trigram index, whose like and ilike criteria use the index", defaultValue = "")
+    public static final String TRIGRAM_PROPERTIES_SETTING = "edc.cosmos.store.asset.search.trigram-properties";
+
+    @Setting(description = "Creates the missing trigram indexes of the trigram properties in the background on start", defaultValue = "false")
+    public static final String CREATE_INDEXES_SETTING = "edc.cosmos.store.asset.search.create-indexes";
+
+    @Setting(description = "Enables the full-text search on the search_vector column of the asset table", defaultValue = "false")
+    public static final String FULL_TEXT_ENABLED_SETTING = "edc.cosmos.store.asset.search.fulltext.enabled";
+
+    @Setting(description = "The pseudo property whose = criteria are answered by the full-text search", defaultValue = "https://w3id.org/edc/v0.0.1/ns/search")
+    public static final String FULL_TEXT_PROPERTY_SETTING = "edc.cosmos.store.asset.search.fulltext.property";
+
+    @Setting(description = "The text search configuration the search_vector column was generated with", defaultValue = "simple")
+    public static final String TEXT_SEARCH_CONFIG_SETTING = "edc.cosmos.store.asset.search.fulltext.config";
+
+    private static final String DEFAULT_FULL_TEXT_PROPERTY = "https://w3id.org/edc/v0.0.1/ns/search";
+    private static final String DEFAULT_TEXT_SEARCH_CONFIG = "simple";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private CosmosAssetStatements statements;
+    private AssetSearchIndexer indexer;
+    private ExecutorService indexing;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var search = searchConfiguration(config);
+        statements = new CosmosAssetStatements(search);
+        if (config.getBoolean(CREATE_INDEXES_SETTING, false) && !search.trigramProperties().isEmpty()) {
+            var dataSourceName = config.getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
+            indexer = new AssetSearchIndexer(dataSourceRegistry, dataSourceName, statements, search, context.getMonitor());
+        }
+    }
+
+    @Provider
+    public AssetStatements assetStatements() {
+        return statements;
+    }
+
+    @Override
+    public void start() {
+        if (indexer != null) {
+            indexing = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "asset-search-indexing");
+            indexing.execute(indexer);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (indexing != null) {
+            indexing.shutdownNow();
+        }
+    }
+
+    private static AssetSearchConfiguration searchConfiguration(Config config) {
+        var trigramProperties = Arrays.stream(config.getString(TRIGRAM_PROPERTIES_SETTING, "").split(","))
+                .map(String::trim)
+                .filter(property -> !property.isEmpty())
+                .toList();
+        var fullTextProperty = config.getBoolean(FULL_TEXT_ENABLED_SETTING, false)
+                ? config.getString(FULL_TEXT_PROPERTY_SETTING, DEFAULT_FULL_TEXT_PROPERTY)
+                : null;
+        return new AssetSearchConfiguration(trigramProperties, fullTextProperty, config.getString(TEXT_SEARCH_CONFIG_SETTING, DEFAULT_TEXT_SEARCH_CONFIG));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The statements of the SQL asset index, with the criteria that a search index can answer translated to predicates that
+ * use it.
+ * <p>
+ * A {@code like} or {@code ilike} criterion on a property with a trigram index is translated to the exact expression
+ * of the index, {@code (properties ->> '<property>')}, so that the planner can use it instead of scanning and parsing
+ * the {@code properties} of every asset. An {@code =} criterion on the full-text pseudo property is translated to a
+ * match of the {@code search_vector} column against {@code websearch_to_tsquery}. All other criteria are translated by
+ * the SQL asset index.
+ */
+public class CosmosAssetStatements extends PostgresDialectStatements {
+
+    private static final Set<String> LIKE_OPERATORS = Set.of("like", "ilike");
+
+    private final AssetSearchConfiguration search;
+
+    public CosmosAssetStatements(AssetSearchConfiguration search) {
+        this.search = search;
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        if (!search.isEnabled()) {
+            return super.createQuery(querySpec);
+        }
+
+        var indexed = new ArrayList<Criterion>();
+        var other = new ArrayList<Criterion>();
+        for (var criterion : querySpec.getFilterExpression()) {
+            (isIndexed(criterion) ? indexed : other).add(criterion);
+        }
+        if (indexed.isEmpty()) {
+            return super.createQuery(querySpec);
+        }
+
+        var statement = super.createQuery(QuerySpec.Builder.newInstance()
+                .filter(other)
+                .offset(querySpec.getOffset())
+                .limit(querySpec.getLimit())
+                .sortField(querySpec.getSortField())
+                .sortOrder(querySpec.getSortOrder())
+                .build());
+        for (var criterion : indexed) {
+            var property = (String) criterion.getOperandLeft();
+            if (property.equals(search.fullTextProperty())) {
+                statement.addWhereClause("search_vector @@ websearch_to_tsquery('%s', ?)".formatted(literal(search.textSearchConfig())), criterion.getOperandRight());
+            } else {
+                statement.addWhereClause("%s %s ?".formatted(propertyExpression(property), criterion.getOperator().toUpperCase(Locale.ROOT)), criterion.getOperandRight());
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * The text value of a property, which is also the expression of its trigram index.
+     */
+    String propertyExpression(String property) {
+        return "(%s ->> '%s')".formatted(getPropertiesColumn(), literal(property));
+    }
+
+    private boolean isIndexed(Criterion criterion) {
+        if (!(criterion.getOperandLeft() instanceof String property) || !(criterion.getOperandRight() instanceof String)) {
+            return false;
+        }
+        var operator = criterion.getOperator().toLowerCase(Locale.ROOT);
+        if (property.equals(search.fullTextProperty())) {
+            return operator.equals("=");
+        }
+        return LIKE_OPERATORS.contains(operator) && search.trigramProperties().contains(property);
+    }
+
+    private static String literal(String value) {
+        return value.replace("'", "''");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosTest;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndex;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+import static org.mockito.Mockito.mock;
+
+@PostgresCosmosTest
+@ExtendWith(CosmosPostgresTestExtension.class)
+class CosmosAssetBulkIngesterTest {
+
+    private static final BaseSqlDialectStatements SQL_STATEMENTS = new PostgresDialectStatements();
+
+    private DataSourceRegistry dataSourceRegistry;
+    private TransactionContext transactionContext;
+    private QueryExecutor queryExecutor;
+    private SqlAssetIndex assetIndex;
+
+    @BeforeAll
+    static void prepare(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.executeStatement(getResourceFileContentAsString("schema.sql"));
+    }
+
+    @AfterAll
+    static void dropTables(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.dropTable(SQL_STATEMENTS.getAssetTable());
+    }
+
+    @BeforeEach
+    void setUp(TransactionContext transactionContext, QueryExecutor queryExecutor, DataSourceRegistry reg, CosmosPostgresTestExtension.SqlHelper helper) {
+        this.dataSourceRegistry = reg;
+        this.transactionContext = transactionContext;
+        this.queryExecutor = queryExecutor;
+        assetIndex = new SqlAssetIndex(reg, DEFAULT_DATASOURCE_NAME, transactionContext, new ObjectMapper(), SQL_STATEMENTS, queryExecutor);
+        helper.truncateTable(SQL_STATEMENTS.getAssetTable());
+    }
+
+    @Test
+    void ingest() {
+        var result = ingester(SQL_STATEMENTS).ingest(IntStream.range(0, 250).mapToObj(i -> asset("asset-" + i, "name-" + i)));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.batches()).hasSize(3);
+        assertThat(result.ingested()).isEqualTo(250);
+        assertThat(assetIndex.countAssets(QuerySpec.none().getFilterExpression())).isEqualTo(250);
+        assertThat(assetIndex.findById("asset-42"))
+                .satisfies(asset -> {
+                    assertThat(asset.getProperty("name")).isEqualTo("name-42");
+                    assertThat(asset.getDataAddress().getType()).isEqualTo("test-type");
+                });
+    }
+
+    @Test
+    void ingest_existingAssets_shouldReplaceThem() {
+        assetIndex.create(asset("asset-1", "old"));
+
+        var result = ingester(SQL_STATEMENTS).ingest(Stream.of(asset("asset-1", "new"), asset("asset-2", "new")));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(assetIndex.findById("asset-1").getProperty("name")).isEqualTo("new");
+        assertThat(assetIndex.findById("asset-2")).isNotNull();
+    }
+
+    @Test
+    void ingest_failingBatch_shouldReportIt() {
+        var missingTable = new PostgresDialectStatements() {
+            @Override
+            public String getAssetTable() {
+                return "edc_asset_missing";
+            }
+        };
+
+        var result = ingester(missingTable).ingest(IntStream.range(0, 150).mapToObj(i -> asset("asset-" + i, "name")));
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.ingested()).isZero();
+        assertThat(result.failedBatches()).hasSize(2).allSatisfy(batch -> assertThat(batch.error()).isNotBlank());
+    }
+
+    private CosmosAssetBulkIngester ingester(BaseSqlDialectStatements statements) {
+        return new CosmosAssetBulkIngester(dataSourceRegistry, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, statements,
+                new ObjectMapper(), ExecutorInstrumentation.noop(), mock(Monitor.class), 100, 2);
+    }
+
+    private Asset asset(String id, String name) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property("name", name)
+                .dataAddress(DataAddress.Builder.newInstance().type("test-type").build())
+                .build();
+    }
+}
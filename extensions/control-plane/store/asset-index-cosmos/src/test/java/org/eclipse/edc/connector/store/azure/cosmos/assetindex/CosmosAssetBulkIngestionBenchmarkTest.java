@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosBenchmark;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndex;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+
+/**
+ * Compares the throughput of the bulk ingestion with the one of {@link SqlAssetIndex#create(Asset)}. Meant to be run
+ * against a local PostgreSQL instance, e.g. {@code PG_CONNECTION_STRING=jdbc:postgresql://localhost:5432/postgres?user=postgres&password=password}.
+ * The number of ingested assets can be set with the {@code edc.benchmark.assets} system property.
+ */
+@PostgresCosmosBenchmark
+@ExtendWith(CosmosPostgresTestExtension.class)
+class CosmosAssetBulkIngestionBenchmarkTest {
+
+    private static final BaseSqlDialectStatements SQL_STATEMENTS = new PostgresDialectStatements();
+    private static final int ASSET_COUNT = Integer.getInteger("edc.benchmark.assets", 1_000_000);
+    private static final int SEQUENTIAL_SAMPLE = 10_000;
+
+    private SqlAssetIndex assetIndex;
+    private CosmosAssetBulkIngester ingester;
+
+    @BeforeAll
+    static void prepare(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.executeStatement(getResourceFileContentAsString("schema.sql"));
+    }
+
+    @AfterAll
+    static void dropTables(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.dropTable(SQL_STATEMENTS.getAssetTable());
+    }
+
+    @BeforeEach
+    void setUp(TransactionContext transactionContext, QueryExecutor queryExecutor, DataSourceRegistry reg, CosmosPostgresTestExtension.SqlHelper helper) {
+        assetIndex = new SqlAssetIndex(reg, DEFAULT_DATASOURCE_NAME, transactionContext, new ObjectMapper(), SQL_STATEMENTS, queryExecutor);
+        ingester = new CosmosAssetBulkIngester(reg, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, SQL_STATEMENTS,
+                new ObjectMapper(), ExecutorInstrumentation.noop(), new ConsoleMonitor(), 1000, 4);
+        helper.truncateTable(SQL_STATEMENTS.getAssetTable());
+    }
+
+    @Test
+    void bulkVersusSequentialIngestion() {
+        var start = System.nanoTime();
+        IntStream.range(0, SEQUENTIAL_SAMPLE).mapToObj(i -> asset("sequential-" + i)).forEach(assetIndex::create);
+        var sequentialThroughput = SEQUENTIAL_SAMPLE / seconds(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        var result = ingester.ingest(IntStream.range(0, ASSET_COUNT).mapToObj(i -> asset("bulk-" + i)));
+        var bulkThroughput = ASSET_COUNT / seconds(System.nanoTime() - start);
+
+        System.out.printf("sequential create: %.0f assets/s (%d assets)%n", sequentialThroughput, SEQUENTIAL_SAMPLE);
+        System.out.printf("bulk ingestion:    %.0f assets/s (%d assets)%n", bulkThroughput, ASSET_COUNT);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.ingested()).isEqualTo(ASSET_COUNT);
+        assertThat(bulkThroughput).isGreaterThan(sequentialThroughput);
+    }
+
+    private double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private Asset asset(String id) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property("name", id)
+                .property("description", "an asset created by the bulk ingestion benchmark")
+                .dataAddress(DataAddress.Builder.newInstance().type("HttpData").property("baseUrl", "http://localhost/" + id).build())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.azure.cosmos.postgres.pagination.ContinuationToken;
+import org.eclipse.edc.azure.cosmos.postgres.pagination.KeysetPaginator;
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosBenchmark;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndex;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.eclipse.edc.connector.store.azure.cosmos.assetindex.CosmosAssetIndexExtension.KEYSET_MAPPING;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+
+/**
+ * Compares the latency of the first and of a deep page of assets between {@code LIMIT/OFFSET} and keyset pagination.
+ * The size of the table can be set with the {@code edc.benchmark.assets} system property.
+ */
+@PostgresCosmosBenchmark
+@ExtendWith(CosmosPostgresTestExtension.class)
+class CosmosAssetIndexPaginationBenchmarkTest {
+
+    private static final BaseSqlDialectStatements SQL_STATEMENTS = new PostgresDialectStatements();
+    private static final int ASSET_COUNT = Integer.getInteger("edc.benchmark.assets", 2_000_000);
+    private static final int PAGE_SIZE = 50;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int ITERATIONS = 20;
+
+    private SqlAssetIndex assetIndex;
+    private KeysetPaginator<Asset> paginator;
+
+    @BeforeAll
+    static void prepare(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.executeStatement(getResourceFileContentAsString("schema.sql"));
+        helper.truncateTable(SQL_STATEMENTS.getAssetTable());
+        helper.executeStatement("""
+                INSERT INTO edc_asset (asset_id, created_at, properties, private_properties, data_address)
+                SELECT 'asset-' || i, 1700000000000 + i, json_build_object('name', 'asset-' || i), '{}',
+                       '{"properties":{"https://w3id.org/edc/v0.0.1/ns/type":"test"}}'
+                FROM generate_series(1, %d) AS i;
+                ANALYZE edc_asset;
+                """.formatted(ASSET_COUNT));
+    }
+
+    @AfterAll
+    static void dropTables(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.dropTable(SQL_STATEMENTS.getAssetTable());
+    }
+
+    @BeforeEach
+    void setUp(TransactionContext transactionContext, QueryExecutor queryExecutor, DataSourceRegistry reg) {
+        assetIndex = new SqlAssetIndex(reg, DEFAULT_DATASOURCE_NAME, transactionContext, new ObjectMapper(), SQL_STATEMENTS, queryExecutor);
+        paginator = new KeysetPaginator<>(reg, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor,
+                SQL_STATEMENTS::createQuery, KEYSET_MAPPING, assetIndex::queryAssets, Asset::getId);
+    }
+
+    @Test
+    void firstPageVersusDeepPage(DataSource dataSource) throws SQLException {
+        var deepOffset = (DEEP_PAGE - 1) * PAGE_SIZE;
+        var deepToken = tokenBefore(dataSource, deepOffset);
+
+        var offsetFirst = medianMillis(() -> offsetPage(0));
+        var offsetDeep = medianMillis(() -> offsetPage(deepOffset));
+        var keysetFirst = medianMillis(() -> keysetPage(null));
+        var keysetDeep = medianMillis(() -> keysetPage(deepToken));
+
+        System.out.printf("assets=%d page-size=%d%n", ASSET_COUNT, PAGE_SIZE);
+        System.out.printf("LIMIT/OFFSET  page 1: %.2f ms, page %d: %.2f ms%n", offsetFirst, DEEP_PAGE, offsetDeep);
+        System.out.printf("keyset        page 1: %.2f ms, page %d: %.2f ms%n", keysetFirst, DEEP_PAGE, keysetDeep);
+
+        // the cost of a keyset page must not depend on its depth
+        assertThat(keysetDeep).isLessThan(Math.max(keysetFirst * 3, keysetFirst + 10));
+    }
+
+    private int offsetPage(int offset) {
+        var spec = QuerySpec.Builder.newInstance().sortField("createdAt").sortOrder(SortOrder.ASC).offset(offset).limit(PAGE_SIZE).build();
+        try (var assets = assetIndex.queryAssets(spec)) {
+            return (int) assets.count();
+        }
+    }
+
+    private int keysetPage(String token) {
+        var spec = QuerySpec.Builder.newInstance().sortField("createdAt").sortOrder(SortOrder.ASC).limit(PAGE_SIZE).build();
+        return paginator.query(spec, token).items().size();
+    }
+
+    private String tokenBefore(DataSource dataSource, int offset) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("SELECT created_at, asset_id FROM edc_asset ORDER BY created_at, asset_id OFFSET ? LIMIT 1")) {
+            statement.setInt(1, offset - 1);
+            try (var resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+                return new ContinuationToken("createdAt", SortOrder.ASC, resultSet.getLong(1), resultSet.getString(2)).encode();
+            }
+        }
+    }
+
+    private double medianMillis(Runnable query) {
+        // warm up caches and plans
+        for (var i = 0; i < 3; i++) {
+            query.run();
+        }
+        var samples = new long[ITERATIONS];
+        for (var i = 0; i < ITERATIONS; i++) {
+            var start = System.nanoTime();
+            query.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosBenchmark;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndex;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Compares the latency of substring and keyword searches over the asset names between the JSON translation of the SQL
+ * asset index, the trigram index and the full-text index. The size of the table can be set with the
+ * {@code edc.benchmark.assets} system property.
+ */
+@PostgresCosmosBenchmark
+@ExtendWith(CosmosPostgresTestExtension.class)
+class CosmosAssetSearchBenchmarkTest {
+
+    private static final String NAME = "https://w3id.org/edc/v0.0.1/ns/name";
+    private static final String DESCRIPTION = "https://w3id.org/edc/v0.0.1/ns/description";
+    private static final String SEARCH = "https://w3id.org/edc/v0.0.1/ns/search";
+    private static final CosmosAssetStatements SQL_STATEMENTS = new CosmosAssetStatements(new AssetSearchConfiguration(List.of(NAME, DESCRIPTION), SEARCH, "simple"));
+    private static final int ASSET_COUNT = Integer.getInteger("edc.benchmark.assets", 1_000_000);
+    private static final int ITERATIONS = 20;
+
+    @BeforeAll
+    static void prepare(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.executeStatement(getResourceFileContentAsString("schema.sql"));
+        helper.truncateTable(SQL_STATEMENTS.getAssetTable());
+        // one asset in ten thousand is a "turbine" asset
+        helper.executeStatement("""
+                INSERT INTO edc_asset (asset_id, created_at, properties, private_properties, data_address)
+                SELECT 'asset-' || i, 1700000000000 + i,
+                       json_build_object('%s', CASE WHEN i %% 10000 = 0 THEN 'Turbine ' ELSE 'Part ' END || md5(i::text),
+                                         '%s', 'Component ' || i || ' of assembly ' || (i %% 977)),
+                       '{}', '{"properties":{"https://w3id.org/edc/v0.0.1/ns/type":"test"}}'
+                FROM generate_series(1, %d) AS i;
+                ANALYZE edc_asset;
+                """.formatted(NAME, DESCRIPTION, ASSET_COUNT));
+    }
+
+    @AfterAll
+    static void dropTables(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.dropTable(SQL_STATEMENTS.getAssetTable());
+    }
+
+    @Test
+    void substringAndKeywordSearch(TransactionContext transactionContext, QueryExecutor queryExecutor, DataSourceRegistry reg,
+                                   CosmosPostgresTestExtension.SqlHelper helper) {
+        var jsonIndex = new SqlAssetIndex(reg, DEFAULT_DATASOURCE_NAME, transactionContext, new ObjectMapper(), new PostgresDialectStatements(), queryExecutor);
+        var searchIndex = new SqlAssetIndex(reg, DEFAULT_DATASOURCE_NAME, transactionContext, new ObjectMapper(), SQL_STATEMENTS, queryExecutor);
+        var substring = criterion(NAME, "ilike", "%turbine%");
+        var expected = ASSET_COUNT / 10_000;
+
+        assertThat(count(jsonIndex, substring)).isEqualTo(expected);
+        var withoutIndex = medianMillis(() -> count(jsonIndex, substring));
+
+        helper.executeStatement(getResourceFileContentAsString("search-schema.sql") + "ANALYZE edc_asset;");
+
+        assertThat(count(searchIndex, substring)).isEqualTo(expected);
+        assertThat(count(searchIndex, criterion(SEARCH, "=", "turbine"))).isEqualTo(expected);
+        var trigram = medianMillis(() -> count(searchIndex, substring));
+        var fullText = medianMillis(() -> count(searchIndex, criterion(SEARCH, "=", "turbine")));
+
+        System.out.printf("assets=%d matches=%d%n", ASSET_COUNT, expected);
+        System.out.printf("ilike without index: %.2f ms%n", withoutIndex);
+        System.out.printf("ilike trigram index: %.2f ms%n", trigram);
+        System.out.printf("full-text index:     %.2f ms%n", fullText);
+
+        assertThat(trigram).isLessThan(withoutIndex);
+        assertThat(fullText).isLessThan(withoutIndex);
+    }
+
+    private int count(SqlAssetIndex assetIndex, Criterion criterion) {
+        try (var assets = assetIndex.queryAssets(QuerySpec.Builder.newInstance().filter(criterion).limit(Integer.MAX_VALUE).build())) {
+            return (int) assets.count();
+        }
+    }
+
+    private double medianMillis(Runnable query) {
+        // warm up caches and plans
+        for (var i = 0; i < 3; i++) {
+            query.run();
+        }
+        var samples = new long[ITERATIONS];
+        for (var i = 0; i < ITERATIONS; i++) {
+            var start = System.nanoTime();
+            query.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000.0;
+    }
+}
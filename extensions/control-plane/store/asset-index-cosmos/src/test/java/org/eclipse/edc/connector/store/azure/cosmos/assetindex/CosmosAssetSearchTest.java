@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosTest;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+@PostgresCosmosTest
+@ExtendWith(CosmosPostgresTestExtension.class)
+class CosmosAssetSearchTest {
+
+    private static final String NAME = "https://w3id.org/edc/v0.0.1/ns/name";
+    private static final String DESCRIPTION = "https://w3id.org/edc/v0.0.1/ns/description";
+    private static final String SEARCH = "https://w3id.org/edc/v0.0.1/ns/search";
+    private static final CosmosAssetStatements SQL_STATEMENTS = new CosmosAssetStatements(new AssetSearchConfiguration(List.of(NAME, DESCRIPTION), SEARCH, "simple"));
+
+    private SqlAssetIndex assetIndex;
+
+    @BeforeAll
+    static void prepare(CosmosPostgresTestExtension.SqlHelper runner) {
+        runner.executeStatement(getResourceFileContentAsString("schema.sql"));
+        runner.executeStatement(getResourceFileContentAsString("search-schema.sql"));
+    }
+
+    @AfterAll
+    static void dropTables(CosmosPostgresTestExtension.SqlHelper runner) {
+        runner.dropTable(SQL_STATEMENTS.getAssetTable());
+    }
+
+    @BeforeEach
+    void setUp(TransactionContext transactionContext, QueryExecutor queryExecutor, CosmosPostgresTestExtension.SqlHelper runner, DataSourceRegistry reg) {
+        assetIndex = new SqlAssetIndex(reg, DEFAULT_DATASOURCE_NAME, transactionContext, new ObjectMapper(), SQL_STATEMENTS, queryExecutor);
+        runner.truncateTable(SQL_STATEMENTS.getAssetTable());
+
+        assetIndex.create(asset("asset-1", "Jet Engine Telemetry", "Sensor readings of the jet engines of the fleet"));
+        assetIndex.create(asset("asset-2", "Engine maintenance log", "Maintenance events of all engines"));
+        assetIndex.create(asset("asset-3", "Cabin temperature", "Temperature of the cabin during the flight"));
+    }
+
+    @Test
+    void query_like_onTrigramProperty() {
+        assertThat(queryIds(criterion(NAME, "like", "%Engine%"))).containsExactlyInAnyOrder("asset-1", "asset-2");
+    }
+
+    @Test
+    void query_ilike_onTrigramProperty() {
+        assertThat(queryIds(criterion(DESCRIPTION, "ilike", "%TEMPERATURE%"))).containsExactly("asset-3");
+    }
+
+    @Test
+    void query_fullText() {
+        assertThat(queryIds(criterion(SEARCH, "=", "engines"))).containsExactlyInAnyOrder("asset-1", "asset-2");
+        assertThat(queryIds(criterion(SEARCH, "=", "jet -maintenance"))).containsExactly("asset-1");
+        assertThat(queryIds(criterion(SEARCH, "=", "\"cabin temperature\""))).containsExactly("asset-3");
+    }
+
+    @Test
+    void query_fullText_combinedWithOtherCriteria() {
+        var ids = queryIds(criterion(SEARCH, "=", "engines"), criterion(NAME, "ilike", "%log"), criterion("id", "in", List.of("asset-1", "asset-2")));
+
+        assertThat(ids).containsExactly("asset-2");
+    }
+
+    private List<String> queryIds(Criterion... criteria) {
+        try (var assets = assetIndex.queryAssets(QuerySpec.Builder.newInstance().filter(List.of(criteria)).build())) {
+            return assets.map(Asset::getId).toList();
+        }
+    }
+
+    private Asset asset(String id, String name, String description) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property(NAME, name)
+                .property(DESCRIPTION, description)
+                .dataAddress(DataAddress.Builder.newInstance().type("test").build())
+                .build();
+    }
+}
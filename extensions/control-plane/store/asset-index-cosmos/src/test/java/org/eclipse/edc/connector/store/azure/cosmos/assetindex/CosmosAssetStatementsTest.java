@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.assetindex;
+
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class CosmosAssetStatementsTest {
+
+    private static final String NAME = "https://w3id.org/edc/v0.0.1/ns/name";
+    private static final String SEARCH = "https://w3id.org/edc/v0.0.1/ns/search";
+
+    private final CosmosAssetStatements statements = new CosmosAssetStatements(new AssetSearchConfiguration(List.of(NAME), SEARCH, "english"));
+
+    @Test
+    void createQuery_likeOnTrigramProperty_shouldUseIndexExpression() {
+        var query = statements.createQuery(QuerySpec.Builder.newInstance().filter(criterion(NAME, "ilike", "%engine%")).limit(10).build());
+
+        assertThat(query.getQueryAsString()).contains("(properties ->> '" + NAME + "') ILIKE ?");
+        assertThat(query.getParameters()).containsSequence("%engine%", 10);
+    }
+
+    @Test
+    void createQuery_fullTextProperty_shouldMatchSearchVector() {
+        var query = statements.createQuery(QuerySpec.Builder.newInstance().filter(criterion(SEARCH, "=", "jet engine")).build());
+
+        assertThat(query.getQueryAsString()).contains("search_vector @@ websearch_to_tsquery('english', ?)");
+        assertThat(query.getParameters()).contains("jet engine");
+    }
+
+    @Test
+    void createQuery_shouldKeepOtherCriteria() {
+        var query = statements.createQuery(QuerySpec.Builder.newInstance()
+                .filter(List.of(criterion(NAME, "like", "jet%"), criterion("id", "=", "asset-1")))
+                .build());
+
+        assertThat(query.getQueryAsString()).contains("(properties ->> '" + NAME + "') LIKE ?");
+        assertThat(query.getParameters()).contains("jet%", "asset-1");
+    }
+
+    @Test
+    void createQuery_notIndexed_shouldBeTranslatedBySqlAssetIndex() {
+        var spec = QuerySpec.Builder.newInstance().filter(criterion("https://w3id.org/edc/v0.0.1/ns/description", "like", "jet%")).build();
+
+        var query = statements.createQuery(spec);
+
+        assertThat(query.getQueryAsString()).isEqualTo(new CosmosAssetStatements(AssetSearchConfiguration.none()).createQuery(spec).getQueryAsString());
+    }
+}
@@ -28,3 +28,7 @@ CREATE TABLE IF NOT EXISTS edc_asset
 COMMENT ON COLUMN edc_asset.properties IS 'Asset properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.private_properties IS 'Asset private properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.data_address IS 'Asset DataAddress serialized as JSON';
+
+-- supports keyset pagination on the default sort order
+CREATE INDEX IF NOT EXISTS asset_created_at_id_index
+    ON edc_asset (created_at, asset_id);
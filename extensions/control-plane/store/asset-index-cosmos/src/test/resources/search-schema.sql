@@ -0,0 +1,36 @@
+--
+--  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+-- Optional search indexes of edc_asset, to be applied on top of schema.sql. The expressions of the trigram indexes must
+-- be exactly the ones CosmosAssetStatements generates, i.e. (properties ->> '<property>'), and the properties must be
+-- listed in edc.cosmos.store.asset.search.trigram-properties. Alternatively, the trigram indexes are created on start
+-- with edc.cosmos.store.asset.search.create-indexes=true.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS asset_name_trgm_index
+    ON edc_asset USING gin ((properties ->> 'https://w3id.org/edc/v0.0.1/ns/name') gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS asset_description_trgm_index
+    ON edc_asset USING gin ((properties ->> 'https://w3id.org/edc/v0.0.1/ns/description') gin_trgm_ops);
+
+-- full-text search with edc.cosmos.store.asset.search.fulltext.enabled=true, the text search configuration must match
+-- edc.cosmos.store.asset.search.fulltext.config. Adding the column rewrites the table.
+ALTER TABLE edc_asset
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+        to_tsvector('simple', coalesce(properties ->> 'https://w3id.org/edc/v0.0.1/ns/name', '') || ' ' ||
+                              coalesce(properties ->> 'https://w3id.org/edc/v0.0.1/ns/description', ''))
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS asset_search_vector_index
+    ON edc_asset USING gin (search_vector);
@@ -17,13 +17,14 @@ plugins {
 }
 
 dependencies {
-    testImplementation(libs.edc.spi.contract)
-    testImplementation(libs.edc.lib.util)
+    api(libs.edc.spi.contract)
+    api(libs.edc.lib.util)
+    api(project(":extensions:common:azure:azure-cosmos-postgres"))
 
     implementation(libs.failsafe.core)
+    implementation(libs.edc.sql.lib)
+    implementation(libs.edc.sql.contractdefinition)
 
-    testImplementation(libs.edc.sql.lib)
-    testImplementation(libs.edc.sql.contractdefinition)
     testImplementation(testFixtures(libs.edc.spi.contract))
     testImplementation(testFixtures(project(":extensions:common:azure:azure-test")))
 }
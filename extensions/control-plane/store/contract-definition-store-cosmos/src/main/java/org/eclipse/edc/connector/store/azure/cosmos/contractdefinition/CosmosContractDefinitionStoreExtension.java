@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.contractdefinition;
+
+import org.eclipse.edc.azure.cosmos.postgres.instrumentation.StatementInstrumentation;
+import org.eclipse.edc.azure.cosmos.postgres.pagination.KeysetMapping;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQuery;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQueryRegistry;
+import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.store.sql.contractdefinition.SqlContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.store.sql.contractdefinition.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.Map;
+
+/**
+ * Provides the SQL {@link ContractDefinitionStore} with the Cosmos DB for PostgreSQL specific features on top of it.
+ */
+@Extension(value = CosmosContractDefinitionStoreExtension.NAME)
+public class CosmosContractDefinitionStoreExtension implements ServiceExtension {
+
+    public static final String NAME = "Cosmos Contract Definition Store";
+
+    @Setting(description = "The datasource used by the contract definition store", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_NAME_SETTING = "edc.sql.store.contractdefinition.datasource";
+
+    @Setting(description = "Number of rows fetched at a time when streaming all contract definitions matching a query", defaultValue = "1000")
+    public static final String STREAM_FETCH_SIZE_SETTING = "edc.cosmos.store.contractdefinition.stream.fetch-size";
+
+    @Setting(description = "The datasource of the streaming queries, e.g. the read-only name of a Cosmos datasource to read from its replicas", defaultValue = "the datasource of the store")
+    public static final String READ_DATASOURCE_NAME_SETTING = "edc.cosmos.store.contractdefinition.read-datasource";
+
+    public static final KeysetMapping KEYSET_MAPPING = new KeysetMapping("id", "contract_definition_id", "createdAt", Map.of("createdAt", "created_at"));
+
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private StatementInstrumentation statementInstrumentation;
+
+    @Inject
+    private StreamingQueryRegistry streamingQueryRegistry;
+
+    @Inject
+    private TypeManager typeManager;
+
+    private ContractDefinitionStore contractDefinitionStore;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
+        var readDataSourceName = context.getConfig().getString(READ_DATASOURCE_NAME_SETTING, dataSourceName);
+        var statements = new PostgresDialectStatements();
+        var instrumentedQueryExecutor = statementInstrumentation.instrument(queryExecutor, "contractdefinition");
+        contractDefinitionStore = new SqlContractDefinitionStore(dataSourceRegistry, dataSourceName, transactionContext, statements, typeManager.getMapper(),
+                instrumentedQueryExecutor);
+
+        var fetchSize = context.getConfig().getInteger(STREAM_FETCH_SIZE_SETTING, DEFAULT_STREAM_FETCH_SIZE);
+        streamingQueryRegistry.register(ContractDefinition.class, new StreamingQuery<>(dataSourceRegistry, readDataSourceName, statements::createQuery, KEYSET_MAPPING,
+                contractDefinitionStore::findAll, ContractDefinition::getId, fetchSize));
+    }
+
+    @Provider
+    public ContractDefinitionStore contractDefinitionStore() {
+        return contractDefinitionStore;
+    }
+}
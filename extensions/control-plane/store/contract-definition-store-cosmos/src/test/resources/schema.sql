@@ -25,3 +25,7 @@ CREATE TABLE IF NOT EXISTS edc_contract_definitions
     private_properties     JSON,
     PRIMARY KEY (contract_definition_id)
 );
+
+-- supports keyset pagination on the default sort order
+CREATE INDEX IF NOT EXISTS contract_definitions_created_at_id_index
+    ON edc_contract_definitions (created_at, contract_definition_id);
@@ -19,15 +19,16 @@ plugins {
 dependencies {
     api(libs.edc.spi.contract)
     api(libs.edc.lib.util)
+    api(project(":extensions:common:azure:azure-cosmos-postgres"))
 
     implementation(libs.failsafe.core)
+    implementation(libs.edc.sql.lib)
+    implementation(libs.edc.sql.lease)
+    implementation(libs.edc.sql.contractnegotiation)
 
     testImplementation(testFixtures(project(":extensions:common:azure:azure-test")))
     testImplementation(libs.awaitility)
-    testImplementation(libs.edc.sql.lease)
     testImplementation(testFixtures(libs.edc.sql.test.fixtures))
-    testImplementation(libs.edc.sql.lib)
-    testImplementation(libs.edc.sql.contractnegotiation)
     testImplementation(testFixtures(libs.edc.spi.contract))
 
 }
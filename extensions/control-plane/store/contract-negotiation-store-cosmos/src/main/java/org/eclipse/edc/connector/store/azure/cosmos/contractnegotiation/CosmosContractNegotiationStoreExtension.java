@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.contractnegotiation;
+
+import org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnEncoding;
+import org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnMigrator;
+import org.eclipse.edc.azure.cosmos.postgres.instrumentation.StatementInstrumentation;
+import org.eclipse.edc.azure.cosmos.postgres.pagination.KeysetMapping;
+import org.eclipse.edc.azure.cosmos.postgres.partition.PartitionManager;
+import org.eclipse.edc.azure.cosmos.postgres.partition.TimePartitioning;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQuery;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQueryRegistry;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates;
+import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.SqlContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.BaseSqlLeaseStatements;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilderImpl;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides the SQL {@link ContractNegotiationStore} with the Cosmos DB for PostgreSQL specific features on top of it.
+ */
+@Extension(value = CosmosContractNegotiationStoreExtension.NAME)
+public class CosmosContractNegotiationStoreExtension implements ServiceExtension {
+
+    public static final String NAME = "Cosmos Contract Negotiation Store";
+
+    @Setting(description = "The datasource used by the contract negotiation store", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_NAME_SETTING = "edc.sql.store.contractnegotiation.datasource";
+
+    @Setting(description = "Number of rows fetched at a time when streaming all contract negotiations matching a query", defaultValue = "1000")
+    public static final String STREAM_FETCH_SIZE_SETTING = "edc.cosmos.store.contractnegotiation.stream.fetch-size";
+
+    @Setting(description = "The datasource of the streaming queries, e.g. the read-only name of a Cosmos datasource to read from its replicas", defaultValue = "the datasource of the store")
+    public static final String READ_DATASOURCE_NAME_SETTING = "edc.cosmos.store.contractnegotiation.read-datasource";
+
+    public static final String PARTITIONING_CONFIG = "edc.cosmos.store.contractnegotiation.partitioning";
+
+    @Setting(description = "Enables the maintenance of the monthly partitions of the partitioned contract negotiation table", defaultValue = "false")
+    public static final String PARTITIONING_ENABLED_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.ENABLED;
+
+    @Setting(description = "Number of months after the current one for which partitions are created in advance", defaultValue = "3")
+    public static final String PARTITIONING_PREMADE_MONTHS_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.PREMADE_MONTHS;
+
+    @Setting(description = "Number of days after which the partitions of terminal contract negotiations are dropped, 0 keeps them forever", defaultValue = "0")
+    public static final String PARTITIONING_RETENTION_DAYS_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.RETENTION_DAYS;
+
+    @Setting(description = "Whether the table is distributed with Citus, in which case the partitions are not sub-partitioned by state", defaultValue = "false")
+    public static final String PARTITIONING_DISTRIBUTED_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.DISTRIBUTED;
+
+    @Setting(description = "Interval in minutes of the partition maintenance", defaultValue = "60")
+    public static final String PARTITIONING_INTERVAL_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.INTERVAL_MINUTES;
+
+    public static final String ENCODING_CONFIG = "edc.cosmos.store.contractnegotiation.encoding";
+
+    @Setting(description = "Type of the encoded JSON columns, json or jsonb, to which they are converted on start. Unset leaves the columns as they are")
+    public static final String ENCODING_CODEC_SETTING = ENCODING_CONFIG + "." + JsonColumnEncoding.CODEC;
+
+    @Setting(description = "Comma separated JSON columns whose encoding is managed", defaultValue = "protocol_messages,callback_addresses,trace_context")
+    public static final String ENCODING_COLUMNS_SETTING = ENCODING_CONFIG + "." + JsonColumnEncoding.COLUMNS;
+
+    @Setting(description = "TOAST compression method of the encoded JSON columns, pglz or lz4. Unset keeps the current one")
+    public static final String ENCODING_COMPRESSION_SETTING = ENCODING_CONFIG + "." + JsonColumnEncoding.COMPRESSION;
+
+    @Setting(description = "Seconds the conversion of the JSON columns waits for the lock on the table", defaultValue = "10")
+    public static final String ENCODING_LOCK_TIMEOUT_SETTING = ENCODING_CONFIG + "." + JsonColumnEncoding.LOCK_TIMEOUT_SECONDS;
+
+    public static final KeysetMapping KEYSET_MAPPING = new KeysetMapping("id", "id", "createdAt", Map.of("createdAt", "created_at"));
+
+    // columns that the query translation of the SQL store does not navigate
+    static final List<String> ENCODED_COLUMNS = List.of("protocol_messages", "callback_addresses", "trace_context");
+
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private StatementInstrumentation statementInstrumentation;
+
+    @Inject
+    private StreamingQueryRegistry streamingQueryRegistry;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private TypeManager typeManager;
+
+    private QueryExecutor instrumentedQueryExecutor;
+    private ContractNegotiationStore contractNegotiationStore;
+    private TimePartitioning partitioning;
+    private PartitionManager partitionManager;
+    private ScheduledExecutorService partitionMaintenance;
+    private JsonColumnMigrator encodingMigrator;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
+        var readDataSourceName = context.getConfig().getString(READ_DATASOURCE_NAME_SETTING, dataSourceName);
+        instrumentedQueryExecutor = statementInstrumentation.instrument(queryExecutor, "contractnegotiation");
+        var leaseStatements = new BaseSqlLeaseStatements();
+        var statements = new PostgresDialectStatements(leaseStatements, clock);
+        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(transactionContext, context.getRuntimeId(), statements.getContractNegotiationTable(),
+                leaseStatements, clock, instrumentedQueryExecutor);
+        contractNegotiationStore = new SqlContractNegotiationStore(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), statements,
+                leaseContextBuilder, instrumentedQueryExecutor);
+
+        var fetchSize = context.getConfig().getInteger(STREAM_FETCH_SIZE_SETTING, DEFAULT_STREAM_FETCH_SIZE);
+        streamingQueryRegistry.register(ContractNegotiation.class, new StreamingQuery<>(dataSourceRegistry, readDataSourceName,
+                statements::createNegotiationsQuery, KEYSET_MAPPING, contractNegotiationStore::queryNegotiations, ContractNegotiation::getId, fetchSize));
+
+        var encoding = JsonColumnEncoding.fromConfig(context.getConfig(ENCODING_CONFIG), statements.getContractNegotiationTable(), ENCODED_COLUMNS);
+        if (encoding != null) {
+            encodingMigrator = new JsonColumnMigrator(dataSourceRegistry, dataSourceName, transactionContext, instrumentedQueryExecutor,
+                    encoding, context.getMonitor());
+        }
+
+        var terminalStates = List.of(ContractNegotiationStates.FINALIZED.code(), ContractNegotiationStates.TERMINATED.code());
+        partitioning = TimePartitioning.fromConfig(context.getConfig(PARTITIONING_CONFIG), statements.getContractNegotiationTable(), terminalStates);
+        if (partitioning != null) {
+            partitionManager = new PartitionManager(dataSourceRegistry, dataSourceName, transactionContext, instrumentedQueryExecutor,
+                    partitioning, clock, context.getMonitor());
+        }
+    }
+
+    @Provider
+    public ContractNegotiationStore contractNegotiationStore() {
+        return contractNegotiationStore;
+    }
+
+    @Override
+    public void start() {
+        if (encodingMigrator != null) {
+            encodingMigrator.run();
+        }
+        if (partitionManager != null) {
+            partitionMaintenance = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "contract-negotiation-partition-maintenance");
+            partitionMaintenance.scheduleWithFixedDelay(partitionManager, 0, partitioning.intervalMinutes(), TimeUnit.MINUTES);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (partitionMaintenance != null) {
+            partitionMaintenance.shutdownNow();
+        }
+    }
+}
@@ -80,3 +80,7 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_negotiation_id_uindex
 
 CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
     ON edc_contract_agreement (agr_id);
+
+-- supports keyset pagination on the default sort order
+CREATE INDEX IF NOT EXISTS contract_negotiation_created_at_id_index
+    ON edc_contract_negotiation (created_at, id);
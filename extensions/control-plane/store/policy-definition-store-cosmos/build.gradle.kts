@@ -18,12 +18,13 @@ plugins {
 
 dependencies {
     api(libs.edc.spi.policy)
+    api(project(":extensions:common:azure:azure-cosmos-postgres"))
     implementation(libs.edc.lib.util)
 
     implementation(libs.failsafe.core)
+    implementation(libs.edc.sql.lib)
+    implementation(libs.edc.sql.policydefinition)
 
-    testImplementation(libs.edc.sql.lib)
-    testImplementation(libs.edc.sql.policydefinition)
     testImplementation(libs.edc.junit)
     testImplementation(testFixtures(project(":extensions:common:azure:azure-test")))
     testImplementation(testFixtures(libs.edc.spi.policy))
@@ -39,3 +39,7 @@ COMMENT ON COLUMN edc_policydefinitions.policy_type IS 'Java PolicyType serializ
 
 CREATE UNIQUE INDEX IF NOT EXISTS edc_policydefinitions_id_uindex
     ON edc_policydefinitions (policy_id);
+
+-- supports keyset pagination on the default sort order
+CREATE INDEX IF NOT EXISTS edc_policydefinitions_created_at_id_index
+    ON edc_policydefinitions (created_at, policy_id);
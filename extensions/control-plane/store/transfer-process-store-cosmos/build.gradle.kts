@@ -19,13 +19,13 @@ plugins {
 dependencies {
     api(libs.edc.spi.transfer)
     api(libs.edc.lib.util)
+    api(project(":extensions:common:azure:azure-cosmos-postgres"))
 
     implementation(libs.failsafe.core)
+    implementation(libs.edc.sql.lease)
+    implementation(libs.edc.sql.transferprocess)
 
-
-    testImplementation(libs.edc.sql.lease)
     testImplementation(testFixtures(libs.edc.sql.test.fixtures))
-    testImplementation(libs.edc.sql.transferprocess)
     testImplementation(testFixtures(project(":extensions:common:azure:azure-test")))
     testImplementation(libs.awaitility)
     testImplementation(testFixtures(libs.edc.spi.transfer))
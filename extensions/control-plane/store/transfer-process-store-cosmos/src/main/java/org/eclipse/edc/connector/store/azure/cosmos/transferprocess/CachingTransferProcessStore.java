@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.transferprocess;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@link TransferProcessStore} whose {@link #findById(String)}, {@link #save(TransferProcess)} and
+ * {@link #delete(String)} go through the {@link TransferProcessCache}, all other methods are passed on to the store.
+ */
+class CachingTransferProcessStore implements TransferProcessStore {
+
+    private final TransferProcessStore store;
+    private final TransferProcessCache cache;
+
+    CachingTransferProcessStore(TransferProcessStore store, TransferProcessCache cache) {
+        this.store = store;
+        this.cache = cache;
+    }
+
+    @Override
+    public @Nullable TransferProcess findById(String id) {
+        return cache.findById(id);
+    }
+
+    @Override
+    public void save(TransferProcess transferProcess) {
+        cache.save(transferProcess);
+    }
+
+    @Override
+    public void delete(String id) {
+        cache.delete(id);
+    }
+
+    @Override
+    public @Nullable TransferProcess findForCorrelationId(String correlationId) {
+        return store.findForCorrelationId(correlationId);
+    }
+
+    @Override
+    public Stream<TransferProcess> findAll(QuerySpec querySpec) {
+        return store.findAll(querySpec);
+    }
+
+    @Override
+    public List<TransferProcess> nextNotLeased(int max, Criterion... criteria) {
+        return store.nextNotLeased(max, criteria);
+    }
+
+    @Override
+    public StoreResult<TransferProcess> findByIdAndLease(String id) {
+        return store.findByIdAndLease(id);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.transferprocess;
+
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.lease.spi.LeaseStatements;
+import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import java.time.Clock;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
+
+/**
+ * Statements of the SQL transfer process store whose queries also accept the JSON arrays of the encoded columns as
+ * {@code jsonb}: they cast the array to {@code json} before passing it to {@code json_array_elements}, which is a no-op
+ * on a {@code json} column.
+ */
+class CosmosTransferProcessStatements extends PostgresDialectStatements {
+
+    CosmosTransferProcessStatements(LeaseStatements leaseStatements, Clock clock) {
+        super(leaseStatements, clock);
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        // the resource manifest is not encoded and takes precedence, as in the SQL store
+        if (querySpec.containsAnyLeftOperand("resourceManifest.definitions")) {
+            return super.createQuery(querySpec);
+        }
+        if (querySpec.containsAnyLeftOperand("provisionedResourceSet.resources")) {
+            var select = getSelectFromJsonArrayTemplate(getSelectStatement(), format("(%s -> '%s')::json", getProvisionedResourceSetColumn(), "resources"),
+                    PROVISIONED_RESOURCES_ALIAS);
+            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), new PostgresqlOperatorTranslator());
+        }
+        if (querySpec.containsAnyLeftOperand("deprovisionedResources")) {
+            var select = getSelectFromJsonArrayTemplate(getSelectStatement(), format("%s::json", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
+            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), new PostgresqlOperatorTranslator());
+        }
+        return super.createQuery(querySpec);
+    }
+}
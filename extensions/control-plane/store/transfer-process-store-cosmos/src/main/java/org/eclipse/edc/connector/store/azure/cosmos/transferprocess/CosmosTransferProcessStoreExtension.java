@@ -0,0 +1,277 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.transferprocess;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.azure.cosmos.postgres.cache.ChangeNotifier;
+import org.eclipse.edc.azure.cosmos.postgres.cache.EntityCache;
+import org.eclipse.edc.azure.cosmos.postgres.cache.NotificationListener;
+import org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnEncoding;
+import org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnMigrator;
+import org.eclipse.edc.azure.cosmos.postgres.instrumentation.StatementInstrumentation;
+import org.eclipse.edc.azure.cosmos.postgres.pagination.KeysetMapping;
+import org.eclipse.edc.azure.cosmos.postgres.partition.ColumnarArchiver;
+import org.eclipse.edc.azure.cosmos.postgres.partition.PartitionManager;
+import org.eclipse.edc.azure.cosmos.postgres.partition.TimePartitioning;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQuery;
+import org.eclipse.edc.azure.cosmos.postgres.streaming.StreamingQueryRegistry;
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.SqlTransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.BaseSqlLeaseStatements;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilderImpl;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides the SQL {@link TransferProcessStore} with the Cosmos DB for PostgreSQL specific features on top of it.
+ */
+@Extension(value = CosmosTransferProcessStoreExtension.NAME)
+public class CosmosTransferProcessStoreExtension implements ServiceExtension {
+
+    public static final String NAME = "Cosmos Transfer Process Store";
+
+    @Setting(description = "The datasource used by the transfer process store", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_NAME_SETTING = "edc.sql.store.transferprocess.datasource";
+
+    @Setting(description = "Number of rows fetched at a time when streaming all transfer processes matching a query", defaultValue = "1000")
+    public static final String STREAM_FETCH_SIZE_SETTING = "edc.cosmos.store.transferprocess.stream.fetch-size";
+
+    @Setting(description = "The datasource of the streaming queries, e.g. the read-only name of a Cosmos datasource to read from its replicas", defaultValue = "the datasource of the store")
+    public static final String READ_DATASOURCE_NAME_SETTING = "edc.cosmos.store.transferprocess.read-datasource";
+
+    public static final String PARTITIONING_CONFIG = "edc.cosmos.store.transferprocess.partitioning";
+
+    @Setting(description = "Enables the maintenance of the monthly partitions of the partitioned transfer process table", defaultValue = "false")
+    public static final String PARTITIONING_ENABLED_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.ENABLED;
+
+    @Setting(description = "Number of months after the current one for which partitions are created in advance", defaultValue = "3")
+    public static final String PARTITIONING_PREMADE_MONTHS_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.PREMADE_MONTHS;
+
+    @Setting(description = "Number of days after which the partitions of terminal transfer processes are dropped, 0 keeps them forever", defaultValue = "0")
+    public static final String PARTITIONING_RETENTION_DAYS_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.RETENTION_DAYS;
+
+    @Setting(description = "Whether the table is distributed with Citus, in which case the partitions are not sub-partitioned by state", defaultValue = "false")
+    public static final String PARTITIONING_DISTRIBUTED_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.DISTRIBUTED;
+
+    @Setting(description = "Interval in minutes of the partition maintenance", defaultValue = "60")
+    public static final String PARTITIONING_INTERVAL_SETTING = PARTITIONING_CONFIG + "." + TimePartitioning.INTERVAL_MINUTES;
+
+    @Setting(description = "Enables the conversion of old partitions of deprovisioned transfer processes to columnar storage, requires partitioning", defaultValue = "false")
+    public static final String ARCHIVE_ENABLED_SETTING = "edc.cosmos.store.transferprocess.archive.enabled";
+
+    @Setting(description = "Number of days after the end of a month after which its terminal transfer processes are archived", defaultValue = "30")
+    public static final String ARCHIVE_AFTER_DAYS_SETTING = "edc.cosmos.store.transferprocess.archive.after-days";
+
+    @Setting(description = "Enables the cache of transfer processes read by id, which is invalidated by the notifications of the schema", defaultValue = "false")
+    public static final String CACHE_ENABLED_SETTING = "edc.cosmos.store.transferprocess.cache.enabled";
+
+    @Setting(description = "Maximum number of transfer processes in the cache", defaultValue = "10000")
+    public static final String CACHE_MAX_SIZE_SETTING = "edc.cosmos.store.transferprocess.cache.max-size";
+
+    @Setting(description = "Seconds after which a cached transfer process is read again, bounds the staleness if a notification is lost", defaultValue = "60")
+    public static final String CACHE_TTL_SETTING = "edc.cosmos.store.transferprocess.cache.ttl";
+
+    @Setting(description = "Whether the store notifies its writes from the coordinator, required if the table is distributed with Citus, whose triggers notify on the workers", defaultValue = "false")
+    public static final String CACHE_NOTIFY_WRITES_SETTING = "edc.cosmos.store.transferprocess.cache.notify-writes";
+
+    public static final String ENCODING_CONFIG = "edc.cosmos.store.transferprocess.encoding";
+
+    @Setting(description = "Type of the encoded JSON columns, json or jsonb, to which they are converted on start. Unset leaves the columns as they are")
+    public static final String ENCODING_CODEC_SETTING = ENCODING_CONFIG + "." + JsonColumnEncoding.CODEC;
+
+    @Setting(description = "Comma separated JSON columns whose encoding is managed", defaultValue = "protocol_messages,provisioned_resource_set,callback_addresses,trace_context,deprovisioned_resources")
+    public static final String ENCODING_COLUMNS_SETTING = ENCODING_CONFIG + "." + JsonColumnEncoding.COLUMNS;
+
+    @Setting(description = "TOAST compression method of the encoded JSON columns, pglz or lz4. Unset keeps the current one")
+    public static final String ENCODING_COMPRESSION_SETTING = ENCODING_CONFIG + "." + JsonColumnEncoding.COMPRESSION;
+
+    @Setting(description = "Seconds the conversion of the JSON columns waits for the lock on the table", defaultValue = "10")
+    public static final String ENCODING_LOCK_TIMEOUT_SETTING = ENCODING_CONFIG + "." + JsonColumnEncoding.LOCK_TIMEOUT_SECONDS;
+
+    public static final KeysetMapping KEYSET_MAPPING = new KeysetMapping("id", "transferprocess_id", "createdAt", Map.of("createdAt", "created_at"));
+
+    // columns that the queries of CosmosTransferProcessStatements accept as jsonb
+    static final List<String> ENCODED_COLUMNS = List.of("protocol_messages", "provisioned_resource_set", "callback_addresses", "trace_context",
+            "deprovisioned_resources");
+
+    private static final long DEFAULT_ARCHIVE_AFTER_DAYS = 30;
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+    private static final int DEFAULT_CACHE_MAX_SIZE = 10_000;
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 60;
+    private static final Duration CACHE_LISTENER_POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration CACHE_LISTENER_RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private StatementInstrumentation statementInstrumentation;
+
+    @Inject
+    private StreamingQueryRegistry streamingQueryRegistry;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private QueryExecutor instrumentedQueryExecutor;
+    private TimePartitioning partitioning;
+    private PartitionManager partitionManager;
+    private ColumnarArchiver columnarArchiver;
+    private ScheduledExecutorService partitionMaintenance;
+    private TransferProcessCache cache;
+    private TransferProcessStore transferProcessStore;
+    private NotificationListener cacheListener;
+    private ExecutorService cacheListening;
+    private JsonColumnMigrator encodingMigrator;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_NAME_SETTING, DataSourceRegistry.DEFAULT_DATASOURCE);
+        var readDataSourceName = context.getConfig().getString(READ_DATASOURCE_NAME_SETTING, dataSourceName);
+        instrumentedQueryExecutor = statementInstrumentation.instrument(queryExecutor, "transferprocess");
+        var leaseStatements = new BaseSqlLeaseStatements();
+        var statements = new CosmosTransferProcessStatements(leaseStatements, clock);
+        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(transactionContext, context.getRuntimeId(), statements.getTransferProcessTableName(),
+                leaseStatements, clock, instrumentedQueryExecutor);
+        var sqlStore = new SqlTransferProcessStore(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), statements,
+                leaseContextBuilder, instrumentedQueryExecutor);
+
+        var fetchSize = context.getConfig().getInteger(STREAM_FETCH_SIZE_SETTING, DEFAULT_STREAM_FETCH_SIZE);
+        streamingQueryRegistry.register(TransferProcess.class, new StreamingQuery<>(dataSourceRegistry, readDataSourceName, statements::createQuery, KEYSET_MAPPING,
+                sqlStore::findAll, TransferProcess::getId, fetchSize));
+
+        var registry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+        var cacheEnabled = context.getConfig().getBoolean(CACHE_ENABLED_SETTING, false);
+        var entityCache = new EntityCache<TransferProcess>("transferprocess", cacheEnabled ? context.getConfig().getInteger(CACHE_MAX_SIZE_SETTING, DEFAULT_CACHE_MAX_SIZE) : 0,
+                Duration.ofSeconds(context.getConfig().getLong(CACHE_TTL_SETTING, DEFAULT_CACHE_TTL_SECONDS)), TransferProcess::copy, clock, registry);
+        var notifier = cacheEnabled && context.getConfig().getBoolean(CACHE_NOTIFY_WRITES_SETTING, false)
+                ? new ChangeNotifier(dataSourceRegistry, dataSourceName, transactionContext, instrumentedQueryExecutor, TransferProcessCache.CHANNEL)
+                : null;
+        cache = new TransferProcessCache(sqlStore, entityCache, notifier);
+        transferProcessStore = cacheEnabled ? new CachingTransferProcessStore(sqlStore, cache) : sqlStore;
+        if (cacheEnabled) {
+            cacheListener = new NotificationListener(dataSourceRegistry, dataSourceName, TransferProcessCache.CHANNEL, entityCache::invalidate,
+                    entityCache::invalidateAll, CACHE_LISTENER_POLL_TIMEOUT, CACHE_LISTENER_RECONNECT_DELAY, context.getMonitor());
+        }
+
+        var encoding = JsonColumnEncoding.fromConfig(context.getConfig(ENCODING_CONFIG), statements.getTransferProcessTableName(), ENCODED_COLUMNS);
+        if (encoding != null) {
+            encodingMigrator = new JsonColumnMigrator(dataSourceRegistry, dataSourceName, transactionContext, instrumentedQueryExecutor,
+                    encoding, context.getMonitor());
+        }
+
+        // completed and terminated processes may still be deprovisioned, they move back to the active partition meanwhile
+        var terminalStates = List.of(TransferProcessStates.COMPLETED.code(), TransferProcessStates.TERMINATED.code(),
+                TransferProcessStates.DEPROVISIONED.code());
+        partitioning = TimePartitioning.fromConfig(context.getConfig(PARTITIONING_CONFIG), statements.getTransferProcessTableName(), terminalStates);
+        if (partitioning != null) {
+            partitionManager = new PartitionManager(dataSourceRegistry, dataSourceName, transactionContext, instrumentedQueryExecutor,
+                    partitioning, clock, context.getMonitor());
+        }
+
+        if (context.getConfig().getBoolean(ARCHIVE_ENABLED_SETTING, false)) {
+            if (partitionManager == null) {
+                context.getMonitor().warning("%s is set, but the archive requires %s".formatted(ARCHIVE_ENABLED_SETTING, PARTITIONING_ENABLED_SETTING));
+            } else {
+                var archiveAfter = Duration.ofDays(context.getConfig().getLong(ARCHIVE_AFTER_DAYS_SETTING, DEFAULT_ARCHIVE_AFTER_DAYS));
+                columnarArchiver = new ColumnarArchiver(dataSourceRegistry, dataSourceName, transactionContext, instrumentedQueryExecutor,
+                        partitionManager, partitioning, List.of(TransferProcessStates.DEPROVISIONED.code()), archiveAfter, clock, context.getMonitor());
+            }
+        }
+    }
+
+    @Provider
+    public TransferProcessCache transferProcessCache() {
+        return cache;
+    }
+
+    /**
+     * The SQL store, which reads by id through the cache if the cache is enabled.
+     */
+    @Provider
+    public TransferProcessStore transferProcessStore() {
+        return transferProcessStore;
+    }
+
+    @Override
+    public void start() {
+        if (encodingMigrator != null) {
+            encodingMigrator.run();
+        }
+        if (cacheListener != null) {
+            cacheListening = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "transfer-process-cache-listener");
+            cacheListening.execute(cacheListener);
+        }
+        if (partitionManager != null) {
+            partitionMaintenance = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "transfer-process-partition-maintenance");
+            partitionMaintenance.scheduleWithFixedDelay(partitionManager, 0, partitioning.intervalMinutes(), TimeUnit.MINUTES);
+            if (columnarArchiver != null) {
+                partitionMaintenance.scheduleWithFixedDelay(columnarArchiver, 0, partitioning.intervalMinutes(), TimeUnit.MINUTES);
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (cacheListener != null) {
+            cacheListener.stop();
+            cacheListening.shutdownNow();
+        }
+        if (partitionMaintenance != null) {
+            partitionMaintenance.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.transferprocess;
+
+import org.eclipse.edc.azure.cosmos.postgres.cache.ChangeNotifier;
+import org.eclipse.edc.azure.cosmos.postgres.cache.EntityCache;
+import org.eclipse.edc.connector.controlplane.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Read-through cache of {@link TransferProcessStore#findById(String)}, for callers that read the same in-flight
+ * transfer processes over and over, e.g. the management API or the callbacks of the data plane. A hit costs neither a
+ * round trip nor the deserialization of the JSON columns of the transfer process.
+ * <p>
+ * The schema notifies every change of a row, including the acquisition and release of its lease, on the
+ * {@link #CHANNEL} channel, which invalidates the transfer process in the caches of all runtimes. The triggers of a
+ * table that is distributed with Citus notify on the workers, which the runtimes do not listen to, so with a
+ * {@link ChangeNotifier} the cache notifies its own writes from the coordinator session. Any other write of a
+ * distributed table is only picked up once the cached copy expires.
+ */
+public class TransferProcessCache {
+
+    static final String CHANNEL = "edc_transfer_process_changed";
+
+    private final TransferProcessStore store;
+    private final EntityCache<TransferProcess> cache;
+    private final @Nullable ChangeNotifier notifier;
+
+    TransferProcessCache(TransferProcessStore store, EntityCache<TransferProcess> cache, @Nullable ChangeNotifier notifier) {
+        this.store = store;
+        this.cache = cache;
+        this.notifier = notifier;
+    }
+
+    /**
+     * Returns a transfer process from the cache or the store.
+     *
+     * @return a copy of the transfer process, or null if it does not exist
+     */
+    public @Nullable TransferProcess findById(String id) {
+        return cache.get(id, store::findById);
+    }
+
+    /**
+     * Saves a transfer process through the store and invalidates it right away, without waiting for the notification.
+     */
+    public void save(TransferProcess transferProcess) {
+        try {
+            store.save(transferProcess);
+            notifyChanged(transferProcess.getId());
+        } finally {
+            cache.invalidate(transferProcess.getId());
+        }
+    }
+
+    /**
+     * Deletes a transfer process through the store and invalidates it right away, without waiting for the notification.
+     */
+    public void delete(String id) {
+        try {
+            store.delete(id);
+            notifyChanged(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Invalidates a transfer process, e.g. after it was written by other means than {@link #save(TransferProcess)}.
+     */
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    private void notifyChanged(String id) {
+        if (notifier != null) {
+            notifier.notifyChanged(id);
+        }
+    }
+}
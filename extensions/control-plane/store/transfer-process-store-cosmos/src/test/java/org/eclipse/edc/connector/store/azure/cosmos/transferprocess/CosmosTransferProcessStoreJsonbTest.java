@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.transferprocess;
+
+import org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnEncoding;
+import org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnMigrator;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.time.Duration;
+
+import static org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnEncoding.Codec.JSONB;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.eclipse.edc.connector.store.azure.cosmos.transferprocess.CosmosTransferProcessStoreExtension.ENCODED_COLUMNS;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the tests of the store against a table whose encoded columns were converted to {@code jsonb}.
+ */
+@PostgresCosmosTest
+class CosmosTransferProcessStoreJsonbTest extends CosmosTransferProcessStoreTest {
+
+    @BeforeEach
+    void convertColumns(DataSourceRegistry reg, TransactionContext transactionContext, QueryExecutor queryExecutor) {
+        var encoding = new JsonColumnEncoding("edc_transfer_process", ENCODED_COLUMNS, JSONB, "lz4", Duration.ofSeconds(10));
+        new JsonColumnMigrator(reg, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, encoding, mock(Monitor.class)).migrate();
+    }
+}
@@ -47,7 +47,7 @@ import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileConten
 class CosmosTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     private static final LeaseStatements LEASE_STATEMENTS = new BaseSqlLeaseStatements();
-    private static final PostgresDialectStatements STATEMENTS = new PostgresDialectStatements(LEASE_STATEMENTS, Clock.systemUTC());
+    private static final PostgresDialectStatements STATEMENTS = new CosmosTransferProcessStatements(LEASE_STATEMENTS, Clock.systemUTC());
     private SqlTransferProcessStore store;
     private LeaseUtil leaseUtil;
 
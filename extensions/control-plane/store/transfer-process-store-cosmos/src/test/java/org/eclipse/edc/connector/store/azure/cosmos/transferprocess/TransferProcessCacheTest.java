@@ -0,0 +1,237 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.transferprocess;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.azure.cosmos.postgres.cache.ChangeNotifier;
+import org.eclipse.edc.azure.cosmos.postgres.cache.EntityCache;
+import org.eclipse.edc.azure.cosmos.postgres.cache.NotificationListener;
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosTest;
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.SqlTransferProcessStore;
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.BaseSqlLeaseStatements;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilderImpl;
+import org.eclipse.edc.sql.lease.spi.LeaseStatements;
+import org.eclipse.edc.sql.testfixtures.LeaseUtil;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.INITIAL;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+import static org.mockito.Mockito.mock;
+
+@PostgresCosmosTest
+@ExtendWith(CosmosPostgresTestExtension.class)
+class TransferProcessCacheTest {
+
+    private static final String LEASE_HOLDER = "test-runtime";
+    private static final LeaseStatements LEASE_STATEMENTS = new BaseSqlLeaseStatements();
+    private static final PostgresDialectStatements STATEMENTS = new PostgresDialectStatements(LEASE_STATEMENTS, Clock.systemUTC());
+
+    private final Clock clock = Clock.systemUTC();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch listening = new CountDownLatch(1);
+    private final List<String> notified = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private SqlTransferProcessStore store;
+    private EntityCache<TransferProcess> entityCache;
+    private ChangeNotifier notifier;
+    private TransferProcessCache cache;
+    private NotificationListener listener;
+    private LeaseUtil leaseUtil;
+
+    @BeforeAll
+    static void createDatabase(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.executeStatement(getResourceFileContentAsString("schema.sql"));
+    }
+
+    @AfterAll
+    static void dropTables(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.dropTable(STATEMENTS.getTransferProcessTableName());
+        helper.dropTable(LEASE_STATEMENTS.getLeaseTableName());
+    }
+
+    @BeforeEach
+    void setUp(DataSourceRegistry reg, TransactionContext transactionContext, QueryExecutor queryExecutor, CosmosPostgresTestExtension.SqlHelper helper,
+               DataSource dataSource) throws InterruptedException {
+        var typeManager = new JacksonTypeManager();
+        typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+
+        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(transactionContext, LEASE_HOLDER, STATEMENTS.getTransferProcessTableName(), LEASE_STATEMENTS, clock, queryExecutor);
+        store = new SqlTransferProcessStore(reg, DEFAULT_DATASOURCE_NAME, transactionContext, typeManager.getMapper(), STATEMENTS, leaseContextBuilder, queryExecutor);
+        leaseUtil = new LeaseUtil(transactionContext, () -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new AssertionError(e);
+            }
+        }, STATEMENTS.getTransferProcessTableName(), LEASE_STATEMENTS, clock);
+
+        helper.truncateTable(STATEMENTS.getTransferProcessTableName());
+        helper.truncateTable(LEASE_STATEMENTS.getLeaseTableName());
+
+        entityCache = new EntityCache<>("transferprocess", 100, Duration.ofMinutes(1), TransferProcess::copy, clock, meterRegistry);
+        notifier = new ChangeNotifier(reg, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, TransferProcessCache.CHANNEL);
+        cache = new TransferProcessCache(store, entityCache, notifier);
+        listener = new NotificationListener(reg, DEFAULT_DATASOURCE_NAME, TransferProcessCache.CHANNEL, id -> {
+            entityCache.invalidate(id);
+            notified.add(id);
+        }, () -> {
+            entityCache.invalidateAll();
+            listening.countDown();
+        }, Duration.ofMillis(50), Duration.ofMillis(100), mock(Monitor.class));
+        executor.execute(listener);
+        assertThat(listening.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findById_shouldBeServedFromCache() {
+        saveAndAwaitNotification(transferProcess("tp-1"));
+
+        var first = cache.findById("tp-1");
+        first.setPending(true);
+        var second = cache.findById("tp-1");
+
+        assertThat(second.isPending()).isFalse();
+        assertThat(second.getState()).isEqualTo(INITIAL.code());
+        assertThat(second.getDataDestination().getStringProperty("baseUrl")).isEqualTo("http://consumer/tp-1");
+        assertThat(meterRegistry.get("edc.cosmos.store.cache.requests").tags("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_notFound_shouldReturnNull() {
+        assertThat(cache.findById("unknown")).isNull();
+    }
+
+    @Test
+    void saveThroughStore_shouldInvalidateByNotification() {
+        saveAndAwaitNotification(transferProcess("tp-1"));
+        cache.findById("tp-1");
+        assertThat(entityCache.size()).isEqualTo(1);
+
+        store.save(transferProcess("tp-1").toBuilder().state(STARTED.code()).build());
+
+        await().untilAsserted(() -> assertThat(cache.findById("tp-1").getState()).isEqualTo(STARTED.code()));
+    }
+
+    @Test
+    void lease_shouldInvalidateByNotification() {
+        saveAndAwaitNotification(transferProcess("tp-1"));
+        cache.findById("tp-1");
+        assertThat(entityCache.size()).isEqualTo(1);
+
+        leaseUtil.leaseEntity("tp-1", "other-runtime", Duration.ofMinutes(1));
+
+        await().untilAsserted(() -> assertThat(entityCache.size()).isZero());
+    }
+
+    @Test
+    void save_shouldInvalidateImmediately() {
+        store.save(transferProcess("tp-1"));
+        cache.findById("tp-1");
+
+        cache.save(transferProcess("tp-1").toBuilder().state(STARTED.code()).build());
+
+        assertThat(cache.findById("tp-1").getState()).isEqualTo(STARTED.code());
+    }
+
+    @Test
+    void notifier_shouldNotifyListeners() {
+        notifier.notifyChanged("tp-1");
+
+        await().untilAsserted(() -> assertThat(notified).contains("tp-1"));
+    }
+
+    @Test
+    void cachingStore_shouldReadThroughCache() {
+        var cachingStore = new CachingTransferProcessStore(store, cache);
+        cachingStore.save(transferProcess("tp-1"));
+
+        cachingStore.findById("tp-1");
+        cachingStore.findById("tp-1");
+
+        assertThat(meterRegistry.get("edc.cosmos.store.cache.requests").tags("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(cachingStore.findAll(QuerySpec.none()).map(TransferProcess::getId)).containsExactly("tp-1");
+    }
+
+    @Test
+    void cachingStore_delete_shouldInvalidateImmediately() {
+        var cachingStore = new CachingTransferProcessStore(store, cache);
+        cachingStore.save(transferProcess("tp-1"));
+        cachingStore.findById("tp-1");
+
+        cachingStore.delete("tp-1");
+
+        assertThat(cachingStore.findById("tp-1")).isNull();
+    }
+
+    private void saveAndAwaitNotification(TransferProcess transferProcess) {
+        store.save(transferProcess);
+        await().untilAsserted(() -> assertThat(notified).contains(transferProcess.getId()));
+        notified.clear();
+    }
+
+    private TransferProcess transferProcess(String id) {
+        return TransferProcess.Builder.newInstance()
+                .id(id)
+                .createdAt(1_700_000_000_000L)
+                .updatedAt(1_700_000_000_000L)
+                .type(TransferProcess.Type.PROVIDER)
+                .state(INITIAL.code())
+                .correlationId("correlation-" + id)
+                .counterPartyAddress("http://counter-party/protocol")
+                .protocol("dataspace-protocol-http")
+                .assetId("asset-1")
+                .contractId("contract-1")
+                .transferType("HttpData-PULL")
+                .dataDestination(DataAddress.Builder.newInstance().type("HttpData").property("baseUrl", "http://consumer/" + id).build())
+                .build();
+    }
+}
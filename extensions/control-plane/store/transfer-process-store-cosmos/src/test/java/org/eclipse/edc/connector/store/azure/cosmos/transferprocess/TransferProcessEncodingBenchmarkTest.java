@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.azure.cosmos.transferprocess;
+
+import org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnEncoding;
+import org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnMigrator;
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension;
+import org.eclipse.edc.azure.testfixtures.annotations.PostgresCosmosBenchmark;
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.SqlTransferProcessStore;
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.BaseSqlLeaseStatements;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilderImpl;
+import org.eclipse.edc.sql.lease.spi.LeaseStatements;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.azure.cosmos.postgres.encoding.JsonColumnEncoding.Codec.JSONB;
+import static org.eclipse.edc.azure.testfixtures.CosmosPostgresTestExtension.DEFAULT_DATASOURCE_NAME;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.connector.store.azure.cosmos.transferprocess.CosmosTransferProcessStoreExtension.ENCODED_COLUMNS;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the size of the table, the WAL written, the write throughput and the read latency of transfer processes
+ * between the {@code json} columns of the schema and {@code jsonb} columns with {@code lz4} compression. The number of
+ * transfer processes can be set with the {@code edc.benchmark.transferprocesses} system property.
+ */
+@PostgresCosmosBenchmark
+@ExtendWith(CosmosPostgresTestExtension.class)
+class TransferProcessEncodingBenchmarkTest {
+
+    private static final LeaseStatements LEASE_STATEMENTS = new BaseSqlLeaseStatements();
+    private static final PostgresDialectStatements STATEMENTS = new CosmosTransferProcessStatements(LEASE_STATEMENTS, Clock.systemUTC());
+    private static final int TRANSFER_PROCESS_COUNT = Integer.getInteger("edc.benchmark.transferprocesses", 20_000);
+    private static final int CALLBACKS_PER_TRANSFER_PROCESS = 20;
+    private static final int ITERATIONS = 200;
+
+    @BeforeAll
+    static void prepare(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.executeStatement(getResourceFileContentAsString("schema.sql"));
+    }
+
+    @AfterAll
+    static void dropTables(CosmosPostgresTestExtension.SqlHelper helper) {
+        helper.dropTable(STATEMENTS.getTransferProcessTableName());
+        helper.dropTable(LEASE_STATEMENTS.getLeaseTableName());
+    }
+
+    @Test
+    void jsonVersusJsonb(DataSourceRegistry reg, TransactionContext transactionContext, QueryExecutor queryExecutor, DataSource dataSource,
+                         CosmosPostgresTestExtension.SqlHelper helper) throws SQLException {
+        var typeManager = new JacksonTypeManager();
+        typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(transactionContext, "benchmark", STATEMENTS.getTransferProcessTableName(),
+                LEASE_STATEMENTS, Clock.systemUTC(), queryExecutor);
+        var store = new SqlTransferProcessStore(reg, DEFAULT_DATASOURCE_NAME, transactionContext, typeManager.getMapper(), STATEMENTS, leaseContextBuilder, queryExecutor);
+
+        var json = measure(store, dataSource, helper);
+
+        var encoding = new JsonColumnEncoding(STATEMENTS.getTransferProcessTableName(), ENCODED_COLUMNS, JSONB, "lz4", Duration.ofSeconds(10));
+        new JsonColumnMigrator(reg, DEFAULT_DATASOURCE_NAME, transactionContext, queryExecutor, encoding, mock(Monitor.class)).migrate();
+        var jsonb = measure(store, dataSource, helper);
+
+        System.out.printf("transfer-processes=%d callbacks=%d%n", TRANSFER_PROCESS_COUNT, CALLBACKS_PER_TRANSFER_PROCESS);
+        System.out.printf("%-10s %12s %12s %12s %14s %12s%n", "encoding", "table bytes", "column bytes", "wal bytes", "writes/s", "read ms");
+        System.out.printf("%-10s %12d %12d %12d %14.0f %12.3f%n", "json", json.tableBytes(), json.columnBytes(), json.walBytes(), json.writesPerSecond(), json.readMillis());
+        System.out.printf("%-10s %12d %12d %12d %14.0f %12.3f%n", "jsonb+lz4", jsonb.tableBytes(), jsonb.columnBytes(), jsonb.walBytes(), jsonb.writesPerSecond(), jsonb.readMillis());
+
+        assertThat(store.findById("tp-0").getCallbackAddresses()).hasSize(CALLBACKS_PER_TRANSFER_PROCESS);
+    }
+
+    private Result measure(SqlTransferProcessStore store, DataSource dataSource, CosmosPostgresTestExtension.SqlHelper helper) throws SQLException {
+        helper.truncateTable(STATEMENTS.getTransferProcessTableName());
+        helper.truncateTable(LEASE_STATEMENTS.getLeaseTableName());
+
+        var walBefore = walPosition(dataSource);
+        var start = System.nanoTime();
+        IntStream.range(0, TRANSFER_PROCESS_COUNT).forEach(i -> store.save(transferProcess("tp-" + i)));
+        var writesPerSecond = TRANSFER_PROCESS_COUNT / ((System.nanoTime() - start) / 1_000_000_000.0);
+        var walBytes = walDistance(dataSource, walBefore);
+        helper.executeStatement("ANALYZE " + STATEMENTS.getTransferProcessTableName());
+
+        var columnSizes = ENCODED_COLUMNS.stream().map("coalesce(sum(pg_column_size(%s)), 0)"::formatted).collect(Collectors.joining(" + "));
+        var tableBytes = queryLong(dataSource, "SELECT pg_total_relation_size('%s')".formatted(STATEMENTS.getTransferProcessTableName()));
+        var columnBytes = queryLong(dataSource, "SELECT %s FROM %s".formatted(columnSizes, STATEMENTS.getTransferProcessTableName()));
+
+        var samples = new long[ITERATIONS];
+        for (var i = 0; i < ITERATIONS; i++) {
+            var id = "tp-" + (i * 7919 % TRANSFER_PROCESS_COUNT);
+            var readStart = System.nanoTime();
+            assertThat(store.findById(id)).isNotNull();
+            samples[i] = System.nanoTime() - readStart;
+        }
+        Arrays.sort(samples);
+        return new Result(tableBytes, columnBytes, walBytes, writesPerSecond, samples[ITERATIONS / 2] / 1_000_000.0);
+    }
+
+    private String walPosition(DataSource dataSource) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT pg_current_wal_lsn()::text")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private long walDistance(DataSource dataSource, String from) throws SQLException {
+        return queryLong(dataSource, "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '%s')::bigint".formatted(from));
+    }
+
+    private long queryLong(DataSource dataSource, String sql) throws SQLException {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private TransferProcess transferProcess(String id) {
+        var callbacks = IntStream.range(0, CALLBACKS_PER_TRANSFER_PROCESS)
+                .mapToObj(i -> CallbackAddress.Builder.newInstance()
+                        .uri("https://consumer.example.com/callbacks/%s/%d".formatted(id, i))
+                        .events(Set.of("transfer.process.started", "transfer.process.completed", "transfer.process.terminated"))
+                        .transactional(i % 2 == 0)
+                        .build())
+                .toList();
+        var traceContext = new HashMap<String, String>();
+        for (var i = 0; i < 8; i++) {
+            traceContext.put("header-" + i, "value-%s-%d".formatted(id, i));
+        }
+        return TransferProcess.Builder.newInstance()
+                .id(id)
+                .type(TransferProcess.Type.PROVIDER)
+                .state(STARTED.code())
+                .correlationId("correlation-" + id)
+                .counterPartyAddress("http://counter-party/protocol")
+                .protocol("dataspace-protocol-http")
+                .assetId("asset-1")
+                .contractId("contract-1")
+                .transferType("HttpData-PULL")
+                .callbackAddresses(callbacks)
+                .traceContext(traceContext)
+                .dataDestination(DataAddress.Builder.newInstance().type("HttpData").property("baseUrl", "http://consumer/" + id).build())
+                .build();
+    }
+
+    private record Result(long tableBytes, long columnBytes, long walBytes, double writesPerSecond, double readMillis) {
+    }
+}
@@ -0,0 +1,107 @@
+-- Statements are designed for and tested with Postgres only!
+
+-- Variant of schema.sql that partitions edc_transfer_process by created_at. The monthly partitions are created ahead
+-- of time, and dropped after the retention period, by the partition maintenance of the extension (see README.md).
+
+CREATE TABLE IF NOT EXISTS edc_lease
+(
+    leased_by      VARCHAR NOT NULL,
+    leased_at      BIGINT,
+    lease_duration INTEGER NOT NULL,
+    lease_id       VARCHAR NOT NULL
+        CONSTRAINT lease_pk
+            PRIMARY KEY
+);
+
+COMMENT ON COLUMN edc_lease.leased_at IS 'posix timestamp of lease';
+
+COMMENT ON COLUMN edc_lease.lease_duration IS 'duration of lease in milliseconds';
+
+-- a unique constraint on a partitioned table has to contain the partition keys of all levels
+-- the primary key therefore does not make the id unique: the writers look the id up before inserting a row
+CREATE TABLE IF NOT EXISTS edc_transfer_process
+(
+    transferprocess_id       VARCHAR           NOT NULL,
+    type                     VARCHAR           NOT NULL,
+    state                    INTEGER           NOT NULL,
+    state_count              INTEGER DEFAULT 0 NOT NULL,
+    state_time_stamp         BIGINT,
+    created_at               BIGINT            NOT NULL,
+    updated_at               BIGINT            NOT NULL,
+    trace_context            JSON,
+    error_detail             VARCHAR,
+    resource_manifest        JSON,
+    provisioned_resource_set JSON,
+    content_data_address     JSON,
+    deprovisioned_resources  JSON,
+    private_properties       JSON,
+    callback_addresses       JSON,
+    pending                  BOOLEAN DEFAULT FALSE,
+    transfer_type            VARCHAR,
+    protocol_messages        JSON,
+    data_plane_id            VARCHAR,
+    correlation_id           VARCHAR,
+    counter_party_address    VARCHAR,
+    protocol                 VARCHAR,
+    asset_id                 VARCHAR,
+    contract_id              VARCHAR,
+    data_destination         JSON,
+    lease_id                 VARCHAR
+        CONSTRAINT transfer_process_lease_lease_id_fk
+            REFERENCES edc_lease
+            ON DELETE SET NULL,
+    CONSTRAINT transfer_process_pk
+        PRIMARY KEY (transferprocess_id, created_at, state)
+) PARTITION BY RANGE (created_at);
+
+COMMENT ON COLUMN edc_transfer_process.trace_context IS 'Java Map serialized as JSON';
+
+COMMENT ON COLUMN edc_transfer_process.resource_manifest IS 'java ResourceManifest serialized as JSON';
+
+COMMENT ON COLUMN edc_transfer_process.provisioned_resource_set IS 'ProvisionedResourceSet serialized as JSON';
+
+COMMENT ON COLUMN edc_transfer_process.content_data_address IS 'DataAddress serialized as JSON';
+
+COMMENT ON COLUMN edc_transfer_process.deprovisioned_resources IS 'List of deprovisioned resources, serialized as JSON';
+
+-- notifies every change of a transfer process, including the acquisition and release of its lease, so that the runtimes
+-- invalidate it in their TransferProcessCache. Notifications are delivered on commit, and only to the sessions of the
+-- node the trigger runs on: on a distributed table they are raised on the workers and do not reach the coordinator.
+CREATE OR REPLACE FUNCTION edc_notify_transfer_process_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('edc_transfer_process_changed', OLD.transferprocess_id);
+    ELSE
+        PERFORM pg_notify('edc_transfer_process_changed', NEW.transferprocess_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS transfer_process_changed_trigger ON edc_transfer_process;
+CREATE TRIGGER transfer_process_changed_trigger
+    AFTER INSERT OR UPDATE OR DELETE
+    ON edc_transfer_process
+    FOR EACH ROW
+EXECUTE FUNCTION edc_notify_transfer_process_changed();
+
+-- receives the rows for which no monthly partition exists, should stay empty
+CREATE TABLE IF NOT EXISTS edc_transfer_process_default
+    PARTITION OF edc_transfer_process DEFAULT;
+
+CREATE INDEX IF NOT EXISTS transfer_process_id_index
+    ON edc_transfer_process (transferprocess_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
+    ON edc_lease (lease_id);
+
+-- supports keyset pagination on the default sort order
+CREATE INDEX IF NOT EXISTS transfer_process_created_at_id_index
+    ON edc_transfer_process (created_at, transferprocess_id);
+
+-- Citus: distribute the table by id, with edc.cosmos.store.transferprocess.partitioning.distributed=true. Distributed
+-- tables support neither multi-level partitioning nor default partitions, so drop edc_transfer_process_default first.
+--
+-- SELECT create_reference_table('edc_lease');
+-- SELECT create_distributed_table('edc_transfer_process', 'transferprocess_id');
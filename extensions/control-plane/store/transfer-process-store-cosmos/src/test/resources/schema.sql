@@ -59,9 +59,35 @@ COMMENT ON COLUMN edc_transfer_process.content_data_address IS 'DataAddress seri
 
 COMMENT ON COLUMN edc_transfer_process.deprovisioned_resources IS 'List of deprovisioned resources, serialized as JSON';
 
+-- notifies every change of a transfer process, including the acquisition and release of its lease, so that the runtimes
+-- invalidate it in their TransferProcessCache. Notifications are delivered on commit, and only to the sessions of the
+-- node the trigger runs on: on a distributed table they are raised on the workers and do not reach the coordinator.
+CREATE OR REPLACE FUNCTION edc_notify_transfer_process_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('edc_transfer_process_changed', OLD.transferprocess_id);
+    ELSE
+        PERFORM pg_notify('edc_transfer_process_changed', NEW.transferprocess_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS transfer_process_changed_trigger ON edc_transfer_process;
+CREATE TRIGGER transfer_process_changed_trigger
+    AFTER INSERT OR UPDATE OR DELETE
+    ON edc_transfer_process
+    FOR EACH ROW
+EXECUTE FUNCTION edc_notify_transfer_process_changed();
+
 
 CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_id_uindex
     ON edc_transfer_process (transferprocess_id);
 
 CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
+
+-- supports keyset pagination on the default sort order
+CREATE INDEX IF NOT EXISTS transfer_process_created_at_id_index
+    ON edc_transfer_process (created_at, transferprocess_id);
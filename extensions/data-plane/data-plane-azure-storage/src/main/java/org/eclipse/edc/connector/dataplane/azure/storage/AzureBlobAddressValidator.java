@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.ACCOUNT_NAME;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.CONTAINER_NAME;
+
+/**
+ * Validates the Azure Blob Storage data addresses of a data flow.
+ */
+final class AzureBlobAddressValidator {
+
+    private AzureBlobAddressValidator() {
+    }
+
+    static Result<Void> validate(DataAddress address, BlobClientFactory clientFactory) {
+        if (isBlank(address.getStringProperty(ACCOUNT_NAME))) {
+            return Result.failure("Missing property %s of the %s data address".formatted(ACCOUNT_NAME, address.getType()));
+        }
+        if (isBlank(address.getStringProperty(CONTAINER_NAME))) {
+            return Result.failure("Missing property %s of the %s data address".formatted(CONTAINER_NAME, address.getType()));
+        }
+        if (isBlank(address.getKeyName()) && clientFactory.requiresKeyName(address.getStringProperty(ACCOUNT_NAME))) {
+            return Result.failure("Missing key name of the %s data address, SAS tokens are not issued for the storage account %s"
+                    .formatted(address.getType(), address.getStringProperty(ACCOUNT_NAME)));
+        }
+        return Result.success();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
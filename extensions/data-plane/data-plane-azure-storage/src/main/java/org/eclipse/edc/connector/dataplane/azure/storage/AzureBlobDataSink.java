@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.core.util.BinaryData;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.CopyStatusType;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes the parts of a source to blobs of an Azure Blob Storage container.
+ * <p>
+ * A part is streamed as blocks of one pooled buffer each, up to {@code concurrency} of which are staged in parallel,
+ * and committed once all are staged. Blobs read from Azure Blob Storage are copied by Azure Storage instead, without
+ * passing through the data plane, if the server-side copy is enabled.
+ */
+public class AzureBlobDataSink implements DataSink {
+
+    private static final Duration COPY_POLL_INTERVAL = Duration.ofSeconds(2);
+
+    private final BlobContainerClient containerClient;
+    private final String blobName;
+    private final String folderName;
+    private final BlobTransferSettings settings;
+    private final ByteBufferPool pool;
+    private final ExecutorService transferExecutor;
+    private final ExecutorService blockExecutor;
+    private final Monitor monitor;
+
+    /**
+     * Creates the sink.
+     *
+     * @param blobName the name of the blob written, if the source has a single part and no folder is set
+     * @param folderName the folder the parts are written to under their own name
+     */
+    public AzureBlobDataSink(BlobContainerClient containerClient, @Nullable String blobName, @Nullable String folderName, BlobTransferSettings settings,
+                             ByteBufferPool pool, ExecutorService transferExecutor, ExecutorService blockExecutor, Monitor monitor) {
+        this.containerClient = containerClient;
+        this.blobName = blobName;
+        this.folderName = folderName;
+        this.settings = settings;
+        this.pool = pool;
+        this.transferExecutor = transferExecutor;
+        this.blockExecutor = blockExecutor;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return CompletableFuture.supplyAsync(() -> {
+            var parts = source.openPartStream();
+            if (parts.failed()) {
+                return StreamResult.failure(parts.getFailure());
+            }
+            try (var stream = parts.getContent()) {
+                var iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    write(iterator.next());
+                }
+                return StreamResult.success();
+            } catch (Exception e) {
+                monitor.severe("Cannot write to container " + containerClient.getBlobContainerName(), e);
+                return StreamResult.error("Cannot write to container %s: %s".formatted(containerClient.getBlobContainerName(), e.getMessage()));
+            } finally {
+                try {
+                    source.close();
+                } catch (Exception e) {
+                    monitor.warning("Cannot close the data source", e);
+                }
+            }
+        }, transferExecutor);
+    }
+
+    private void write(DataSource.Part part) throws IOException, InterruptedException {
+        var blobClient = containerClient.getBlobClient(destinationName(part));
+        if (settings.serverSideCopy() && part instanceof AzureBlobPart blobPart) {
+            copy(blobPart, blobClient);
+        } else {
+            upload(part, blobClient);
+        }
+    }
+
+    private void copy(AzureBlobPart part, BlobClient blobClient) {
+        var result = blobClient.beginCopy(part.copySourceUrl(), COPY_POLL_INTERVAL).waitForCompletion();
+        var status = result.getValue() != null ? result.getValue().getCopyStatus() : null;
+        if (status != CopyStatusType.SUCCESS) {
+            throw new EdcException("Server-side copy of %s ended with status %s".formatted(part.name(), status));
+        }
+    }
+
+    private void upload(DataSource.Part part, BlobClient blobClient) throws IOException, InterruptedException {
+        var blockClient = blobClient.getBlockBlobClient();
+        var blockIds = new ArrayList<String>();
+        var stagings = new ArrayList<CompletableFuture<Void>>();
+        var inFlight = new Semaphore(Math.max(1, settings.concurrency()));
+
+        try (var input = part.openStream(); var channel = channel(input)) {
+            var endOfStream = false;
+            while (!endOfStream) {
+                var buffer = pool.acquire();
+                CompletableFuture<Void> staging;
+                // the buffer goes back to the pool here until the staging task owns it
+                try {
+                    endOfStream = fill(channel, buffer);
+                    if (buffer.position() == 0) {
+                        pool.release(buffer);
+                        break;
+                    }
+                    buffer.flip();
+                    var blockId = blockId(blockIds.size());
+                    blockIds.add(blockId);
+
+                    inFlight.acquire();
+                    try {
+                        staging = CompletableFuture.runAsync(() -> {
+                            try {
+                                blockClient.stageBlock(blockId, BinaryData.fromByteBuffer(buffer));
+                            } finally {
+                                pool.release(buffer);
+                                inFlight.release();
+                            }
+                        }, blockExecutor);
+                    } catch (RuntimeException e) {
+                        inFlight.release();
+                        throw e;
+                    }
+                } catch (IOException | InterruptedException | RuntimeException e) {
+                    pool.release(buffer);
+                    throw e;
+                }
+                stagings.add(staging);
+                failFast(stagings);
+            }
+        } finally {
+            CompletableFuture.allOf(stagings.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).join();
+        }
+
+        CompletableFuture.allOf(stagings.toArray(CompletableFuture[]::new)).join();
+        blockClient.commitBlockList(blockIds, true);
+    }
+
+    private String destinationName(DataSource.Part part) {
+        if (folderName != null) {
+            return folderName.endsWith("/") ? folderName + part.name() : folderName + "/" + part.name();
+        }
+        return blobName != null ? blobName : part.name();
+    }
+
+    /**
+     * Fills a buffer from the channel.
+     *
+     * @return true if the end of the stream was reached
+     */
+    private static boolean fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void failFast(List<CompletableFuture<Void>> stagings) {
+        for (var staging : stagings) {
+            if (staging.isCompletedExceptionally()) {
+                staging.join();
+            }
+        }
+    }
+
+    private static ReadableByteChannel channel(InputStream input) {
+        return input instanceof ReadableByteChannel channel ? channel : Channels.newChannel(input);
+    }
+
+    private static String blockId(int index) {
+        // block ids of a blob must all have the same length
+        return Base64.getEncoder().encodeToString("%010d".formatted(index).getBytes(StandardCharsets.UTF_8));
+    }
+}
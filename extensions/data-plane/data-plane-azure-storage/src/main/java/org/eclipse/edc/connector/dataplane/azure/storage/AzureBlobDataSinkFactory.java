@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.BLOB_NAME;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.FOLDER_NAME;
+
+/**
+ * Creates the {@link AzureBlobDataSink} of the data flows writing to Azure Blob Storage.
+ */
+public class AzureBlobDataSinkFactory implements DataSinkFactory {
+
+    // creates and writes blobs, staging their blocks or copying them server-side
+    private static final String SINK_PERMISSIONS = "cw";
+
+    private final BlobClientFactory clientFactory;
+    private final BlobTransferSettings settings;
+    private final ByteBufferPool pool;
+    private final ExecutorService transferExecutor;
+    private final ExecutorService blockExecutor;
+    private final Monitor monitor;
+
+    public AzureBlobDataSinkFactory(BlobClientFactory clientFactory, BlobTransferSettings settings, ByteBufferPool pool,
+                                    ExecutorService transferExecutor, ExecutorService blockExecutor, Monitor monitor) {
+        this.clientFactory = clientFactory;
+        this.settings = settings;
+        this.pool = pool;
+        this.transferExecutor = transferExecutor;
+        this.blockExecutor = blockExecutor;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public String supportedType() {
+        return AzureBlobStoreSchema.TYPE;
+    }
+
+    @Override
+    public DataSink createSink(DataFlowStartMessage request) {
+        var address = request.getDestinationDataAddress();
+        return new AzureBlobDataSink(clientFactory.containerAccess(address, SINK_PERMISSIONS).client(), address.getStringProperty(BLOB_NAME),
+                address.getStringProperty(FOLDER_NAME), settings, pool, transferExecutor, blockExecutor, monitor);
+    }
+
+    @Override
+    public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        return AzureBlobAddressValidator.validate(request.getDestinationDataAddress(), clientFactory);
+    }
+}
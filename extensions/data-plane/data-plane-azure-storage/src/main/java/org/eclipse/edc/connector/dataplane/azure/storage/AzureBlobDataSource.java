@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.ListBlobsOptions;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Reads a blob, or all the blobs with a name prefix, of an Azure Blob Storage container.
+ */
+public class AzureBlobDataSource implements DataSource {
+
+    private final BlobContainerClient containerClient;
+    private final String sasToken;
+    private final String blobName;
+    private final String blobPrefix;
+    private final BlobTransferSettings settings;
+    private final ByteBufferPool pool;
+    private final Executor executor;
+
+    /**
+     * Creates the source.
+     *
+     * @param blobName the name of the blob to read, or null to read the blobs starting with the prefix
+     */
+    public AzureBlobDataSource(BlobClientFactory.ContainerAccess container, @Nullable String blobName, @Nullable String blobPrefix,
+                               BlobTransferSettings settings, ByteBufferPool pool, Executor executor) {
+        this.containerClient = container.client();
+        this.sasToken = container.sasToken();
+        this.blobName = blobName;
+        this.blobPrefix = blobPrefix;
+        this.settings = settings;
+        this.pool = pool;
+        this.executor = executor;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        try {
+            if (blobName != null) {
+                return StreamResult.success(Stream.of(part(blobName)));
+            }
+            var blobs = containerClient.listBlobs(new ListBlobsOptions().setPrefix(blobPrefix), null).stream()
+                    .filter(item -> item.isPrefix() == null || !item.isPrefix())
+                    .map(item -> (Part) new AzureBlobPart(item.getName(), containerClient.getBlobClient(item.getName()), item.getProperties().getETag(),
+                            item.getProperties().getContentLength(), sasToken, settings, pool, executor));
+            return StreamResult.success(blobs);
+        } catch (Exception e) {
+            return StreamResult.error("Cannot read from container %s: %s".formatted(containerClient.getBlobContainerName(), e.getMessage()));
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private Part part(String name) {
+        var blobClient = containerClient.getBlobClient(name);
+        var properties = blobClient.getProperties();
+        return new AzureBlobPart(name, blobClient, properties.getETag(), properties.getBlobSize(), sasToken, settings, pool, executor);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.BLOB_NAME;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.BLOB_PREFIX;
+
+/**
+ * Creates the {@link AzureBlobDataSource} of the data flows reading from Azure Blob Storage.
+ */
+public class AzureBlobDataSourceFactory implements DataSourceFactory {
+
+    // reads and lists the blobs of the container
+    private static final String SOURCE_PERMISSIONS = "rl";
+
+    private final BlobClientFactory clientFactory;
+    private final BlobTransferSettings settings;
+    private final ByteBufferPool pool;
+    private final Executor rangeExecutor;
+
+    public AzureBlobDataSourceFactory(BlobClientFactory clientFactory, BlobTransferSettings settings, ByteBufferPool pool, Executor rangeExecutor) {
+        this.clientFactory = clientFactory;
+        this.settings = settings;
+        this.pool = pool;
+        this.rangeExecutor = rangeExecutor;
+    }
+
+    @Override
+    public String supportedType() {
+        return AzureBlobStoreSchema.TYPE;
+    }
+
+    @Override
+    public DataSource createSource(DataFlowStartMessage request) {
+        var address = request.getSourceDataAddress();
+        return new AzureBlobDataSource(clientFactory.containerAccess(address, SOURCE_PERMISSIONS), address.getStringProperty(BLOB_NAME),
+                address.getStringProperty(BLOB_PREFIX), settings, pool, rangeExecutor);
+    }
+
+    @Override
+    public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        var address = request.getSourceDataAddress();
+        var validation = AzureBlobAddressValidator.validate(address, clientFactory);
+        if (validation.failed()) {
+            return validation;
+        }
+        if (address.getStringProperty(BLOB_NAME) == null && address.getStringProperty(BLOB_PREFIX) == null) {
+            return Result.failure("The source data address must have either a %s or a %s property".formatted(BLOB_NAME, BLOB_PREFIX));
+        }
+        return Result.success();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.sas.BlobSasPermission;
+import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.concurrent.Executor;
+
+/**
+ * A blob read by an {@link AzureBlobDataSource}.
+ */
+public class AzureBlobPart implements DataSource.Part {
+
+    private final String name;
+    private final BlobClient blobClient;
+    private final String eTag;
+    private final long size;
+    private final String sasToken;
+    private final BlobTransferSettings settings;
+    private final ByteBufferPool pool;
+    private final Executor executor;
+
+    public AzureBlobPart(String name, BlobClient blobClient, String eTag, long size, @Nullable String sasToken, BlobTransferSettings settings,
+                         ByteBufferPool pool, Executor executor) {
+        this.name = name;
+        this.blobClient = blobClient;
+        this.eTag = eTag;
+        this.size = size;
+        this.sasToken = sasToken;
+        this.settings = settings;
+        this.pool = pool;
+        this.executor = executor;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new ParallelRangeInputStream(blobClient, eTag, size, settings.concurrency(), pool, executor);
+    }
+
+    /**
+     * Returns a URL the blob can be read from by Azure Storage for a server-side copy, authenticated with the SAS token
+     * of the source, or with a read-only SAS token generated with the account key.
+     */
+    public String copySourceUrl() {
+        var token = sasToken != null ? sasToken : blobClient.generateSas(new BlobServiceSasSignatureValues(
+                OffsetDateTime.now().plusSeconds(settings.copySasValiditySeconds()), new BlobSasPermission().setReadPermission(true)));
+        return blobClient.getBlobUrl() + "?" + token;
+    }
+}
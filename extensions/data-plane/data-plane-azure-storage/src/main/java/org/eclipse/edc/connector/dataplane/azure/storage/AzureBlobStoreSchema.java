@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+/**
+ * Properties of the data addresses of Azure Blob Storage.
+ */
+public final class AzureBlobStoreSchema {
+
+    public static final String TYPE = "AzureStorage";
+    public static final String ACCOUNT_NAME = "account";
+    public static final String CONTAINER_NAME = "container";
+    public static final String BLOB_NAME = "blobName";
+    public static final String BLOB_PREFIX = "blobPrefix";
+    public static final String FOLDER_NAME = "folderName";
+
+    private AzureBlobStoreSchema() {
+    }
+}
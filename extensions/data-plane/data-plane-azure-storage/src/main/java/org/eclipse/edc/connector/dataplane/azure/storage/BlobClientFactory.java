@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.core.http.HttpClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.common.StorageSharedKeyCredential;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.dataplane.azure.storage.sas.SasTokenService;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.ACCOUNT_NAME;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.CONTAINER_NAME;
+
+/**
+ * Creates the clients of the containers of the data addresses, authenticated with the secret the key name of the
+ * address refers to in the {@link Vault}. The secret is either a SAS token, a JSON object with a {@code sas} property,
+ * or the key of the storage account. All clients share one HTTP client and its connection pool.
+ */
+public class BlobClientFactory {
+
+    private final String endpointTemplate;
+    private final Vault vault;
+    private final ObjectMapper mapper;
+    private final HttpClient httpClient;
+    private final SasTokenService sasTokenService;
+
+    /**
+     * Creates the factory.
+     *
+     * @param endpointTemplate the endpoint of an account, with {@code %s} standing for the account name
+     */
+    public BlobClientFactory(String endpointTemplate, Vault vault, ObjectMapper mapper, HttpClient httpClient) {
+        this(endpointTemplate, vault, mapper, httpClient, null);
+    }
+
+    /**
+     * Creates the factory.
+     *
+     * @param endpointTemplate the endpoint of an account, with {@code %s} standing for the account name
+     * @param sasTokenService issues the tokens of the addresses without key name, if any
+     */
+    public BlobClientFactory(String endpointTemplate, Vault vault, ObjectMapper mapper, HttpClient httpClient, @Nullable SasTokenService sasTokenService) {
+        this.endpointTemplate = endpointTemplate;
+        this.vault = vault;
+        this.mapper = mapper;
+        this.httpClient = httpClient;
+        this.sasTokenService = sasTokenService;
+    }
+
+    /**
+     * Whether a data address of an account needs a key name to resolve its credential from the vault, which is the
+     * case unless the {@link SasTokenService} issues tokens for the account.
+     */
+    public boolean requiresKeyName(String account) {
+        return sasTokenService == null || !sasTokenService.issuesFor(account);
+    }
+
+    /**
+     * Returns the client of the container of an address. An address without key name is authenticated with a token
+     * issued by the {@link SasTokenService}, granting the given permissions, if its account is allowed.
+     *
+     * @param permissions the permissions of a token issued, e.g. {@code rl}
+     */
+    public ContainerAccess containerAccess(DataAddress address, String permissions) {
+        var account = address.getStringProperty(ACCOUNT_NAME);
+        var container = address.getStringProperty(CONTAINER_NAME);
+        if (address.getKeyName() == null && !requiresKeyName(account)) {
+            var sasToken = sasTokenService.containerSas(account, container, permissions);
+            return new ContainerAccess(new BlobServiceClientBuilder()
+                    .endpoint(endpointTemplate.formatted(account))
+                    .httpClient(httpClient)
+                    .sasToken(sasToken)
+                    .buildClient()
+                    .getBlobContainerClient(container), sasToken);
+        }
+
+        var secret = address.getKeyName() != null ? vault.resolveSecret(address.getKeyName()) : null;
+        if (secret == null) {
+            throw new EdcException("No credential found in the vault for the storage account " + account);
+        }
+
+        var builder = new BlobServiceClientBuilder()
+                .endpoint(endpointTemplate.formatted(account))
+                .httpClient(httpClient);
+        var sasToken = sasToken(secret);
+        if (sasToken != null) {
+            builder.sasToken(sasToken);
+        } else {
+            builder.credential(new StorageSharedKeyCredential(account, secret));
+        }
+        return new ContainerAccess(builder.buildClient().getBlobContainerClient(container), sasToken);
+    }
+
+    private @Nullable String sasToken(String secret) {
+        var trimmed = secret.trim();
+        if (trimmed.startsWith("{")) {
+            try {
+                var sas = mapper.readTree(trimmed).path("sas").asText(null);
+                if (sas == null) {
+                    throw new EdcException("The storage credential has no sas property");
+                }
+                return stripQuestionMark(sas);
+            } catch (JsonProcessingException e) {
+                throw new EdcException("The storage credential is not valid JSON", e);
+            }
+        }
+        return trimmed.contains("sig=") ? stripQuestionMark(trimmed) : null;
+    }
+
+    private static String stripQuestionMark(String sas) {
+        return sas.startsWith("?") ? sas.substring(1) : sas;
+    }
+
+    /**
+     * Client of a container, with the SAS token it was authenticated with if any.
+     */
+    public record ContainerAccess(BlobContainerClient client, @Nullable String sasToken) {
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+/**
+ * Settings of the parallel transfers of blobs.
+ *
+ * @param concurrency the number of blocks or ranges of a blob transferred in parallel
+ * @param serverSideCopy whether blobs are copied by Azure Storage when both ends are Azure Blob Storage
+ * @param copySasValiditySeconds the validity of the SAS token generated for the source of a server-side copy
+ */
+public record BlobTransferSettings(int concurrency, boolean serverSideCopy, long copySasValiditySeconds) {
+}
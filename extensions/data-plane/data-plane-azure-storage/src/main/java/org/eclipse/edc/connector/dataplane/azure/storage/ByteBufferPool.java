@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of direct buffers of one block each, reused across the blocks and ranges of all transfers. At most
+ * {@code maxBuffers} buffers are in use at a time, which bounds the direct memory of all transfers to
+ * {@code maxBuffers * bufferSize}. Released buffers are retained up to the capacity of the pool and dropped beyond.
+ * <p>
+ * A transfer waiting for a buffer only gets one once another transfer releases it, so transfers that hold buffers
+ * while waiting for more can block each other. {@link #acquire()} therefore gives up after a timeout, failing the
+ * transfer instead, and read-ahead uses {@link #tryAcquire()}, which never waits.
+ */
+public class ByteBufferPool {
+
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final Duration acquireTimeout;
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final Semaphore inUse;
+
+    public ByteBufferPool(int bufferSize, int capacity, int maxBuffers, Duration acquireTimeout) {
+        this.bufferSize = bufferSize;
+        this.maxBuffers = Math.max(1, maxBuffers);
+        this.acquireTimeout = acquireTimeout;
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.inUse = new Semaphore(this.maxBuffers, true);
+    }
+
+    /**
+     * Returns a buffer, waiting for one to be released if {@code maxBuffers} are in use.
+     *
+     * @throws EdcException if no buffer is released within the timeout
+     */
+    public ByteBuffer acquire() {
+        try {
+            if (!inUse.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new EdcException("No block buffer was released within %s, all %d buffers are in use".formatted(acquireTimeout, maxBuffers));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException("Interrupted while waiting for a block buffer", e);
+        }
+        return take();
+    }
+
+    /**
+     * Returns a buffer if fewer than {@code maxBuffers} are in use.
+     *
+     * @return the buffer, or null if none is available right away
+     */
+    public @Nullable ByteBuffer tryAcquire() {
+        return inUse.tryAcquire() ? take() : null;
+    }
+
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        buffers.offer(buffer);
+        inUse.release();
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    int retained() {
+        return buffers.size();
+    }
+
+    int available() {
+        return inUse.availablePermits();
+    }
+
+    private ByteBuffer take() {
+        var buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.http.HttpClient;
+import com.azure.core.util.HttpClientOptions;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.connector.dataplane.azure.storage.sas.SasTokenService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Registers the data source and sink of Azure Blob Storage in the data plane.
+ */
+@Extension(value = DataPlaneAzureStorageExtension.NAME)
+public class DataPlaneAzureStorageExtension implements ServiceExtension {
+
+    public static final String NAME = "Data Plane Azure Storage";
+
+    @Setting(description = "Size in bytes of the blocks uploaded and of the ranges downloaded", defaultValue = "8388608")
+    public static final String BLOCK_SIZE = "edc.azure.blob.block-size";
+
+    @Setting(description = "Number of blocks or ranges of a blob transferred concurrently", defaultValue = "8")
+    public static final String CONCURRENCY = "edc.azure.blob.concurrency";
+
+    @Setting(description = "Number of threads staging blocks and downloading ranges, shared by all transfers", defaultValue = "32")
+    public static final String IO_THREADS = "edc.azure.blob.io-threads";
+
+    @Setting(description = "Number of block buffers retained for reuse across transfers", defaultValue = "64")
+    public static final String BUFFER_POOL_SIZE = "edc.azure.blob.buffer-pool-size";
+
+    @Setting(description = "Maximum number of block buffers in use at a time by all transfers, which bounds their direct memory", defaultValue = "64")
+    public static final String MAX_BUFFERS = "edc.azure.blob.max-buffers";
+
+    @Setting(description = "Seconds a transfer waits for a block buffer when all are in use before it fails", defaultValue = "60")
+    public static final String BUFFER_ACQUIRE_TIMEOUT = "edc.azure.blob.buffer-acquire-timeout";
+
+    @Setting(description = "Endpoint of a storage account, with %s standing for the account name", defaultValue = DEFAULT_ENDPOINT_TEMPLATE)
+    public static final String ENDPOINT_TEMPLATE = "edc.azure.blob.endpoint-template";
+
+    @Setting(description = "Copies blobs between Azure Storage accounts server-side instead of through the data plane", defaultValue = "true")
+    public static final String SERVER_SIDE_COPY = "edc.azure.blob.server-side-copy";
+
+    @Setting(description = "Seconds the SAS granting a server-side copy read access to the source blob is valid", defaultValue = "3600")
+    public static final String COPY_SAS_VALIDITY = "edc.azure.blob.copy-sas-validity";
+
+    @Setting(description = "Issues SAS tokens signed with user delegation keys for the addresses without key name of the allowed accounts, if an Entra ID credential is available", defaultValue = "false")
+    public static final String SAS_ENABLED = "edc.azure.blob.sas.enabled";
+
+    @Setting(description = "Seconds a user delegation key is valid, at most 604800", defaultValue = "86400")
+    public static final String SAS_KEY_VALIDITY = "edc.azure.blob.sas.key-validity";
+
+    @Setting(description = "Remaining seconds of validity below which a user delegation key is refreshed in the background", defaultValue = "3600")
+    public static final String SAS_REFRESH_BEFORE = "edc.azure.blob.sas.refresh-before";
+
+    @Setting(description = "Seconds between two checks of the user delegation keys to refresh", defaultValue = "60")
+    public static final String SAS_REFRESH_INTERVAL = "edc.azure.blob.sas.refresh-interval";
+
+    @Setting(description = "Seconds a SAS token issued for a transfer is valid", defaultValue = "3600")
+    public static final String SAS_TOKEN_VALIDITY = "edc.azure.blob.sas.token-validity";
+
+    @Setting(description = "Comma-separated storage accounts SAS tokens are issued for, whose user delegation keys are fetched at start, required if SAS tokens are enabled", required = false)
+    public static final String SAS_ACCOUNTS = "edc.azure.blob.sas.accounts";
+
+    private static final String DEFAULT_ENDPOINT_TEMPLATE = "https://%s.blob.core.windows.net";
+    private static final int DEFAULT_BLOCK_SIZE = 8 * 1024 * 1024;
+    private static final int DEFAULT_CONCURRENCY = 8;
+    private static final int DEFAULT_IO_THREADS = 32;
+    private static final int DEFAULT_BUFFER_POOL_SIZE = 64;
+    private static final int DEFAULT_MAX_BUFFERS = 64;
+    private static final long DEFAULT_BUFFER_ACQUIRE_TIMEOUT_SECONDS = 60;
+    private static final long DEFAULT_COPY_SAS_VALIDITY_SECONDS = 3600;
+    private static final long DEFAULT_SAS_KEY_VALIDITY_SECONDS = 86400;
+    private static final long DEFAULT_SAS_REFRESH_BEFORE_SECONDS = 3600;
+    private static final long DEFAULT_SAS_REFRESH_INTERVAL_SECONDS = 60;
+    private static final long DEFAULT_SAS_TOKEN_VALIDITY_SECONDS = 3600;
+
+    @Inject
+    private PipelineService pipelineService;
+
+    @Inject
+    private Vault vault;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private TokenCredential tokenCredential;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService transferExecutor;
+    private ExecutorService ioExecutor;
+    private ScheduledExecutorService sasScheduler;
+    private SasTokenService sasTokenService;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var ioThreads = config.getInteger(IO_THREADS, DEFAULT_IO_THREADS);
+        var settings = new BlobTransferSettings(config.getInteger(CONCURRENCY, DEFAULT_CONCURRENCY), config.getBoolean(SERVER_SIDE_COPY, true),
+                config.getLong(COPY_SAS_VALIDITY, DEFAULT_COPY_SAS_VALIDITY_SECONDS));
+        var pool = new ByteBufferPool(config.getInteger(BLOCK_SIZE, DEFAULT_BLOCK_SIZE), config.getInteger(BUFFER_POOL_SIZE, DEFAULT_BUFFER_POOL_SIZE),
+                config.getInteger(MAX_BUFFERS, DEFAULT_MAX_BUFFERS), Duration.ofSeconds(config.getLong(BUFFER_ACQUIRE_TIMEOUT, DEFAULT_BUFFER_ACQUIRE_TIMEOUT_SECONDS)));
+
+        // one connection per I/O thread, so that no block waits for a connection of the shared client
+        var httpClient = HttpClient.createDefault(new HttpClientOptions().setMaximumConnectionPoolSize(ioThreads));
+        var endpointTemplate = config.getString(ENDPOINT_TEMPLATE, DEFAULT_ENDPOINT_TEMPLATE);
+        if (tokenCredential != null && config.getBoolean(SAS_ENABLED, false)) {
+            var sasAccounts = Arrays.stream(config.getString(SAS_ACCOUNTS, "").split(","))
+                    .map(String::trim)
+                    .filter(account -> !account.isEmpty())
+                    .collect(Collectors.toSet());
+            if (sasAccounts.isEmpty()) {
+                throw new EdcException("%s requires the storage accounts SAS tokens are issued for in %s".formatted(SAS_ENABLED, SAS_ACCOUNTS));
+            }
+            sasScheduler = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "azure-blob-sas");
+            sasTokenService = SasTokenService.create(account -> new BlobServiceClientBuilder()
+                            .endpoint(endpointTemplate.formatted(account))
+                            .credential(tokenCredential)
+                            .httpClient(httpClient)
+                            .buildClient(),
+                    sasAccounts,
+                    Duration.ofSeconds(config.getLong(SAS_KEY_VALIDITY, DEFAULT_SAS_KEY_VALIDITY_SECONDS)),
+                    Duration.ofSeconds(config.getLong(SAS_REFRESH_BEFORE, DEFAULT_SAS_REFRESH_BEFORE_SECONDS)),
+                    Duration.ofSeconds(config.getLong(SAS_TOKEN_VALIDITY, DEFAULT_SAS_TOKEN_VALIDITY_SECONDS)),
+                    sasScheduler, Clock.systemUTC(), context.getMonitor(), meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
+            var interval = config.getLong(SAS_REFRESH_INTERVAL, DEFAULT_SAS_REFRESH_INTERVAL_SECONDS);
+            sasScheduler.scheduleWithFixedDelay(sasTokenService::refreshExpiring, interval, interval, TimeUnit.SECONDS);
+        }
+        var clientFactory = new BlobClientFactory(endpointTemplate, vault, typeManager.getMapper(), httpClient, sasTokenService);
+
+        transferExecutor = executorInstrumentation.instrument(Executors.newCachedThreadPool(), "azure-blob-transfers");
+        ioExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(ioThreads), "azure-blob-io");
+
+        pipelineService.registerFactory(new AzureBlobDataSourceFactory(clientFactory, settings, pool, ioExecutor));
+        pipelineService.registerFactory(new AzureBlobDataSinkFactory(clientFactory, settings, pool, transferExecutor, ioExecutor, context.getMonitor()));
+    }
+
+    @Override
+    public void start() {
+        if (sasTokenService != null) {
+            sasTokenService.prefetch();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (sasScheduler != null) {
+            sasScheduler.shutdownNow();
+        }
+        if (transferExecutor != null) {
+            transferExecutor.shutdownNow();
+        }
+        if (ioExecutor != null) {
+            ioExecutor.shutdownNow();
+        }
+    }
+}
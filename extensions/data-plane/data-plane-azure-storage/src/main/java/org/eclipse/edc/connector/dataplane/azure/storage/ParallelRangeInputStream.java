@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.DownloadRetryOptions;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Stream of the content of a blob, downloaded as ranges of one block each. Up to {@code concurrency} ranges ahead of
+ * the reader are downloaded in parallel into pooled direct buffers, as far as the pool has buffers available, so that
+ * the memory held by a download is bounded whatever the size of the blob. All ranges are read from the version of the blob with the given ETag.
+ */
+class ParallelRangeInputStream extends InputStream {
+
+    private static final int MAX_RANGE_RETRIES = 3;
+
+    private final BlobClient blobClient;
+    private final String eTag;
+    private final long size;
+    private final int concurrency;
+    private final ByteBufferPool pool;
+    private final Executor executor;
+    private final Deque<CompletableFuture<ByteBuffer>> ranges = new ArrayDeque<>();
+
+    private long nextOffset;
+    private ByteBuffer current;
+    private boolean closed;
+
+    ParallelRangeInputStream(BlobClient blobClient, String eTag, long size, int concurrency, ByteBufferPool pool, Executor executor) {
+        this.blobClient = blobClient;
+        this.eTag = eTag;
+        this.size = size;
+        this.concurrency = Math.max(1, concurrency);
+        this.pool = pool;
+        this.executor = executor;
+        prefetch();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        return current.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        var count = Math.min(length, current.remaining());
+        current.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (current != null) {
+            pool.release(current);
+            current = null;
+        }
+        ranges.forEach(range -> range.thenAccept(pool::release));
+        ranges.clear();
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (current == null || !current.hasRemaining()) {
+            if (current != null) {
+                pool.release(current);
+                current = null;
+            }
+            if (ranges.isEmpty()) {
+                if (nextOffset >= size) {
+                    return false;
+                }
+                // the reader needs the next range, so only this one waits for a buffer
+                try {
+                    schedule(pool.acquire());
+                } catch (EdcException e) {
+                    throw new IOException("Cannot download blob " + blobClient.getBlobName(), e);
+                }
+            }
+            var next = ranges.poll();
+            prefetch();
+            try {
+                current = next.join();
+            } catch (CompletionException e) {
+                throw new IOException("Cannot download blob " + blobClient.getBlobName(), e.getCause());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Downloads ranges ahead of the reader while buffers are available.
+     */
+    private void prefetch() {
+        while (ranges.size() < concurrency && nextOffset < size) {
+            var buffer = pool.tryAcquire();
+            if (buffer == null) {
+                return;
+            }
+            schedule(buffer);
+        }
+    }
+
+    private void schedule(ByteBuffer buffer) {
+        var offset = nextOffset;
+        var count = (int) Math.min(pool.bufferSize(), size - offset);
+        nextOffset += count;
+        ranges.add(CompletableFuture.supplyAsync(() -> download(buffer, offset, count), executor));
+    }
+
+    private ByteBuffer download(ByteBuffer buffer, long offset, int count) {
+        try {
+            var output = new ByteBufferOutputStream(buffer);
+            blobClient.downloadStreamWithResponse(output, new BlobRange(offset, (long) count),
+                    new DownloadRetryOptions().setMaxRetryRequests(MAX_RANGE_RETRIES), new BlobRequestConditions().setIfMatch(eTag), false, null, null);
+            if (buffer.position() != count) {
+                throw new EdcException("Range at %d of blob %s returned %d bytes instead of %d".formatted(offset, blobClient.getBlobName(), buffer.position(), count));
+            }
+            return buffer.flip();
+        } catch (RuntimeException e) {
+            pool.release(buffer);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the downloaded bytes of a range straight into its buffer.
+     */
+    private static class ByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            if (!buffer.hasRemaining()) {
+                throw new IOException("Range exceeds its buffer");
+            }
+            buffer.put((byte) value);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (buffer.remaining() < length) {
+                throw new IOException("Range exceeds its buffer");
+            }
+            buffer.put(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage.sas;
+
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.sas.BlobContainerSasPermission;
+import com.azure.storage.blob.sas.BlobSasPermission;
+import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Issues SAS tokens of Azure Blob Storage signed with cached user delegation keys.
+ * <p>
+ * A token is signed locally, so that issuing it makes no request to Azure Storage, the Vault or Azure Resource Manager
+ * as long as the key of its account is cached. A token expires after {@code tokenValidity}, or with the key it is
+ * signed with if earlier.
+ * <p>
+ * Tokens are only issued for the accounts of an explicit allowlist, since they grant the permissions of the identity of
+ * the connector to anyone who can start a data flow with an address of the account.
+ */
+public class SasTokenService {
+
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+    private static final Duration MIN_KEY_REMAINING = Duration.ofMinutes(5);
+
+    private final Function<String, BlobServiceClient> serviceClients;
+    private final Set<String> accounts;
+    private final UserDelegationKeyCache keyCache;
+    private final Duration tokenValidity;
+    private final Clock clock;
+    private final MeterRegistry registry;
+
+    SasTokenService(Function<String, BlobServiceClient> serviceClients, Set<String> accounts, UserDelegationKeyCache keyCache, Duration tokenValidity,
+                    Clock clock, MeterRegistry registry) {
+        this.serviceClients = serviceClients;
+        this.accounts = Set.copyOf(accounts);
+        this.keyCache = keyCache;
+        this.tokenValidity = tokenValidity;
+        this.clock = clock;
+        this.registry = registry;
+    }
+
+    /**
+     * Creates the service.
+     *
+     * @param serviceClients creates the client of an account, authenticated with an Entra ID credential
+     * @param accounts the accounts tokens are issued for
+     * @param keyValidity the validity of the user delegation keys, at most seven days
+     * @param refreshBefore the remaining validity below which a key is refreshed in the background
+     * @param tokenValidity the validity of the tokens issued
+     * @param executor runs the fetches of the keys
+     */
+    public static SasTokenService create(Function<String, BlobServiceClient> serviceClients, Set<String> accounts, Duration keyValidity,
+                                         Duration refreshBefore, Duration tokenValidity, Executor executor, Clock clock, Monitor monitor,
+                                         MeterRegistry registry) {
+        var clients = new ConcurrentHashMap<String, BlobServiceClient>();
+        Function<String, BlobServiceClient> client = account -> clients.computeIfAbsent(account, serviceClients);
+        var keyCache = new UserDelegationKeyCache((account, validity) -> client.apply(account).getUserDelegationKey(validity.startTime(), validity.expiryTime()),
+                keyValidity, refreshBefore, MIN_KEY_REMAINING, executor, clock, monitor, registry);
+        return new SasTokenService(client, accounts, keyCache, tokenValidity, clock, registry);
+    }
+
+    /**
+     * Whether tokens are issued for an account.
+     */
+    public boolean issuesFor(String account) {
+        return account != null && accounts.contains(account);
+    }
+
+    /**
+     * Issues a token granting access to a container.
+     *
+     * @param permissions the permissions granted, e.g. {@code rl} or {@code racwl}
+     */
+    public String containerSas(String account, String container, String permissions) {
+        checkAllowed(account);
+        var key = keyCache.get(account);
+        var values = signatureValues(key, BlobContainerSasPermission.parse(permissions));
+        var token = client(account).getBlobContainerClient(container).generateUserDelegationSas(values, key.key());
+        minted("container");
+        return token;
+    }
+
+    /**
+     * Issues a token granting access to a blob.
+     *
+     * @param permissions the permissions granted, e.g. {@code r} or {@code cw}
+     */
+    public String blobSas(String account, String container, String blobName, String permissions) {
+        checkAllowed(account);
+        var key = keyCache.get(account);
+        var values = signatureValues(key, BlobSasPermission.parse(permissions));
+        var token = client(account).getBlobContainerClient(container).getBlobClient(blobName).generateUserDelegationSas(values, key.key());
+        minted("blob");
+        return token;
+    }
+
+    /**
+     * Fetches the keys of the accounts ahead of the first transfers.
+     */
+    public void prefetch() {
+        keyCache.prefetch(accounts);
+    }
+
+    /**
+     * Refreshes the keys about to expire, run periodically.
+     */
+    public void refreshExpiring() {
+        keyCache.refreshExpiring();
+    }
+
+    private BlobServiceSasSignatureValues signatureValues(UserDelegationKeyCache.CachedKey key, BlobContainerSasPermission permission) {
+        return new BlobServiceSasSignatureValues(expiry(key), permission).setStartTime(start());
+    }
+
+    private BlobServiceSasSignatureValues signatureValues(UserDelegationKeyCache.CachedKey key, BlobSasPermission permission) {
+        return new BlobServiceSasSignatureValues(expiry(key), permission).setStartTime(start());
+    }
+
+    private OffsetDateTime start() {
+        return clock.instant().minus(CLOCK_SKEW).atOffset(ZoneOffset.UTC);
+    }
+
+    private OffsetDateTime expiry(UserDelegationKeyCache.CachedKey key) {
+        var expiry = clock.instant().plus(tokenValidity);
+        return (expiry.isBefore(key.expiresAt()) ? expiry : key.expiresAt()).atOffset(ZoneOffset.UTC);
+    }
+
+    private void checkAllowed(String account) {
+        if (!issuesFor(account)) {
+            throw new EdcException("No SAS tokens are issued for the storage account " + account);
+        }
+    }
+
+    private BlobServiceClient client(String account) {
+        return serviceClients.apply(account);
+    }
+
+    private void minted(String scope) {
+        Counter.builder("edc.azure.blob.sas.minted")
+                .description("Number of SAS tokens signed with a cached user delegation key")
+                .tag("scope", scope)
+                .register(registry)
+                .increment();
+    }
+}
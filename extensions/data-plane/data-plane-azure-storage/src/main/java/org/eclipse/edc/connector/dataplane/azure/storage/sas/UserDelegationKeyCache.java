@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage.sas;
+
+import com.azure.storage.blob.models.UserDelegationKey;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * User delegation keys of the storage accounts, fetched once and reused to sign SAS tokens until they are about to
+ * expire.
+ * <p>
+ * A key whose remaining validity falls below {@code refreshBefore} is refreshed in the background, while it keeps being
+ * used. Only a caller finding no key, or one about to expire, waits for a key to be fetched. Concurrent fetches of the
+ * key of an account are collapsed into one.
+ */
+class UserDelegationKeyCache {
+
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private final BiFunction<String, KeyValidity, UserDelegationKey> keyFetcher;
+    private final Duration keyValidity;
+    private final Duration refreshBefore;
+    private final Duration minRemaining;
+    private final Executor executor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, CachedKey> keys = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<CachedKey>> fetches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the cache.
+     *
+     * @param keyFetcher fetches the key of an account valid over the given period from Azure Storage
+     * @param keyValidity the validity of the keys fetched, at most seven days
+     * @param refreshBefore the remaining validity below which a key is refreshed in the background
+     * @param minRemaining the remaining validity below which a key is not used anymore
+     */
+    UserDelegationKeyCache(BiFunction<String, KeyValidity, UserDelegationKey> keyFetcher, Duration keyValidity, Duration refreshBefore,
+                           Duration minRemaining, Executor executor, Clock clock, Monitor monitor, MeterRegistry registry) {
+        this.keyFetcher = keyFetcher;
+        this.keyValidity = keyValidity;
+        this.refreshBefore = refreshBefore;
+        this.minRemaining = minRemaining;
+        this.executor = executor;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.registry = registry;
+        Gauge.builder("edc.azure.blob.sas.keys", keys, ConcurrentMap::size)
+                .description("Number of user delegation keys cached")
+                .register(registry);
+    }
+
+    /**
+     * Returns a key of the account valid for at least {@code minRemaining}, fetching it if none is cached.
+     */
+    CachedKey get(String account) {
+        var cached = keys.get(account);
+        var now = clock.instant();
+        if (cached != null && cached.expiresAt().isAfter(now.plus(minRemaining))) {
+            if (cached.expiresAt().isBefore(now.plus(refreshBefore))) {
+                fetch(account, "background");
+            }
+            return cached;
+        }
+        try {
+            return fetch(account, "on-demand").join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof EdcException edcException ? edcException
+                    : new EdcException("Cannot get a user delegation key of the storage account " + account, e.getCause());
+        }
+    }
+
+    /**
+     * Fetches the keys of the accounts if they are not cached yet, so that the first transfers do not wait for them.
+     */
+    void prefetch(Iterable<String> accounts) {
+        for (var account : accounts) {
+            if (!keys.containsKey(account)) {
+                fetch(account, "prefetch");
+            }
+        }
+    }
+
+    /**
+     * Refreshes the keys whose remaining validity fell below {@code refreshBefore}, run periodically.
+     */
+    void refreshExpiring() {
+        var threshold = clock.instant().plus(refreshBefore);
+        keys.forEach((account, key) -> {
+            if (key.expiresAt().isBefore(threshold)) {
+                fetch(account, "background");
+            }
+        });
+    }
+
+    private CompletableFuture<CachedKey> fetch(String account, String trigger) {
+        var fetch = new CompletableFuture<CachedKey>();
+        var inProgress = fetches.putIfAbsent(account, fetch);
+        if (inProgress != null) {
+            return inProgress;
+        }
+        executor.execute(() -> {
+            var sample = Timer.start(registry);
+            try {
+                var start = clock.instant().minus(CLOCK_SKEW);
+                var expiry = clock.instant().plus(keyValidity);
+                var key = new CachedKey(keyFetcher.apply(account, new KeyValidity(start, expiry)), expiry);
+                keys.put(account, key);
+                fetches.remove(account, fetch);
+                record(sample, trigger, "success");
+                fetch.complete(key);
+            } catch (RuntimeException e) {
+                fetches.remove(account, fetch);
+                record(sample, trigger, "error");
+                monitor.warning("Cannot fetch a user delegation key of the storage account " + account, e);
+                fetch.completeExceptionally(e);
+            }
+        });
+        return fetch;
+    }
+
+    private void record(Timer.Sample sample, String trigger, String outcome) {
+        sample.stop(Timer.builder("edc.azure.blob.sas.key.refreshes")
+                .description("Latency of the fetches of user delegation keys")
+                .tag("trigger", trigger)
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+
+    /**
+     * A cached key, with the instant it expires at.
+     */
+    record CachedKey(UserDelegationKey key, Instant expiresAt) {
+    }
+
+    /**
+     * The period a key is requested for.
+     */
+    record KeyValidity(Instant start, Instant expiry) {
+
+        OffsetDateTime startTime() {
+            return start.atOffset(ZoneOffset.UTC);
+        }
+
+        OffsetDateTime expiryTime() {
+            return expiry.atOffset(ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.core.util.BinaryData;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AzureBlobDataSinkTest {
+
+    private static final int BLOCK_SIZE = 16;
+
+    private final BlobContainerClient containerClient = mock();
+    private final BlobClient blobClient = mock();
+    private final BlockBlobClient blockClient = mock();
+    private final Map<String, byte[]> stagedBlocks = new ConcurrentHashMap<>();
+    private final ByteBufferPool pool = new ByteBufferPool(BLOCK_SIZE, 2, 8, Duration.ofSeconds(5));
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @BeforeEach
+    void setUp() {
+        when(containerClient.getBlobClient(anyString())).thenReturn(blobClient);
+        when(blobClient.getBlockBlobClient()).thenReturn(blockClient);
+        doAnswer(invocation -> {
+            stagedBlocks.put(invocation.getArgument(0), invocation.<BinaryData>getArgument(1).toBytes());
+            return null;
+        }).when(blockClient).stageBlock(anyString(), any(BinaryData.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldStageBlocksAndCommitThemInOrder() {
+        var content = new byte[BLOCK_SIZE * 3 + 5];
+        for (var i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        var result = sink("target", null).transfer(source("part", new ByteArrayInputStream(content))).join();
+
+        assertThat(result.succeeded()).isTrue();
+        verify(containerClient).getBlobClient("target");
+        var blockIds = List.of(blockId(0), blockId(1), blockId(2), blockId(3));
+        verify(blockClient).commitBlockList(blockIds, true);
+        var uploaded = blockIds.stream().map(stagedBlocks::get).reduce(new byte[0], AzureBlobDataSinkTest::concat);
+        assertThat(uploaded).isEqualTo(content);
+        assertThat(pool.retained()).isLessThanOrEqualTo(2);
+        assertThat(pool.available()).isEqualTo(8);
+    }
+
+    @Test
+    void transfer_withFolder_shouldWriteUnderPartName() {
+        var result = sink(null, "folder").transfer(source("part", new ByteArrayInputStream(new byte[]{ 1 }))).join();
+
+        assertThat(result.succeeded()).isTrue();
+        verify(containerClient).getBlobClient("folder/part");
+    }
+
+    @Test
+    void transfer_stagingFails_shouldNotCommit() {
+        doThrow(new RuntimeException("boom")).when(blockClient).stageBlock(eq(blockId(1)), any(BinaryData.class));
+
+        var result = sink("target", null).transfer(source("part", new ByteArrayInputStream(new byte[BLOCK_SIZE * 4]))).join();
+
+        assertThat(result.failed()).isTrue();
+        verify(blockClient, never()).commitBlockList(any(), eq(true));
+    }
+
+    @Test
+    void transfer_sourceFailsMidRead_shouldReturnBuffersToPool() {
+        var failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        var content = new SequenceInputStream(new ByteArrayInputStream(new byte[BLOCK_SIZE * 2 + 3]), failing);
+
+        var result = sink("target", null).transfer(source("part", content)).join();
+
+        assertThat(result.failed()).isTrue();
+        verify(blockClient, never()).commitBlockList(any(), eq(true));
+        assertThat(pool.available()).isEqualTo(8);
+    }
+
+    private AzureBlobDataSink sink(String blobName, String folderName) {
+        return new AzureBlobDataSink(containerClient, blobName, folderName, new BlobTransferSettings(2, true, 3600), pool,
+                executor, executor, mock(Monitor.class));
+    }
+
+    private DataSource source(String name, InputStream content) {
+        var part = mock(DataSource.Part.class);
+        when(part.name()).thenReturn(name);
+        when(part.openStream()).thenReturn(content);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        return source;
+    }
+
+    private static String blockId(int index) {
+        return Base64.getEncoder().encodeToString("%010d".formatted(index).getBytes());
+    }
+
+    private static byte[] concat(byte[] left, byte[] right) {
+        var result = new byte[left.length + right.length];
+        System.arraycopy(left, 0, result, 0, left.length);
+        System.arraycopy(right, 0, result, left.length, right.length);
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.util.HttpClientOptions;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.common.StorageSharedKeyCredential;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.azure.testfixtures.annotations.AzureStorageBenchmark;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.ACCOUNT_NAME;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.BLOB_NAME;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.CONTAINER_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the throughput of a blob-to-blob transfer streamed through the data plane with one range and block at a
+ * time, streamed with parallel ranges and blocks, and copied server-side, against a local Azurite. The size of the
+ * blob can be set in MiB with the {@code edc.benchmark.blob-size} system property.
+ */
+@AzureStorageBenchmark
+class AzureBlobTransferBenchmarkTest {
+
+    private static final String ENDPOINT_TEMPLATE = "http://127.0.0.1:10000/%s";
+    private static final String ACCOUNT = "account1";
+    private static final String ACCOUNT_KEY = "key1";
+    private static final int BLOCK_SIZE = 8 * 1024 * 1024;
+    private static final long BLOB_SIZE = Long.getLong("edc.benchmark.blob-size", 1024) * 1024 * 1024;
+    private static final String CONTAINER = "benchmark-" + UUID.randomUUID();
+
+    private static final BlobServiceClient SERVICE_CLIENT = new BlobServiceClientBuilder()
+            .endpoint(ENDPOINT_TEMPLATE.formatted(ACCOUNT))
+            .credential(new StorageSharedKeyCredential(ACCOUNT, ACCOUNT_KEY))
+            .buildClient();
+
+    @BeforeAll
+    static void uploadSource() {
+        var container = SERVICE_CLIENT.createBlobContainer(CONTAINER);
+        container.getBlobClient("source").upload(new RandomInputStream(BLOB_SIZE), BLOB_SIZE);
+    }
+
+    @AfterAll
+    static void deleteContainer() {
+        SERVICE_CLIENT.deleteBlobContainer(CONTAINER);
+    }
+
+    @Test
+    void throughput() {
+        var sequential = transfer(1, false);
+        var parallel = transfer(8, false);
+        var serverSide = transfer(8, true);
+
+        System.out.printf("blob=%d MiB block=%d MiB%n", BLOB_SIZE >> 20, BLOCK_SIZE >> 20);
+        System.out.printf("streamed, 1 block at a time: %.1f MiB/s%n", sequential);
+        System.out.printf("streamed, 8 blocks at a time: %.1f MiB/s%n", parallel);
+        System.out.printf("server-side copy: %.1f MiB/s%n", serverSide);
+
+        assertThat(parallel).isGreaterThan(sequential);
+    }
+
+    private double transfer(int concurrency, boolean serverSideCopy) {
+        var vault = mock(Vault.class);
+        when(vault.resolveSecret("account1-key")).thenReturn(ACCOUNT_KEY);
+        var httpClient = HttpClient.createDefault(new HttpClientOptions().setMaximumConnectionPoolSize(16));
+        var clientFactory = new BlobClientFactory(ENDPOINT_TEMPLATE, vault, new ObjectMapper(), httpClient);
+        var settings = new BlobTransferSettings(concurrency, serverSideCopy, 600);
+        var pool = new ByteBufferPool(BLOCK_SIZE, 2 * concurrency, 4 * concurrency, Duration.ofSeconds(60));
+        var executor = Executors.newFixedThreadPool(2 * concurrency + 1);
+        var destination = "copy-" + concurrency + "-" + serverSideCopy;
+        try {
+            var request = DataFlowStartMessage.Builder.newInstance()
+                    .processId(UUID.randomUUID().toString())
+                    .sourceDataAddress(address("source"))
+                    .destinationDataAddress(address(destination))
+                    .build();
+            var source = new AzureBlobDataSourceFactory(clientFactory, settings, pool, executor).createSource(request);
+            var sink = new AzureBlobDataSinkFactory(clientFactory, settings, pool, executor, executor, mock(Monitor.class)).createSink(request);
+
+            var start = System.nanoTime();
+            var result = sink.transfer(source).join();
+            var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(SERVICE_CLIENT.getBlobContainerClient(CONTAINER).getBlobClient(destination).getProperties().getBlobSize()).isEqualTo(BLOB_SIZE);
+            return (BLOB_SIZE >> 20) / seconds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static DataAddress address(String blobName) {
+        return DataAddress.Builder.newInstance()
+                .type(AzureBlobStoreSchema.TYPE)
+                .property(ACCOUNT_NAME, ACCOUNT)
+                .property(CONTAINER_NAME, CONTAINER)
+                .property(BLOB_NAME, blobName)
+                .keyName("account1-key")
+                .build();
+    }
+
+    /**
+     * Random content of a given length, generated while uploading rather than held in memory.
+     */
+    private static class RandomInputStream extends InputStream {
+
+        private final Random random = new Random(42);
+        private long remaining;
+
+        RandomInputStream(long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return random.nextInt(256);
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            var count = (int) Math.min(length, remaining);
+            var chunk = new byte[count];
+            random.nextBytes(chunk);
+            System.arraycopy(chunk, 0, bytes, offset, count);
+            remaining -= count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.util.BinaryData;
+import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.common.StorageSharedKeyCredential;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.azure.testfixtures.annotations.AzureStorageIntegrationTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.ACCOUNT_NAME;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.BLOB_NAME;
+import static org.eclipse.edc.connector.dataplane.azure.storage.AzureBlobStoreSchema.CONTAINER_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Transfers blobs between containers of a local Azurite, see the README of the azure-test module.
+ */
+@AzureStorageIntegrationTest
+class AzureBlobTransferIntegrationTest {
+
+    private static final String ENDPOINT_TEMPLATE = "http://127.0.0.1:10000/%s";
+    private static final String ACCOUNT = "account1";
+    private static final String ACCOUNT_KEY = "key1";
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    private final Vault vault = mock();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final BlobServiceClient serviceClient = new BlobServiceClientBuilder()
+            .endpoint(ENDPOINT_TEMPLATE.formatted(ACCOUNT))
+            .credential(new StorageSharedKeyCredential(ACCOUNT, ACCOUNT_KEY))
+            .buildClient();
+    private final String sourceContainer = "source-" + UUID.randomUUID();
+    private final String destinationContainer = "destination-" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        when(vault.resolveSecret("account1-key")).thenReturn(ACCOUNT_KEY);
+        serviceClient.createBlobContainer(sourceContainer);
+        serviceClient.createBlobContainer(destinationContainer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        serviceClient.deleteBlobContainer(sourceContainer);
+        serviceClient.deleteBlobContainer(destinationContainer);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void transfer_shouldCopyBlob(boolean serverSideCopy) {
+        var content = new byte[BLOCK_SIZE * 5 + 123];
+        new Random(42).nextBytes(content);
+        serviceClient.getBlobContainerClient(sourceContainer).getBlobClient("blob").upload(BinaryData.fromBytes(content));
+
+        var settings = new BlobTransferSettings(4, serverSideCopy, 600);
+        var pool = new ByteBufferPool(BLOCK_SIZE, 8, 16, Duration.ofSeconds(30));
+        var clientFactory = new BlobClientFactory(ENDPOINT_TEMPLATE, vault, new ObjectMapper(), HttpClient.createDefault());
+        var request = DataFlowStartMessage.Builder.newInstance()
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(address(sourceContainer, "blob"))
+                .destinationDataAddress(address(destinationContainer, "copy"))
+                .build();
+
+        var source = new AzureBlobDataSourceFactory(clientFactory, settings, pool, executor).createSource(request);
+        var sink = new AzureBlobDataSinkFactory(clientFactory, settings, pool, executor, executor, mock(Monitor.class)).createSink(request);
+        var result = sink.transfer(source).join();
+
+        assertThat(result.succeeded()).isTrue();
+        var copy = serviceClient.getBlobContainerClient(destinationContainer).getBlobClient("copy").downloadContent().toBytes();
+        assertThat(copy).isEqualTo(content);
+    }
+
+    private DataAddress address(String container, String blobName) {
+        return DataAddress.Builder.newInstance()
+                .type(AzureBlobStoreSchema.TYPE)
+                .property(ACCOUNT_NAME, ACCOUNT)
+                .property(CONTAINER_NAME, container)
+                .property(BLOB_NAME, blobName)
+                .keyName("account1-key")
+                .build();
+    }
+}
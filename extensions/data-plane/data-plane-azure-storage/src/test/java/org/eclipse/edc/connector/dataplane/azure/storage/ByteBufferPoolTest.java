@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage;
+
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteBufferPoolTest {
+
+    private final ByteBufferPool pool = new ByteBufferPool(16, 1, 2, Duration.ofMillis(50));
+
+    @Test
+    void acquire_allBuffersInUse_shouldFailAfterTimeout() {
+        pool.acquire();
+        pool.acquire();
+
+        assertThatThrownBy(pool::acquire).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void tryAcquire_allBuffersInUse_shouldReturnNull() {
+        pool.acquire();
+        pool.acquire();
+
+        assertThat(pool.tryAcquire()).isNull();
+    }
+
+    @Test
+    void release_shouldMakeBufferAvailableAgain() {
+        var first = pool.acquire();
+        var second = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.available()).isEqualTo(2);
+        assertThat(pool.retained()).isEqualTo(1);
+        assertThat(pool.acquire()).isSameAs(first);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage.sas;
+
+import com.azure.core.credential.TokenCredential;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.UserDelegationKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class SasTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final UserDelegationKeyCache keyCache = new UserDelegationKeyCache((account, validity) -> {
+        fetches.incrementAndGet();
+        return new UserDelegationKey()
+                .setSignedObjectId("object-id")
+                .setSignedTenantId("tenant-id")
+                .setSignedStart(validity.startTime())
+                .setSignedExpiry(validity.expiryTime())
+                .setSignedService("b")
+                .setSignedVersion("2021-08-06")
+                .setValue(Base64.getEncoder().encodeToString("secret".getBytes(StandardCharsets.UTF_8)));
+    }, Duration.ofHours(2), Duration.ofMinutes(30), Duration.ofMinutes(5), Runnable::run, clock, mock(Monitor.class), registry);
+    private final SasTokenService service = new SasTokenService(account -> new BlobServiceClientBuilder()
+            .endpoint("https://%s.blob.core.windows.net".formatted(account))
+            .credential(mock(TokenCredential.class))
+            .buildClient(), Set.of("account"), keyCache, Duration.ofHours(4), clock, registry);
+
+    @Test
+    void containerSas_shouldSignLocallyWithCachedKey() {
+        var first = service.containerSas("account", "container", "rl");
+        var second = service.containerSas("account", "other", "rl");
+
+        assertThat(first).contains("sr=c", "sp=rl", "skoid=object-id", "sig=");
+        assertThat(second).contains("sr=c").isNotEqualTo(first);
+        assertThat(fetches).hasValue(1);
+        assertThat(registry.get("edc.azure.blob.sas.minted").tags("scope", "container").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void blobSas_shouldExpireWithKey() {
+        var token = service.blobSas("account", "container", "blob", "r");
+
+        assertThat(token).contains("sr=b", "sp=r", "se=2026-01-01T02%3A00%3A00Z");
+        assertThat(registry.get("edc.azure.blob.sas.minted").tags("scope", "blob").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void containerSas_accountNotAllowed_shouldFail() {
+        assertThatThrownBy(() -> service.containerSas("other-account", "container", "rl")).isInstanceOf(EdcException.class);
+
+        assertThat(service.issuesFor("other-account")).isFalse();
+        assertThat(fetches).hasValue(0);
+    }
+}
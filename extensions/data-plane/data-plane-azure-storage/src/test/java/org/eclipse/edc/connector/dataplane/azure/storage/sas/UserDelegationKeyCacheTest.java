@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.azure.storage.sas;
+
+import com.azure.storage.blob.models.UserDelegationKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserDelegationKeyCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final Clock clock = mock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<String> fetched = new ArrayList<>();
+    private final List<Runnable> pendingFetches = new ArrayList<>();
+    private RuntimeException fetchFailure;
+    private UserDelegationKeyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        cache = new UserDelegationKeyCache((account, validity) -> {
+            if (fetchFailure != null) {
+                throw fetchFailure;
+            }
+            fetched.add(account);
+            return new UserDelegationKey().setValue(account + "-" + fetched.size()).setSignedExpiry(validity.expiryTime());
+        }, Duration.ofHours(24), Duration.ofHours(1), Duration.ofMinutes(5), Runnable::run, clock, mock(Monitor.class), registry);
+    }
+
+    @Test
+    void get_shouldFetchKeyOnce() {
+        var first = cache.get("account");
+        var second = cache.get("account");
+
+        assertThat(second.key().getValue()).isEqualTo(first.key().getValue()).isEqualTo("account-1");
+        assertThat(first.expiresAt()).isEqualTo(NOW.plus(Duration.ofHours(24)));
+        assertThat(fetched).containsExactly("account");
+        assertThat(registry.get("edc.azure.blob.sas.key.refreshes").tags("trigger", "on-demand", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void get_keyAboutToExpire_shouldRefreshWhileUsingCurrentKey() {
+        var deferred = new UserDelegationKeyCache((account, validity) -> {
+            fetched.add(account);
+            return new UserDelegationKey().setValue(account + "-" + fetched.size());
+        }, Duration.ofHours(24), Duration.ofHours(1), Duration.ofMinutes(5), pendingFetches::add, clock, mock(Monitor.class), registry);
+        deferred.prefetch(Set.of("account"));
+        pendingFetches.remove(0).run();
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(23 * 60 + 30)));
+        var key = deferred.get("account");
+
+        assertThat(key.key().getValue()).isEqualTo("account-1");
+        assertThat(pendingFetches).hasSize(1);
+        pendingFetches.remove(0).run();
+        assertThat(deferred.get("account").key().getValue()).isEqualTo("account-2");
+    }
+
+    @Test
+    void get_keyExpired_shouldFetchNewKey() {
+        cache.get("account");
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(24)).minus(Duration.ofMinutes(1)));
+
+        assertThat(cache.get("account").key().getValue()).isEqualTo("account-2");
+    }
+
+    @Test
+    void refreshExpiring_shouldRefreshOnlyKeysAboutToExpire() {
+        cache.get("old");
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(12)));
+        cache.get("new");
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(23 * 60 + 30)));
+
+        cache.refreshExpiring();
+
+        assertThat(fetched).containsExactly("old", "new", "old");
+        assertThat(registry.get("edc.azure.blob.sas.key.refreshes").tags("trigger", "background").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void refreshFails_shouldKeepCurrentKey() {
+        cache.get("account");
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(23 * 60 + 30)));
+        fetchFailure = new IllegalStateException("unavailable");
+
+        cache.refreshExpiring();
+
+        assertThat(cache.get("account").key().getValue()).isEqualTo("account-1");
+        assertThat(registry.get("edc.azure.blob.sas.key.refreshes").tags("trigger", "background", "outcome", "error").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void get_fetchFails_shouldThrow() {
+        fetchFailure = new IllegalStateException("unavailable");
+
+        assertThatThrownBy(() -> cache.get("account")).isInstanceOf(EdcException.class).hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
@@ -28,6 +28,7 @@ pluginManagement {
 }
 
 // core extensions
+include(":extensions:common:azure:azure-cosmos-postgres")
 include(":extensions:common:azure:azure-eventgrid")
 include(":extensions:common:azure:azure-resource-manager")
 include(":extensions:common:azure:azure-test")
@@ -41,4 +42,9 @@ include(":extensions:control-plane:store:contract-negotiation-store-cosmos")
 include(":extensions:control-plane:store:policy-definition-store-cosmos")
 include(":extensions:control-plane:store:transfer-process-store-cosmos")
 
+include(":extensions:data-plane:data-plane-azure-storage")
+
 include(":extensions:data-plane-selector:data-plane-instance-store-cosmos")
+
+// system tests
+include(":system-tests:cosmos-store-benchmark")
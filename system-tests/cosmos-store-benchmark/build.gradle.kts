@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    implementation(project(":extensions:control-plane:store:asset-index-cosmos"))
+    implementation(project(":extensions:control-plane:store:contract-definition-store-cosmos"))
+    implementation(project(":extensions:control-plane:store:contract-negotiation-store-cosmos"))
+    implementation(project(":extensions:control-plane:store:policy-definition-store-cosmos"))
+    implementation(project(":extensions:control-plane:store:transfer-process-store-cosmos"))
+    implementation(testFixtures(project(":extensions:common:azure:azure-test")))
+
+    implementation(libs.edc.sql.assetindex)
+    implementation(libs.edc.sql.contractdefinition)
+    implementation(libs.edc.sql.contractnegotiation)
+    implementation(libs.edc.sql.policydefinition)
+    implementation(libs.edc.sql.transferprocess)
+    implementation(libs.edc.sql.lease)
+    implementation(libs.testcontainers.postgres)
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator)
+}
+
+edcBuild {
+    publish.set(false)
+}
+
+// the benchmarks create the tables with the schemas of the store modules
+val storeSchemas = mapOf(
+    "asset-index-cosmos" to "asset",
+    "contract-definition-store-cosmos" to "contractdefinition",
+    "contract-negotiation-store-cosmos" to "contractnegotiation",
+    "policy-definition-store-cosmos" to "policydefinition",
+    "transfer-process-store-cosmos" to "transferprocess"
+)
+
+val copyStoreSchemas by tasks.registering(Copy::class) {
+    storeSchemas.forEach { (module, name) ->
+        from(project(":extensions:control-plane:store:$module").file("src/test/resources/schema.sql")) {
+            rename { "$name.sql" }
+        }
+    }
+    into(layout.buildDirectory.dir("generated/benchmark-schemas/schema"))
+}
+
+sourceSets.main {
+    resources.srcDir(files(layout.buildDirectory.dir("generated/benchmark-schemas")).builtBy(copyStoreSchemas))
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the store benchmarks, e.g. ./gradlew :system-tests:cosmos-store-benchmark:jmh -Pjmh.args=\"TransferProcess -p tableSize=100000\""
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    val extraArgs = (project.findProperty("jmh.args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+    args = listOf("-rf", "json", "-rff", results.absolutePath) + extraArgs
+    doFirst {
+        results.parentFile.mkdirs()
+    }
+}
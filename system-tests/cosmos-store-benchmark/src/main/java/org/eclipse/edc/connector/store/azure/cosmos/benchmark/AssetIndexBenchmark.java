@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.benchmark;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndex;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.store.azure.cosmos.assetindex.CosmosAssetBulkIngester;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Throughput and latency of the core operations of the asset index.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssetIndexBenchmark {
+
+    private static final PostgresDialectStatements STATEMENTS = new PostgresDialectStatements();
+
+    @Param({ "10000", "100000" })
+    public int tableSize;
+
+    private SqlAssetIndex assetIndex;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        var database = BenchmarkDatabase.get();
+        database.createSchema("asset");
+        database.truncate(STATEMENTS.getAssetTable());
+
+        assetIndex = new SqlAssetIndex(database.dataSourceRegistry(), BenchmarkDatabase.DATASOURCE_NAME, database.transactionContext(),
+                database.objectMapper(), STATEMENTS, database.queryExecutor());
+        new CosmosAssetBulkIngester(database.dataSourceRegistry(), BenchmarkDatabase.DATASOURCE_NAME, database.transactionContext(),
+                database.queryExecutor(), STATEMENTS, database.objectMapper(), ExecutorInstrumentation.noop(), new ConsoleMonitor(), 1000, 4)
+                .ingest(IntStream.range(0, tableSize).mapToObj(i -> asset("asset-" + i)));
+        database.execute("ANALYZE");
+    }
+
+    @Benchmark
+    public Asset create() {
+        var asset = asset(UUID.randomUUID().toString());
+        assetIndex.create(asset);
+        return asset;
+    }
+
+    @Benchmark
+    public Asset findById() {
+        return assetIndex.findById("asset-" + ThreadLocalRandom.current().nextInt(tableSize));
+    }
+
+    @Benchmark
+    public List<Asset> query() {
+        var spec = QuerySpec.Builder.newInstance()
+                .filter(criterion("category", "=", "category-" + ThreadLocalRandom.current().nextInt(10)))
+                .limit(50)
+                .build();
+        try (var result = assetIndex.queryAssets(spec)) {
+            return result.toList();
+        }
+    }
+
+    @Benchmark
+    public long count() {
+        return assetIndex.countAssets(List.of(criterion("category", "=", "category-" + ThreadLocalRandom.current().nextInt(10))));
+    }
+
+    private Asset asset(String id) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property("name", id)
+                .property("category", "category-" + Math.abs(id.hashCode()) % 10)
+                .property("description", "an asset of the store benchmark")
+                .dataAddress(DataAddress.Builder.newInstance().type("HttpData").property("baseUrl", "http://provider/" + id).build())
+                .build();
+    }
+}
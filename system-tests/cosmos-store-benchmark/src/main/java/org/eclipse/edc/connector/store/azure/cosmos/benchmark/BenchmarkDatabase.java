@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.azure.testfixtures.CosmosPostgresFunctions;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.SqlQueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import static org.eclipse.edc.util.configuration.ConfigurationFunctions.propOrEnv;
+
+/**
+ * The database the benchmarks run against: the one in {@code PG_CONNECTION_STRING}, or a local Citus container.
+ * The stores are wired like in the functional tests of the store modules.
+ */
+public final class BenchmarkDatabase {
+
+    public static final String DATASOURCE_NAME = "benchmark";
+
+    private static final String PG_CONNECTION_STRING = "PG_CONNECTION_STRING";
+    private static final String IMAGE_PROPERTY = "edc.benchmark.image";
+    private static final String DEFAULT_IMAGE = "citusdata/citus:12.1";
+
+    private static BenchmarkDatabase instance;
+
+    private final DataSource dataSource;
+    private final DataSourceRegistry dataSourceRegistry = new DefaultDataSourceRegistry();
+    private final TransactionContext transactionContext = new NoopTransactionContext();
+    private final QueryExecutor queryExecutor = new SqlQueryExecutor();
+    private final ObjectMapper objectMapper;
+
+    private BenchmarkDatabase(DataSource dataSource) {
+        this.dataSource = dataSource;
+        dataSourceRegistry.register(DATASOURCE_NAME, dataSource);
+        var typeManager = new JacksonTypeManager();
+        typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+        objectMapper = typeManager.getMapper();
+    }
+
+    public static synchronized BenchmarkDatabase get() {
+        if (instance == null) {
+            if (propOrEnv(PG_CONNECTION_STRING, null) == null) {
+                System.setProperty(PG_CONNECTION_STRING, startContainer());
+            }
+            instance = new BenchmarkDatabase(CosmosPostgresFunctions.createDataSource());
+        }
+        return instance;
+    }
+
+    public DataSourceRegistry dataSourceRegistry() {
+        return dataSourceRegistry;
+    }
+
+    public TransactionContext transactionContext() {
+        return transactionContext;
+    }
+
+    public QueryExecutor queryExecutor() {
+        return queryExecutor;
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Creates the tables of a store with the schema of its module, e.g. {@code transferprocess}.
+     */
+    public void createSchema(String store) {
+        try (var schema = getClass().getClassLoader().getResourceAsStream("schema/" + store + ".sql")) {
+            Objects.requireNonNull(schema, "No schema for store " + store);
+            execute(new String(schema.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void truncate(String... tables) {
+        execute("TRUNCATE TABLE " + String.join(", ", tables) + " CASCADE");
+    }
+
+    public void execute(String sql) {
+        try (var connection = dataSource.getConnection()) {
+            queryExecutor.execute(connection, sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Runs the seeding of {@code count} rows on all cores.
+     */
+    public void seed(int count, IntConsumer insert) {
+        IntStream.range(0, count).parallel().forEach(insert);
+        execute("ANALYZE");
+    }
+
+    private static String startContainer() {
+        var image = DockerImageName.parse(System.getProperty(IMAGE_PROPERTY, DEFAULT_IMAGE)).asCompatibleSubstituteFor("postgres");
+        var container = new PostgreSQLContainer<>(image);
+        container.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(container::stop));
+        var url = container.getJdbcUrl();
+        return "%s%suser=%s&password=%s".formatted(url, url.contains("?") ? "&" : "?", container.getUsername(), container.getPassword());
+    }
+}
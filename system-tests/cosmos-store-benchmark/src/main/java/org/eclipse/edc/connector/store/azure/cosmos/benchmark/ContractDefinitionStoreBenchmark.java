@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.benchmark;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.store.sql.contractdefinition.SqlContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.store.sql.contractdefinition.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Throughput and latency of the core operations of the contract definition store.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContractDefinitionStoreBenchmark {
+
+    private static final PostgresDialectStatements STATEMENTS = new PostgresDialectStatements();
+
+    @Param({ "10000", "100000" })
+    public int tableSize;
+
+    private SqlContractDefinitionStore store;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        var database = BenchmarkDatabase.get();
+        database.createSchema("contractdefinition");
+        database.truncate(STATEMENTS.getContractDefinitionTable());
+
+        store = new SqlContractDefinitionStore(database.dataSourceRegistry(), BenchmarkDatabase.DATASOURCE_NAME, database.transactionContext(),
+                STATEMENTS, database.objectMapper(), database.queryExecutor());
+        database.seed(tableSize, i -> store.save(contractDefinition("definition-" + i)));
+    }
+
+    @Benchmark
+    public ContractDefinition save() {
+        var definition = contractDefinition(UUID.randomUUID().toString());
+        store.save(definition);
+        return definition;
+    }
+
+    @Benchmark
+    public ContractDefinition findById() {
+        return store.findById("definition-" + ThreadLocalRandom.current().nextInt(tableSize));
+    }
+
+    @Benchmark
+    public List<ContractDefinition> query() {
+        var spec = QuerySpec.Builder.newInstance()
+                .filter(criterion("accessPolicyId", "=", "access-policy-" + ThreadLocalRandom.current().nextInt(100)))
+                .limit(50)
+                .build();
+        try (var result = store.findAll(spec)) {
+            return result.toList();
+        }
+    }
+
+    private ContractDefinition contractDefinition(String id) {
+        var index = Math.abs(id.hashCode());
+        return ContractDefinition.Builder.newInstance()
+                .id(id)
+                .accessPolicyId("access-policy-" + index % 100)
+                .contractPolicyId("contract-policy-" + index % 100)
+                .assetsSelector(List.of(criterion("id", "=", "asset-" + index % 1000)))
+                .build();
+    }
+}
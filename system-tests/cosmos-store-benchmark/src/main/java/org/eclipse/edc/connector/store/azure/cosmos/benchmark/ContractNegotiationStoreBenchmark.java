@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.benchmark;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.SqlContractNegotiationStore;
+import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.lease.BaseSqlLeaseStatements;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.INITIAL;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Throughput and latency of the core operations of the contract negotiation store.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContractNegotiationStoreBenchmark {
+
+    private static final BaseSqlLeaseStatements LEASE_STATEMENTS = new BaseSqlLeaseStatements();
+    private static final PostgresDialectStatements STATEMENTS = new PostgresDialectStatements(LEASE_STATEMENTS, Clock.systemUTC());
+    private static final int[] SEED_STATES = { INITIAL.code(), REQUESTED.code(), FINALIZED.code(), FINALIZED.code() };
+
+    @Param({ "10000", "100000" })
+    public int tableSize;
+
+    private BenchmarkDatabase database;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        database = BenchmarkDatabase.get();
+        database.createSchema("contractnegotiation");
+        database.truncate(STATEMENTS.getContractNegotiationTable(), STATEMENTS.getContractAgreementTable(), LEASE_STATEMENTS.getLeaseTableName());
+
+        var store = createStore("seeder");
+        database.seed(tableSize, i -> store.save(negotiation("cn-" + i, SEED_STATES[i % SEED_STATES.length])));
+    }
+
+    @Benchmark
+    public ContractNegotiation save(Replica replica) {
+        var negotiation = negotiation(UUID.randomUUID().toString(), REQUESTED.code());
+        replica.store.save(negotiation);
+        return negotiation;
+    }
+
+    @Benchmark
+    public ContractNegotiation findById(Replica replica) {
+        return replica.store.findById("cn-" + ThreadLocalRandom.current().nextInt(tableSize));
+    }
+
+    @Benchmark
+    public List<ContractNegotiation> query(Replica replica) {
+        var spec = QuerySpec.Builder.newInstance()
+                .filter(criterion("state", "=", REQUESTED.code()))
+                .filter(criterion("counterPartyId", "=", "participant-" + ThreadLocalRandom.current().nextInt(100)))
+                .limit(50)
+                .build();
+        try (var result = replica.store.queryNegotiations(spec)) {
+            return result.toList();
+        }
+    }
+
+    /**
+     * One iteration of the state machine of a replica: lease a batch of negotiations and save them, which breaks the lease.
+     */
+    @Benchmark
+    @Threads(4)
+    public int nextNotLeased(Replica replica) {
+        var leased = replica.store.nextNotLeased(10, criterion("state", "=", INITIAL.code()));
+        leased.forEach(replica.store::save);
+        return leased.size();
+    }
+
+    private SqlContractNegotiationStore createStore(String leaseHolder) {
+        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(database.transactionContext(), leaseHolder, STATEMENTS.getContractNegotiationTable(),
+                LEASE_STATEMENTS, Clock.systemUTC(), database.queryExecutor());
+        return new SqlContractNegotiationStore(database.dataSourceRegistry(), BenchmarkDatabase.DATASOURCE_NAME, database.transactionContext(),
+                database.objectMapper(), STATEMENTS, leaseContextBuilder, database.queryExecutor());
+    }
+
+    private ContractNegotiation negotiation(String id, int state) {
+        return ContractNegotiation.Builder.newInstance()
+                .id(id)
+                .state(state)
+                .type(ContractNegotiation.Type.PROVIDER)
+                .correlationId(UUID.randomUUID().toString())
+                .counterPartyId("participant-" + Math.abs(id.hashCode()) % 100)
+                .counterPartyAddress("http://counter-party/protocol")
+                .protocol("dataspace-protocol-http")
+                .build();
+    }
+
+    /**
+     * A connector replica, with its own store instance and lease holder name.
+     */
+    @State(Scope.Thread)
+    public static class Replica {
+
+        private SqlContractNegotiationStore store;
+
+        @Setup(Level.Trial)
+        public void setUp(ContractNegotiationStoreBenchmark benchmark, ThreadParams threadParams) {
+            store = benchmark.createStore("replica-" + threadParams.getThreadIndex());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.benchmark;
+
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.controlplane.store.sql.policydefinition.store.SqlPolicyDefinitionStore;
+import org.eclipse.edc.connector.controlplane.store.sql.policydefinition.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency of the core operations of the policy definition store.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyDefinitionStoreBenchmark {
+
+    private static final PostgresDialectStatements STATEMENTS = new PostgresDialectStatements();
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "10000", "100000" })
+    public int tableSize;
+
+    private SqlPolicyDefinitionStore store;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        var database = BenchmarkDatabase.get();
+        database.createSchema("policydefinition");
+        database.truncate(STATEMENTS.getPolicyTable());
+
+        store = new SqlPolicyDefinitionStore(database.dataSourceRegistry(), BenchmarkDatabase.DATASOURCE_NAME, database.transactionContext(),
+                database.objectMapper(), STATEMENTS, database.queryExecutor());
+        database.seed(tableSize, i -> store.create(policyDefinition("policy-" + i)));
+    }
+
+    @Benchmark
+    public PolicyDefinition create() {
+        var definition = policyDefinition(UUID.randomUUID().toString());
+        store.create(definition);
+        return definition;
+    }
+
+    @Benchmark
+    public PolicyDefinition findById() {
+        return store.findById("policy-" + ThreadLocalRandom.current().nextInt(tableSize));
+    }
+
+    /**
+     * A page of a management API listing, at a random position.
+     */
+    @Benchmark
+    public List<PolicyDefinition> query() {
+        var spec = QuerySpec.Builder.newInstance()
+                .offset(ThreadLocalRandom.current().nextInt(tableSize - PAGE_SIZE))
+                .limit(PAGE_SIZE)
+                .sortField("createdAt")
+                .build();
+        try (var result = store.findAll(spec)) {
+            return result.toList();
+        }
+    }
+
+    private PolicyDefinition policyDefinition(String id) {
+        return PolicyDefinition.Builder.newInstance()
+                .id(id)
+                .policy(Policy.Builder.newInstance().assigner("provider").target("asset-" + Math.abs(id.hashCode()) % 1000).build())
+                .build();
+    }
+}
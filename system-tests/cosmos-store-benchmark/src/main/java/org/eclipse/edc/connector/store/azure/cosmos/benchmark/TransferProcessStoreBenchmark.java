@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.store.azure.cosmos.benchmark;
+
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.SqlTransferProcessStore;
+import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.sql.lease.BaseSqlLeaseStatements;
+import org.eclipse.edc.sql.lease.SqlLeaseContextBuilderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.INITIAL;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Throughput and latency of the core operations of the transfer process store.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransferProcessStoreBenchmark {
+
+    private static final BaseSqlLeaseStatements LEASE_STATEMENTS = new BaseSqlLeaseStatements();
+    private static final PostgresDialectStatements STATEMENTS = new PostgresDialectStatements(LEASE_STATEMENTS, Clock.systemUTC());
+    private static final int[] SEED_STATES = { INITIAL.code(), STARTED.code(), COMPLETED.code(), COMPLETED.code() };
+
+    @Param({ "10000", "100000" })
+    public int tableSize;
+
+    private BenchmarkDatabase database;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        database = BenchmarkDatabase.get();
+        database.createSchema("transferprocess");
+        database.truncate(STATEMENTS.getTransferProcessTableName(), LEASE_STATEMENTS.getLeaseTableName());
+
+        var store = createStore("seeder");
+        database.seed(tableSize, i -> store.save(transferProcess("tp-" + i, SEED_STATES[i % SEED_STATES.length])));
+    }
+
+    @Benchmark
+    public TransferProcess save(Replica replica) {
+        var transferProcess = transferProcess(UUID.randomUUID().toString(), STARTED.code());
+        replica.store.save(transferProcess);
+        return transferProcess;
+    }
+
+    @Benchmark
+    public TransferProcess findById(Replica replica) {
+        return replica.store.findById("tp-" + ThreadLocalRandom.current().nextInt(tableSize));
+    }
+
+    @Benchmark
+    public List<TransferProcess> query(Replica replica) {
+        var spec = QuerySpec.Builder.newInstance()
+                .filter(criterion("state", "=", STARTED.code()))
+                .filter(criterion("assetId", "=", "asset-" + ThreadLocalRandom.current().nextInt(100)))
+                .limit(50)
+                .build();
+        try (var result = replica.store.findAll(spec)) {
+            return result.toList();
+        }
+    }
+
+    /**
+     * One iteration of the state machine of a replica: lease a batch of processes and save them, which breaks the lease.
+     */
+    @Benchmark
+    @Threads(4)
+    public int nextNotLeased(Replica replica) {
+        var leased = replica.store.nextNotLeased(10, criterion("state", "=", INITIAL.code()));
+        leased.forEach(replica.store::save);
+        return leased.size();
+    }
+
+    private SqlTransferProcessStore createStore(String leaseHolder) {
+        var leaseContextBuilder = SqlLeaseContextBuilderImpl.with(database.transactionContext(), leaseHolder, STATEMENTS.getTransferProcessTableName(),
+                LEASE_STATEMENTS, Clock.systemUTC(), database.queryExecutor());
+        return new SqlTransferProcessStore(database.dataSourceRegistry(), BenchmarkDatabase.DATASOURCE_NAME, database.transactionContext(),
+                database.objectMapper(), STATEMENTS, leaseContextBuilder, database.queryExecutor());
+    }
+
+    private TransferProcess transferProcess(String id, int state) {
+        var index = Math.abs(id.hashCode());
+        return TransferProcess.Builder.newInstance()
+                .id(id)
+                .state(state)
+                .type(TransferProcess.Type.PROVIDER)
+                .correlationId(UUID.randomUUID().toString())
+                .counterPartyAddress("http://counter-party/protocol")
+                .protocol("dataspace-protocol-http")
+                .assetId("asset-" + index % 100)
+                .contractId("contract-" + index % 1000)
+                .transferType("HttpData-PULL")
+                .dataDestination(DataAddress.Builder.newInstance().type("HttpData").property("baseUrl", "http://consumer/" + id).build())
+                .build();
+    }
+
+    /**
+     * A connector replica, with its own store instance and lease holder name.
+     */
+    @State(Scope.Thread)
+    public static class Replica {
+
+        private SqlTransferProcessStore store;
+
+        @Setup(Level.Trial)
+        public void setUp(TransferProcessStoreBenchmark benchmark, ThreadParams threadParams) {
+            store = benchmark.createStore("replica-" + threadParams.getThreadIndex());
+        }
+    }
+}